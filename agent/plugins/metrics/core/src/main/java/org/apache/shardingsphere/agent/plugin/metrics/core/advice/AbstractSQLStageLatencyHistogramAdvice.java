@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.util.SQLStatementUtils;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Abstract SQL stage latency histogram advice.
+ * 
+ * <p>Each stage has its own histogram with only the labels which can be resolved in the stage.</p>
+ */
+public abstract class AbstractSQLStageLatencyHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final MetricConfiguration config = new MetricConfiguration(String.format("sql_%s_latency_millis", getStage()),
+            MetricCollectorType.HISTOGRAM, String.format("SQL %s latency millis histogram", getStage()), getLabels(), Collections.singletonMap("buckets", getBuckets()));
+    
+    private final ThreadLocal<Deque<Long>> startNanoTimes = ThreadLocal.withInitial(ArrayDeque::new);
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 0.01D);
+        result.put("factor", 2);
+        result.put("count", 18);
+        return result;
+    }
+    
+    @Override
+    public final void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final String pluginType) {
+        startNanoTimes.get().push(System.nanoTime());
+    }
+    
+    @Override
+    public final void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
+        Long startNanoTime = startNanoTimes.get().poll();
+        if (null == startNanoTime) {
+            return;
+        }
+        double elapsedMillis = (System.nanoTime() - startNanoTime) / 1000000D;
+        Optional<List<String>> labelValues = getLabelValues(args, result);
+        if (labelValues.isPresent()) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).observe(elapsedMillis, labelValues.get().toArray(new String[0]));
+        }
+    }
+    
+    protected final String getSQLType(final SQLStatement sqlStatement) {
+        return SQLStatementUtils.getType(sqlStatement).name();
+    }
+    
+    protected abstract String getStage();
+    
+    protected abstract List<String> getLabels();
+    
+    protected abstract Optional<List<String>> getLabelValues(Object[] args, Object result);
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL execute latency histogram advice.
+ */
+public final class SQLExecuteLatencyHistogramAdvice extends AbstractSQLStageLatencyHistogramAdvice {
+    
+    @Override
+    protected String getStage() {
+        return "execute";
+    }
+    
+    @Override
+    protected List<String> getLabels() {
+        return Collections.singletonList("database");
+    }
+    
+    @Override
+    protected Optional<List<String>> getLabelValues(final Object[] args, final Object result) {
+        return Optional.ofNullable(((ExecutionGroupContext<?>) args[0]).getReportContext().getDatabaseName()).map(Collections::singletonList);
+    }
+}
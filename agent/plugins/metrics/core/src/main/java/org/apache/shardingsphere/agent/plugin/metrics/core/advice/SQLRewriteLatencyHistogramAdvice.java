@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL rewrite latency histogram advice.
+ */
+public final class SQLRewriteLatencyHistogramAdvice extends AbstractSQLStageLatencyHistogramAdvice {
+    
+    @Override
+    protected String getStage() {
+        return "rewrite";
+    }
+    
+    @Override
+    protected List<String> getLabels() {
+        return Arrays.asList("database", "type");
+    }
+    
+    @Override
+    protected Optional<List<String>> getLabelValues(final Object[] args, final Object result) {
+        Optional<String> databaseName = null == args[2] ? Optional.empty() : ((ConnectionContext) args[2]).getDatabaseName();
+        return databaseName.map(optional -> Arrays.asList(optional, getSQLType(((QueryContext) args[0]).getSqlStatementContext().getSqlStatement())));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLDigestStatistics;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLDigestStatisticsRegistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Proxy SQL digest statistics exporter.
+ */
+public final class ProxySQLDigestStatisticsExporter implements MetricsExporter {
+    
+    private static final int MAX_EXPORTED_DIGEST_COUNT = 100;
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sql_digest_statistics",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "SQL digest statistics of ShardingSphere-Proxy in current window, top " + MAX_EXPORTED_DIGEST_COUNT + " digests by total latency are exported",
+            Arrays.asList("digest", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        SQLDigestStatisticsRegistry registry = SQLDigestStatisticsRegistry.getInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+        if (!registry.isEnabled()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        List<SQLDigestStatistics> statistics = registry.getAllStatistics().stream()
+                .sorted(Comparator.comparingLong(SQLDigestStatistics::getTotalLatencyNanos).reversed()).limit(MAX_EXPORTED_DIGEST_COUNT).collect(Collectors.toList());
+        for (SQLDigestStatistics each : statistics) {
+            result.addMetric(Arrays.asList(each.getDigest(), "execute_count"), each.getExecuteCount());
+            result.addMetric(Arrays.asList(each.getDigest(), "total_latency_millis"), toMillis(each.getTotalLatencyNanos()));
+            result.addMetric(Arrays.asList(each.getDigest(), "max_latency_millis"), toMillis(each.getMaxLatencyNanos()));
+            result.addMetric(Arrays.asList(each.getDigest(), "p99_latency_millis"), toMillis(each.getLatencyPercentileNanos(0.99D)));
+            result.addMetric(Arrays.asList(each.getDigest(), "total_rows"), each.getTotalRows());
+            result.addMetric(Arrays.asList(each.getDigest(), "total_route_units"), each.getTotalRouteUnits());
+            result.addMetric(Arrays.asList(each.getDigest(), "federation_count"), each.getFederationCount());
+        }
+        return Optional.of(result);
+    }
+    
+    private double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.binder.context.statement.UnknownSQLStatementContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLStageLatencyHistogramAdviceTest {
+    
+    private static final String[] STAGES = {"parse", "bind", "route", "rewrite", "execute", "merge"};
+    
+    @AfterEach
+    void reset() {
+        for (String each : STAGES) {
+            ((MetricsCollectorFixture) MetricsCollectorRegistry.get(createConfiguration(each), "FIXTURE")).reset();
+        }
+    }
+    
+    private static MetricConfiguration createConfiguration(final String stage) {
+        return new MetricConfiguration(String.format("sql_%s_latency_millis", stage), MetricCollectorType.HISTOGRAM, null, Collections.emptyList(), Collections.emptyMap());
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertStageLatency(final String stage, final AbstractSQLStageLatencyHistogramAdvice advice, final Object[] args, final Object result, final String expectedLabels) {
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        Method method = mock(Method.class);
+        advice.beforeMethod(targetObject, method, args, "FIXTURE");
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.afterMethod(targetObject, method, args, result, "FIXTURE");
+        String actual = MetricsCollectorRegistry.get(createConfiguration(stage), "FIXTURE").toString();
+        assertThat(actual, startsWith(expectedLabels + "="));
+        assertThat(Double.parseDouble(actual.substring(expectedLabels.length() + 1)), greaterThanOrEqualTo(50D));
+    }
+    
+    @Test
+    void assertSkipUnresolvableLabels() {
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        Method method = mock(Method.class);
+        Object[] args = {new QueryContext(new UnknownSQLStatementContext(new MySQLDeleteStatement()), "", Collections.emptyList()), null, new ConnectionContext()};
+        SQLRewriteLatencyHistogramAdvice advice = new SQLRewriteLatencyHistogramAdvice();
+        advice.beforeMethod(targetObject, method, args, "FIXTURE");
+        advice.afterMethod(targetObject, method, args, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(createConfiguration("rewrite"), "FIXTURE").toString(), is("0"));
+    }
+    
+    private static class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            ConnectionContext connectionContext = new ConnectionContext();
+            connectionContext.setCurrentDatabase("foo_db");
+            ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+            when(database.getName()).thenReturn("foo_db");
+            return Stream.of(
+                    Arguments.of("parse", new SQLParseLatencyHistogramAdvice(), new Object[]{"SELECT 1", false}, new MySQLSelectStatement(), "SELECT"),
+                    Arguments.of("bind", new SQLBindLatencyHistogramAdvice(), new Object[]{new MySQLInsertStatement(), Collections.emptyList()}, null, "INSERT"),
+                    Arguments.of("route", new SQLRouteLatencyHistogramAdvice(),
+                            new Object[]{new ConnectionContext(), new QueryContext(new UnknownSQLStatementContext(new MySQLUpdateStatement()), "", Collections.emptyList()), null, database},
+                            null, "foo_db.UPDATE"),
+                    Arguments.of("rewrite", new SQLRewriteLatencyHistogramAdvice(),
+                            new Object[]{new QueryContext(new UnknownSQLStatementContext(new MySQLDeleteStatement()), "", Collections.emptyList()), null, connectionContext}, null, "foo_db.DELETE"),
+                    Arguments.of("execute", new SQLExecuteLatencyHistogramAdvice(),
+                            new Object[]{new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("foo_process", "foo_db", null)), null, null, false}, null, "foo_db"),
+                    Arguments.of("merge", new SQLMergeLatencyHistogramAdvice(), new Object[]{Collections.emptyList(), new UnknownSQLStatementContext(new MySQLSelectStatement())}, null, "SELECT"));
+        }
+    }
+}
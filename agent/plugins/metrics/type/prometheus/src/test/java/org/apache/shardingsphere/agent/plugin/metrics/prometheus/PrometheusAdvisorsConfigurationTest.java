@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.prometheus;
+
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrometheusAdvisorsConfigurationTest {
+    
+    private static final String ADVICE_PACKAGE = "org.apache.shardingsphere.agent.plugin.metrics.core.advice.";
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"SQLParseLatencyHistogramAdvice", "SQLBindLatencyHistogramAdvice", "SQLRouteLatencyHistogramAdvice",
+            "SQLRewriteLatencyHistogramAdvice", "SQLExecuteLatencyHistogramAdvice", "SQLMergeLatencyHistogramAdvice"})
+    void assertStageLatencyPointcutMatchesOneMethod(final String adviceName) throws IOException, ClassNotFoundException {
+        Map<String, Object> advisor = findAdvisor(ADVICE_PACKAGE + adviceName);
+        assertThat(getMatchedMethods(Class.forName((String) advisor.get("target")), getPointcuts(advisor)).size(), is(1));
+    }
+    
+    @Test
+    void assertBindLatencyPointcutMatchesPublicBindOnly() throws IOException {
+        Collection<Method> actual = getMatchedMethods(SQLBindEngine.class, getPointcuts(findAdvisor(ADVICE_PACKAGE + "SQLBindLatencyHistogramAdvice")));
+        assertThat(actual.size(), is(1));
+        Method method = actual.iterator().next();
+        assertTrue(Modifier.isPublic(method.getModifiers()));
+        assertThat(Arrays.asList(method.getParameterTypes()), is(Arrays.<Class<?>>asList(SQLStatement.class, List.class)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> findAdvisor(final String advice) throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("META-INF/conf/prometheus-advisors.yaml")) {
+            Map<String, Object> config = new Yaml().load(inputStream);
+            return ((List<Map<String, Object>>) config.get("advisors")).stream().filter(each -> advice.equals(each.get("advice"))).findFirst().orElseThrow(IllegalStateException::new);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> getPointcuts(final Map<String, Object> advisor) {
+        return (List<Map<String, Object>>) advisor.get("pointcuts");
+    }
+    
+    private Collection<Method> getMatchedMethods(final Class<?> targetClass, final List<Map<String, Object>> pointcuts) {
+        return Arrays.stream(targetClass.getDeclaredMethods()).filter(method -> pointcuts.stream().anyMatch(each -> isMatched(method, each))).collect(Collectors.toList());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private boolean isMatched(final Method method, final Map<String, Object> pointcut) {
+        if (!method.getName().equals(pointcut.get("name"))) {
+            return false;
+        }
+        for (Map<String, Object> each : (List<Map<String, Object>>) pointcut.getOrDefault("params", Collections.emptyList())) {
+            int index = (int) each.get("index");
+            if (index >= method.getParameterCount() || !method.getParameterTypes()[index].getName().equals(each.get("type"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -38,4 +38,13 @@ class PrometheusMetricsHistogramCollectorTest {
         Histogram histogram = (Histogram) Plugins.getMemberAccessor().get(PrometheusMetricsHistogramCollector.class.getDeclaredField("histogram"), collector);
         assertThat(histogram.collect().size(), is(1));
     }
+    
+    @Test
+    void assertCreateWithLabels() throws ReflectiveOperationException {
+        PrometheusMetricsHistogramCollector collector = new PrometheusMetricsHistogramCollector(new MetricConfiguration("foo_labeled_histogram",
+                MetricCollectorType.HISTOGRAM, "foo_help", Collections.singletonList("type"), Collections.emptyMap()));
+        collector.observe(1, "bar");
+        Histogram histogram = (Histogram) Plugins.getMemberAccessor().get(PrometheusMetricsHistogramCollector.class.getDeclaredField("histogram"), collector);
+        assertThat(histogram.labels("bar").get().sum, is(1D));
+    }
 }
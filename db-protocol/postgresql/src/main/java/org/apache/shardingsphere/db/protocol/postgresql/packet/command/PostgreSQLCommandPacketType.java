@@ -53,6 +53,12 @@ public enum PostgreSQLCommandPacketType implements CommandPacketType, PostgreSQL
     
     FLUSH_COMMAND('H'),
     
+    COPY_DATA('d'),
+    
+    COPY_COMPLETE('c'),
+    
+    COPY_FAILURE('f'),
+    
     TERMINATE('X');
     
     private static final Set<PostgreSQLCommandPacketType> EXTENDED_PROTOCOL_PACKET_TYPES = EnumSet.of(PostgreSQLCommandPacketType.PARSE_COMMAND,
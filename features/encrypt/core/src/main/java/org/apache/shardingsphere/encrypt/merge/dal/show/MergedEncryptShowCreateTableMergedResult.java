@@ -49,4 +49,9 @@ public final class MergedEncryptShowCreateTableMergedResult extends EncryptShowC
     public boolean wasNull() throws SQLException {
         return queryResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        queryResult.close();
+    }
 }
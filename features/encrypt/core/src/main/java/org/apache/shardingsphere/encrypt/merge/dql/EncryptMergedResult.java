@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
@@ -46,6 +48,11 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    @SuppressWarnings("unchecked")
+    private Optional<DecryptColumn>[] decryptColumns = new Optional[0];
+    
+    private String schemaName;
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -53,20 +60,43 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<DecryptColumn> decryptColumn = getDecryptColumn(columnIndex);
+        if (!decryptColumn.isPresent()) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
+        return decryptColumn.get().getEncryptColumn().getCipher().decrypt(database.getName(), getSchemaName(), decryptColumn.get().getTableName(), decryptColumn.get().getColumnName(), cipherValue);
+    }
+    
+    private Optional<DecryptColumn> getDecryptColumn(final int columnIndex) {
+        if (columnIndex > decryptColumns.length) {
+            decryptColumns = Arrays.copyOf(decryptColumns, columnIndex);
+        }
+        if (null == decryptColumns[columnIndex - 1]) {
+            decryptColumns[columnIndex - 1] = findDecryptColumn(columnIndex);
+        }
+        return decryptColumns[columnIndex - 1];
+    }
+    
+    private Optional<DecryptColumn> findDecryptColumn(final int columnIndex) {
         Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
         if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnProjection.get().getOriginalTable().getValue();
         String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
         if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        return Optional.of(new DecryptColumn(originalTableName, originalColumnName, encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName)));
+    }
+    
+    private String getSchemaName() {
+        if (null == schemaName) {
+            schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                    .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+        }
+        return schemaName;
     }
     
     @Override
@@ -88,4 +118,20 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class DecryptColumn {
+        
+        private final String tableName;
+        
+        private final String columnName;
+        
+        private final EncryptColumn encryptColumn;
+    }
 }
@@ -35,7 +35,9 @@ import java.util.Date;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +60,19 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutEncryptColumnInSeveralRows() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, String.class)).thenReturn("foo_value", "bar_value");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("foo_value"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("bar_value"));
+        assertFalse(actual.next());
+        verify(selectStatementContext).findColumnProjection(1);
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
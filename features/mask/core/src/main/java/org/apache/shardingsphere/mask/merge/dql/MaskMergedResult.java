@@ -24,6 +24,7 @@ import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
@@ -37,6 +38,9 @@ public final class MaskMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Optional<MaskAlgorithm>[] maskAlgorithms = new Optional[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -45,7 +49,7 @@ public final class MaskMergedResult implements MergedResult {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<MaskAlgorithm> maskAlgorithm = metaData.findMaskAlgorithmByColumnIndex(columnIndex);
+        Optional<MaskAlgorithm> maskAlgorithm = getMaskAlgorithm(columnIndex);
         if (!maskAlgorithm.isPresent()) {
             return mergedResult.getValue(columnIndex, type);
         }
@@ -53,6 +57,17 @@ public final class MaskMergedResult implements MergedResult {
         return null == originalValue ? null : maskAlgorithm.get().mask(originalValue);
     }
     
+    @SuppressWarnings("rawtypes")
+    private Optional<MaskAlgorithm> getMaskAlgorithm(final int columnIndex) {
+        if (columnIndex > maskAlgorithms.length) {
+            maskAlgorithms = Arrays.copyOf(maskAlgorithms, columnIndex);
+        }
+        if (null == maskAlgorithms[columnIndex - 1]) {
+            maskAlgorithms[columnIndex - 1] = metaData.findMaskAlgorithmByColumnIndex(columnIndex);
+        }
+        return maskAlgorithms[columnIndex - 1];
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
@@ -72,4 +87,9 @@ public final class MaskMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
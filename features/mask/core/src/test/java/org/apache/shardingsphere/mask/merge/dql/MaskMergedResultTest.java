@@ -35,6 +35,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,6 +61,18 @@ class MaskMergedResultTest {
         assertThat(new MaskMergedResult(metaData, mergedResult).getValue(1, String.class), is("MASK_VALUE"));
     }
     
+    @Test
+    void assertGetValueWithSameColumnTwice() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE");
+        MaskAlgorithm<String, String> maskAlgorithm = mock(MaskAlgorithm.class);
+        when(maskAlgorithm.mask("VALUE")).thenReturn("MASK_VALUE");
+        when(metaData.findMaskAlgorithmByColumnIndex(1)).thenReturn(Optional.of(maskAlgorithm));
+        MaskMergedResult actual = new MaskMergedResult(metaData, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("MASK_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("MASK_VALUE"));
+        verify(metaData).findMaskAlgorithmByColumnIndex(1);
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.sharding.api.sharding.standard;
 
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Standard sharding algorithm.
@@ -45,4 +47,20 @@ public interface StandardShardingAlgorithm<T extends Comparable<?>> extends Shar
      * @return sharding results for data sources or table names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, RangeShardingValue<T> shardingValue);
+    
+    /**
+     * Sharding for batch of precise values.
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param shardingValue batch of precise sharding values
+     * @return sharding results for data sources or table names, in the same order as sharding values
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<T> shardingValue) {
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Object each : shardingValue.getValues()) {
+            result.add(doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getDataNodeInfo(), each)));
+        }
+        return result;
+    }
 }
@@ -22,6 +22,7 @@ import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -41,13 +42,20 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * Interval sharding algorithm.
@@ -137,154 +145,145 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue())).stream().findFirst().orElse(null);
+        return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue()), new HashMap<>(1, 1F)).stream().findFirst().orElse(null);
+    }
+    
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes = new HashMap<>(1, 1F);
+        Map<Comparable<?>, String> targetNames = new HashMap<>(shardingValue.getValues().size(), 1F);
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result.add(targetNames.computeIfAbsent(each, key -> doSharding(availableTargetNames, Range.singleton(key), tableSuffixIndexes).stream().findFirst().orElse(null)));
+        }
+        return result;
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return doSharding(availableTargetNames, shardingValue.getValueRange());
+        return doSharding(availableTargetNames, shardingValue.getValueRange(), new HashMap<>(1, 1F));
     }
     
-    private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+    private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
         TemporalAccessor calculateTime = dateTimeLower;
         if (!calculateTime.isSupported(ChronoField.NANO_OF_DAY)) {
             if (calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                return doShardingInLocalDate(availableTargetNames, range, calculateTime);
+                return doShardingInLocalDate(availableTargetNames, range, calculateTime, tableSuffixIndexes);
             }
             if (calculateTime.isSupported(ChronoField.YEAR) && calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInYearMonth(availableTargetNames, range, calculateTime);
+                return doShardingInYearMonth(availableTargetNames, range, calculateTime, tableSuffixIndexes);
             }
             if (calculateTime.isSupported(ChronoField.YEAR)) {
-                return doShardingInYear(availableTargetNames, range, calculateTime);
+                return doShardingInYear(availableTargetNames, range, calculateTime, tableSuffixIndexes);
             }
             if (calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInMonth(availableTargetNames, range, calculateTime);
+                return doShardingInMonth(availableTargetNames, range, calculateTime, tableSuffixIndexes);
             }
         }
         if (!calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            return doShardingInLocalTime(availableTargetNames, range, calculateTime);
+            return doShardingInLocalTime(availableTargetNames, range, calculateTime, tableSuffixIndexes);
         }
-        return doShardingInLocalDateTime(availableTargetNames, range, calculateTime);
+        return doShardingInLocalDateTime(availableTargetNames, range, calculateTime, tableSuffixIndexes);
     }
     
-    private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
-        LocalDateTime dateTimeUpperAsLocalDateTime = LocalDateTime.from(dateTimeUpper);
-        LocalDateTime dateTimeLowerAsLocalDateTime = LocalDateTime.from(dateTimeLower);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDateTime, dateTimeUpperAsLocalDateTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
+    private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime,
+                                                         final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
+        return doSharding(availableTargetNames, range, LocalDateTime.from(calculateTime), LocalDateTime.from(dateTimeUpper), this::parseLocalDateTime, tableSuffixIndexes);
     }
     
-    private Collection<String> doShardingInLocalTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalTime dateTimeUpperAsLocalTime = dateTimeUpper.query(TemporalQueries.localTime());
-        LocalTime dateTimeLowerAsLocalTime = dateTimeLower.query(TemporalQueries.localTime());
-        LocalTime calculateTimeAsView = calculateTime.query(TemporalQueries.localTime());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalTime, dateTimeUpperAsLocalTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
+    private Collection<String> doShardingInLocalTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime,
+                                                     final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
+        return doSharding(availableTargetNames, range, calculateTime.query(TemporalQueries.localTime()), dateTimeUpper.query(TemporalQueries.localTime()), this::parseLocalTime, tableSuffixIndexes);
     }
     
-    private Collection<String> doShardingInLocalDate(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDate dateTimeUpperAsLocalDate = dateTimeUpper.query(TemporalQueries.localDate());
-        LocalDate dateTimeLowerAsLocalDate = dateTimeLower.query(TemporalQueries.localDate());
-        LocalDate calculateTimeAsView = calculateTime.query(TemporalQueries.localDate());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDate, dateTimeUpperAsLocalDate)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
+    private Collection<String> doShardingInLocalDate(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime,
+                                                     final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
+        return doSharding(availableTargetNames, range, calculateTime.query(TemporalQueries.localDate()), dateTimeUpper.query(TemporalQueries.localDate()), this::parseLocalDate, tableSuffixIndexes);
     }
     
-    private Collection<String> doShardingInYear(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Year dateTimeUpperAsYear = dateTimeUpper.query(Year::from);
-        Year dateTimeLowerAsYear = dateTimeLower.query(Year::from);
-        Year calculateTimeAsView = calculateTime.query(Year::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYear)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYear, dateTimeUpperAsYear)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
+    private Collection<String> doShardingInYear(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime,
+                                                final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
+        return doSharding(availableTargetNames, range, calculateTime.query(Year::from), dateTimeUpper.query(Year::from), this::parseYear, tableSuffixIndexes);
     }
     
-    private Collection<String> doShardingInMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
+    private Collection<String> doShardingInMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime,
+                                                 final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
         Set<String> result = new HashSet<>();
         Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
         Month dateTimeLowerAsMonth = dateTimeLower.query(Month::from);
         Month calculateTimeAsView = calculateTime.query(Month::from);
         while (calculateTimeAsView.getValue() <= dateTimeUpperAsMonth.getValue() && (calculateTimeAsView.getValue() + stepAmount) <= Month.DECEMBER.getValue()) {
             if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount)), range, dateTimeLowerAsMonth, dateTimeUpperAsMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+                result.addAll(getMatchedTables(getTableSuffix(calculateTimeAsView), availableTargetNames, tableSuffixIndexes));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount);
         }
         return result;
     }
     
-    private Collection<String> doShardingInYearMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
+    private Collection<String> doShardingInYearMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime,
+                                                     final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
+        return doSharding(availableTargetNames, range, calculateTime.query(YearMonth::from), dateTimeUpper.query(YearMonth::from), this::parseYearMonth, tableSuffixIndexes);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T extends Temporal & Comparable<? super T>> Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range,
+                                                                                      final T dateTimeLower, final T dateTimeUpper, final Function<Comparable<?>, T> parser,
+                                                                                      final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
+        T lower = range.hasLowerBound() ? parser.apply(range.lowerEndpoint()) : dateTimeLower;
+        T upper = range.hasUpperBound() ? parser.apply(range.upperEndpoint()) : dateTimeUpper;
+        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
+        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
+        Range<T> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
         Set<String> result = new HashSet<>();
-        YearMonth dateTimeUpperAsYearMonth = dateTimeUpper.query(YearMonth::from);
-        YearMonth dateTimeLowerAsYearMonth = dateTimeLower.query(YearMonth::from);
-        YearMonth calculateTimeAsView = calculateTime.query(YearMonth::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYearMonth, dateTimeUpperAsYearMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+        T calculateTimeAsView = getFirstCalculateTime(dateTimeLower, lower);
+        while (!isAfter(calculateTimeAsView, dateTimeUpper) && !isAfter(calculateTimeAsView, upper)) {
+            T nextCalculateTime = (T) calculateTimeAsView.plus(stepAmount, stepUnit);
+            Range<T> calculateRange = Range.closedOpen(calculateTimeAsView, nextCalculateTime);
+            if (calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty()) {
+                result.addAll(getMatchedTables(getTableSuffix(calculateTimeAsView), availableTargetNames, tableSuffixIndexes));
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
+            calculateTimeAsView = nextCalculateTime;
         }
         return result;
     }
     
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range, final LocalDateTime dateTimeLower, final LocalDateTime dateTimeUpper) {
-        LocalDateTime lower = range.hasLowerBound() ? parseLocalDateTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalDateTime upper = range.hasUpperBound() ? parseLocalDateTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    @SuppressWarnings("unchecked")
+    private <T extends Temporal & Comparable<? super T>> T getFirstCalculateTime(final T dateTimeLower, final T lower) {
+        if (!isAfter(lower, dateTimeLower) || !isArithmeticStep(dateTimeLower)) {
+            return dateTimeLower;
+        }
+        long skippedSteps = dateTimeLower.until(lower, stepUnit) / stepAmount;
+        return 0 == skippedSteps ? dateTimeLower : (T) dateTimeLower.plus(skippedSteps * stepAmount, stepUnit);
     }
     
-    private boolean hasIntersection(final Range<LocalDate> calculateRange, final Range<Comparable<?>> range, final LocalDate dateTimeLower, final LocalDate dateTimeUpper) {
-        LocalDate lower = range.hasLowerBound() ? parseLocalDate(range.lowerEndpoint()) : dateTimeLower;
-        LocalDate upper = range.hasUpperBound() ? parseLocalDate(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDate> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private boolean isArithmeticStep(final Temporal dateTimeLower) {
+        if (stepAmount <= 0) {
+            return false;
+        }
+        if (stepUnit.isTimeBased() || ChronoUnit.DAYS == stepUnit || ChronoUnit.WEEKS == stepUnit) {
+            return true;
+        }
+        return !dateTimeLower.isSupported(ChronoField.DAY_OF_MONTH) || dateTimeLower.get(ChronoField.DAY_OF_MONTH) <= 28;
     }
     
-    private boolean hasIntersection(final Range<LocalTime> calculateRange, final Range<Comparable<?>> range, final LocalTime dateTimeLower, final LocalTime dateTimeUpper) {
-        LocalTime lower = range.hasLowerBound() ? parseLocalTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalTime upper = range.hasUpperBound() ? parseLocalTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private <T extends Comparable<? super T>> boolean isAfter(final T dateTime, final T other) {
+        return dateTime.compareTo(other) > 0;
     }
     
-    private boolean hasIntersection(final Range<Year> calculateRange, final Range<Comparable<?>> range, final Year dateTimeLower, final Year dateTimeUpper) {
-        Year lower = range.hasLowerBound() ? parseYear(range.lowerEndpoint()) : dateTimeLower;
-        Year upper = range.hasUpperBound() ? parseYear(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Year> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private Collection<String> getMatchedTables(final String tableSuffix, final Collection<String> availableTargetNames, final Map<Integer, Map<String, Collection<String>>> tableSuffixIndexes) {
+        return tableSuffixIndexes.computeIfAbsent(tableSuffix.length(), key -> createTableSuffixIndex(availableTargetNames, key)).getOrDefault(tableSuffix, Collections.emptyList());
+    }
+    
+    private Map<String, Collection<String>> createTableSuffixIndex(final Collection<String> availableTargetNames, final int tableSuffixLength) {
+        Map<String, Collection<String>> result = new HashMap<>(availableTargetNames.size(), 1F);
+        for (String each : availableTargetNames) {
+            if (each.length() >= tableSuffixLength) {
+                result.computeIfAbsent(each.substring(each.length() - tableSuffixLength), key -> new LinkedList<>()).add(each);
+            }
+        }
+        return result;
     }
     
     private boolean hasIntersection(final Range<Month> calculateRange, final Range<Comparable<?>> range, final Month dateTimeLower, final Month dateTimeUpper) {
@@ -296,15 +295,6 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
     }
     
-    private boolean hasIntersection(final Range<YearMonth> calculateRange, final Range<Comparable<?>> range, final YearMonth dateTimeLower, final YearMonth dateTimeUpper) {
-        YearMonth lower = range.hasLowerBound() ? parseYearMonth(range.lowerEndpoint()) : dateTimeLower;
-        YearMonth upper = range.hasUpperBound() ? parseYearMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<YearMonth> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
     private LocalDateTime parseLocalDateTime(final Comparable<?> endpoint) {
         String dateTimeText = getDateTimeText(endpoint);
         if (dateTimeText.length() >= dateTimePatternLength) {
@@ -384,32 +374,25 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return endpoint.toString();
     }
     
-    private Collection<String> getMatchedTables(final TemporalAccessor dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix;
+    private String getTableSuffix(final TemporalAccessor dateTime) {
         if (!dateTime.isSupported(ChronoField.NANO_OF_DAY)) {
             if (dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+                return tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
             }
             if (dateTime.isSupported(ChronoField.YEAR) && dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(YearMonth::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+                return tableSuffixPattern.format(dateTime.query(YearMonth::from));
             }
             if (dateTime.isSupported(ChronoField.YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Year::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+                return tableSuffixPattern.format(dateTime.query(Year::from));
             }
             if (dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Month::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+                return tableSuffixPattern.format(dateTime.query(Month::from));
             }
         }
         if (!dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            tableSuffix = dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
-            return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+            return dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
         }
-        tableSuffix = LocalDateTime.from(dateTime).format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        return LocalDateTime.from(dateTime).format(tableSuffixPattern);
     }
     
     @Override
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Only the common subset of Groovy inline expression is compiled: literal text with {@code ${}} segments, which are made up of integer literals,
+ * one variable, {@code +}, {@code -}, {@code *}, {@code %}, parentheses, {@code hashCode()} and {@code abs()}.
+ * Arithmetic follows Groovy semantics for integer and long operands, other operand types are not supported and should be evaluated by Groovy.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final String SEGMENT_BEGIN = "${";
+    
+    private static final String SEGMENT_END = "}";
+    
+    private final List<String> literals;
+    
+    private final List<UnaryOperator<Object>> operands;
+    
+    private final String variableName;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code ${}} placeholders
+     * @return compiled inline expression, empty if expression is out of supported subset
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<UnaryOperator<Object>> operands = new ArrayList<>();
+        List<String> variableNames = new ArrayList<>(1);
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int beginIndex = inlineExpression.indexOf(SEGMENT_BEGIN, index);
+            String literal = inlineExpression.substring(index, -1 == beginIndex ? inlineExpression.length() : beginIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            if (-1 == beginIndex) {
+                break;
+            }
+            int endIndex = inlineExpression.indexOf(SEGMENT_END, beginIndex);
+            if (-1 == endIndex) {
+                return Optional.empty();
+            }
+            Optional<UnaryOperator<Object>> operand = new ExpressionCompiler(inlineExpression.substring(beginIndex + SEGMENT_BEGIN.length(), endIndex), variableNames).compile();
+            if (!operand.isPresent()) {
+                return Optional.empty();
+            }
+            operands.add(operand.get());
+            index = endIndex + SEGMENT_END.length();
+        }
+        return 1 == variableNames.size() ? Optional.of(new CompiledInlineExpression(literals, operands, variableNames.get(0))) : Optional.empty();
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        for (char each : literal.toCharArray()) {
+            if ('$' == each || '\\' == each || '"' == each || '{' == each || '}' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param name variable name
+     * @param value variable value
+     * @return evaluated result, empty if variable name or value type is not supported
+     */
+    public Optional<String> evaluate(final String name, final Comparable<?> value) {
+        if (!variableName.equals(name)) {
+            return Optional.empty();
+        }
+        Object variableValue = value instanceof Byte || value instanceof Short ? (Object) ((Number) value).intValue() : value;
+        if (!isSupportedValue(variableValue)) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < operands.size(); i++) {
+            result.append(literals.get(i));
+            Object operandValue = operands.get(i).apply(variableValue);
+            if (null == operandValue) {
+                return Optional.empty();
+            }
+            result.append(operandValue);
+        }
+        if (literals.size() > operands.size()) {
+            result.append(literals.get(operands.size()));
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isSupportedValue(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof String;
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        if (left instanceof Integer && right instanceof Integer) {
+            int leftValue = (Integer) left;
+            int rightValue = (Integer) right;
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        if (isIntegral(left) && isIntegral(right)) {
+            long leftValue = ((Number) left).longValue();
+            long rightValue = ((Number) right).longValue();
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        return null;
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private static Object abs(final Object value) {
+        if (value instanceof Integer) {
+            return Math.abs((Integer) value);
+        }
+        if (value instanceof Long) {
+            return Math.abs((Long) value);
+        }
+        return null;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionCompiler {
+        
+        private final String expression;
+        
+        private final List<String> variableNames;
+        
+        private int position;
+        
+        Optional<UnaryOperator<Object>> compile() {
+            UnaryOperator<Object> result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private UnaryOperator<Object> parseAdditive() {
+            UnaryOperator<Object> result = parseMultiplicative();
+            while (null != result && (peek('+') || peek('-'))) {
+                result = combine(expression.charAt(position++), result, parseMultiplicative());
+            }
+            return result;
+        }
+        
+        private UnaryOperator<Object> parseMultiplicative() {
+            UnaryOperator<Object> result = parsePostfix();
+            while (null != result && (peek('*') || peek('%'))) {
+                result = combine(expression.charAt(position++), result, parsePostfix());
+            }
+            return result;
+        }
+        
+        private UnaryOperator<Object> combine(final char operator, final UnaryOperator<Object> left, final UnaryOperator<Object> right) {
+            if (null == right) {
+                return null;
+            }
+            return value -> {
+                Object leftValue = left.apply(value);
+                Object rightValue = right.apply(value);
+                return null == leftValue || null == rightValue ? null : calculate(operator, leftValue, rightValue);
+            };
+        }
+        
+        private UnaryOperator<Object> parsePostfix() {
+            UnaryOperator<Object> result = parsePrimary();
+            while (null != result && peek('.')) {
+                position++;
+                if (expression.startsWith("hashCode()", position)) {
+                    position += "hashCode()".length();
+                    UnaryOperator<Object> operand = result;
+                    result = value -> {
+                        Object operandValue = operand.apply(value);
+                        return null == operandValue ? null : operandValue.hashCode();
+                    };
+                } else if (expression.startsWith("abs()", position)) {
+                    position += "abs()".length();
+                    UnaryOperator<Object> operand = result;
+                    result = value -> {
+                        Object operandValue = operand.apply(value);
+                        return null == operandValue ? null : abs(operandValue);
+                    };
+                } else {
+                    return null;
+                }
+            }
+            return result;
+        }
+        
+        private UnaryOperator<Object> parsePrimary() {
+            skipWhitespace();
+            if (position >= expression.length()) {
+                return null;
+            }
+            char current = expression.charAt(position);
+            if ('(' == current) {
+                position++;
+                UnaryOperator<Object> result = parseAdditive();
+                if (!peek(')')) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            if (Character.isLetter(current) || '_' == current) {
+                return parseVariable();
+            }
+            return null;
+        }
+        
+        private UnaryOperator<Object> parseNumber() {
+            int beginIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && (Character.isLetter(expression.charAt(position)) || '.' == expression.charAt(position))) {
+                return null;
+            }
+            String number = expression.substring(beginIndex, position);
+            if (number.length() > 1 && '0' == number.charAt(0)) {
+                return null;
+            }
+            try {
+                long value = Long.parseLong(number);
+                Object result = value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value;
+                return ignored -> result;
+            } catch (final NumberFormatException ignored) {
+                return null;
+            }
+        }
+        
+        private UnaryOperator<Object> parseVariable() {
+            int beginIndex = position;
+            while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position))) {
+                position++;
+            }
+            String name = expression.substring(beginIndex, position);
+            if (!variableNames.contains(name)) {
+                variableNames.add(name);
+            }
+            return UnaryOperator.identity();
+        }
+        
+        private boolean peek(final char expected) {
+            skipWhitespace();
+            return position < expression.length() && expected == expression.charAt(position);
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
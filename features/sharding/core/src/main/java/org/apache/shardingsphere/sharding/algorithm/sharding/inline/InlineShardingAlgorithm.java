@@ -22,6 +22,7 @@ import groovy.lang.MissingMethodException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -29,8 +30,10 @@ import org.apache.shardingsphere.sharding.exception.algorithm.sharding.Mismatche
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingAlgorithmInitializationException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -48,9 +51,12 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private CompiledInlineExpression compiledExpression;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        compiledExpression = CompiledInlineExpression.compile(algorithmExpression).orElse(null);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -70,8 +76,30 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        return doSharding(columnName, shardingValue.getValue());
+    }
+    
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        String columnName = shardingValue.getColumnName();
+        ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result.add(doSharding(columnName, each));
+        }
+        return result;
+    }
+    
+    private String doSharding(final String columnName, final Comparable<?> shardingValue) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(columnName, shardingValue);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Map<String, Comparable<?>> map = new LinkedHashMap<>();
-        map.put(columnName, shardingValue.getValue());
+        map.put(columnName, shardingValue);
         try {
             return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(map);
         } catch (final MissingMethodException ignored) {
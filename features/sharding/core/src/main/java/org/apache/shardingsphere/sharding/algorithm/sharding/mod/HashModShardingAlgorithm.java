@@ -20,13 +20,16 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingAlgorithmInitializationException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -57,6 +60,21 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        String[] targetNames = new String[shardingCount];
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Object each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            int shardingIndex = (int) (hashShardingValue(each) % shardingCount);
+            if (null == targetNames[shardingIndex]) {
+                targetNames[shardingIndex] = ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, String.valueOf(shardingIndex), shardingValue.getDataNodeInfo()).orElse(null);
+            }
+            result.add(targetNames[shardingIndex]);
+        }
+        return result;
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         return availableTargetNames;
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -28,8 +29,10 @@ import org.apache.shardingsphere.sharding.exception.data.NullShardingValueExcept
 import org.apache.shardingsphere.sharding.exception.data.ShardingValueOffsetException;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -100,10 +103,32 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String shardingResultSuffix = getShardingResultSuffix(cutShardingValue(shardingValue.getValue()).mod(new BigInteger(String.valueOf(shardingCount))).toString());
+        String shardingResultSuffix = getShardingResultSuffix(String.valueOf(getShardingIndex(shardingValue.getValue())));
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
+    @Override
+    public List<String> doSharding(final Collection<String> availableTargetNames, final BatchPreciseShardingValue<Comparable<?>> shardingValue) {
+        String[] targetNames = new String[shardingCount];
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            int shardingIndex = getShardingIndex(each);
+            if (null == targetNames[shardingIndex]) {
+                targetNames[shardingIndex] = ShardingAutoTableAlgorithmUtils.findMatchedTargetName(
+                        availableTargetNames, getShardingResultSuffix(String.valueOf(shardingIndex)), shardingValue.getDataNodeInfo()).orElse(null);
+            }
+            result.add(targetNames[shardingIndex]);
+        }
+        return result;
+    }
+    
+    private int getShardingIndex(final Comparable<?> shardingValue) {
+        return 0 == startOffset && 0 == stopOffset && shardingValue instanceof Number
+                ? (int) Math.floorMod(((Number) shardingValue).longValue(), shardingCount)
+                : cutShardingValue(shardingValue).mod(BigInteger.valueOf(shardingCount)).intValue();
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge.ddl.fetch;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.ddl.FetchStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.cursor.FetchGroup;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -51,6 +52,8 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     
     private final DirectionType directionType;
     
+    private final MemoryResultBudget memoryResultBudget;
+    
     private long fetchCount;
     
     private boolean isFirstNext;
@@ -58,9 +61,10 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     private boolean isExecutedAllDirection;
     
     public FetchStreamMergedResult(final List<QueryResult> queryResults, final FetchStatementContext fetchStatementContext,
-                                   final ShardingSphereSchema schema, final ConnectionContext connectionContext) throws SQLException {
+                                   final ShardingSphereSchema schema, final ConnectionContext connectionContext, final MemoryResultBudget memoryResultBudget) throws SQLException {
         orderByValuesQueue = new PriorityQueue<>(queryResults.size());
         directionType = fetchStatementContext.getSqlStatement().getDirection().flatMap(DirectionSegment::getDirectionType).orElse(DirectionType.NEXT);
+        this.memoryResultBudget = memoryResultBudget;
         fetchCount = fetchStatementContext.getSqlStatement().getDirection().flatMap(DirectionSegment::getCount).orElse(1L);
         SelectStatementContext selectStatementContext = fetchStatementContext.getCursorStatementContext().getSelectStatementContext();
         String cursorName = fetchStatementContext.getCursorName().map(optional -> optional.getIdentifier().getValue().toLowerCase()).orElseThrow(CursorNameNotFoundException::new);
@@ -134,7 +138,7 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     
     private boolean isEmptyOrderByValue(final OrderByValue orderByValue) {
         return orderByValue.getQueryResult() instanceof JDBCMemoryQueryResult && 0 == ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).getRowCount()
-                && null == ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).getCurrentRow();
+                && !((JDBCMemoryQueryResult) orderByValue.getQueryResult()).hasCurrentRow();
     }
     
     private void addOrderedResultSetsToQueue(final List<FetchOrderByValueGroup> fetchOrderByValueGroups, final List<QueryResult> queryResults) {
@@ -148,7 +152,7 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     
     private QueryResult decorate(final QueryResult queryResult, final DatabaseType databaseType) throws SQLException {
         if (!DirectionType.isAllDirectionType(directionType) && queryResult instanceof JDBCStreamQueryResult) {
-            return new JDBCMemoryQueryResult(((JDBCStreamQueryResult) queryResult).getResultSet(), databaseType);
+            return JDBCMemoryQueryResult.create(((JDBCStreamQueryResult) queryResult).getResultSet(), databaseType, memoryResultBudget);
         }
         return queryResult;
     }
@@ -177,7 +181,7 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
         for (OrderByValue each : fetchOrderByValueGroup.getOrderByValues()) {
             if (each.getQueryResult() instanceof JDBCMemoryQueryResult) {
                 JDBCMemoryQueryResult queryResult = (JDBCMemoryQueryResult) each.getQueryResult();
-                result += null == queryResult.getCurrentRow() ? queryResult.getRowCount() : queryResult.getRowCount() + 1;
+                result += queryResult.hasCurrentRow() ? queryResult.getRowCount() + 1 : queryResult.getRowCount();
             }
         }
         return result;
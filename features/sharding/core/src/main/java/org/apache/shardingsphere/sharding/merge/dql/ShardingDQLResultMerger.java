@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -55,9 +56,21 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final MemoryResultBudget memoryResultBudget;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, null);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
+        return merge(queryResults, sqlStatementContext, null, database, connectionContext);
+    }
+    
+    @Override
+    public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final PaginationContext paginationContext,
+                              final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
         if (1 == queryResults.size() && !isNeedAggregateRewrite(sqlStatementContext)) {
             return new IteratorStreamMergedResult(queryResults);
         }
@@ -65,7 +78,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         selectStatementContext.setIndexes(columnLabelIndexMap);
         MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap, database);
-        return decorate(queryResults, selectStatementContext, mergedResult);
+        return decorate(queryResults, null == paginationContext ? selectStatementContext.getPaginationContext() : paginationContext, mergedResult);
     }
     
     private boolean isNeedAggregateRewrite(final SQLStatementContext sqlStatementContext) {
@@ -119,15 +132,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
         return selectStatementContext.isSameGroupByAndOrderByItems()
                 ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema, memoryResultBudget);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
         return !selectStatementContext.getOrderByContext().getItems().isEmpty();
     }
     
-    private MergedResult decorate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) throws SQLException {
-        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+    private MergedResult decorate(final List<QueryResult> queryResults, final PaginationContext paginationContext, final MergedResult mergedResult) throws SQLException {
         if (!paginationContext.isHasPagination() || 1 == queryResults.size()) {
             return mergedResult;
         }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
+import com.google.common.collect.Iterators;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.projection.
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
@@ -41,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -54,8 +57,9 @@ import java.util.stream.Collectors;
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
     
-    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(null, schema, selectStatementContext, queryResults);
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final MemoryResultBudget budget) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults, budget);
     }
     
     @Override
@@ -76,6 +80,12 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
     }
     
+    @Override
+    protected Iterator<MemoryQueryResultRow> initIterator(final ShardingRule shardingRule, final ShardingSphereSchema schema,
+                                                          final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        return Iterators.consumingIterator(init(shardingRule, schema, sqlStatementContext, queryResults).iterator());
+    }
+    
     private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
                                           final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
                                           final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
@@ -141,11 +151,16 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
                                                               final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
+        List<MemoryQueryResultRow> result = new LinkedList<>();
         if (dataMap.isEmpty()) {
             Object[] data = generateReturnData(selectStatementContext);
-            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+            if (Arrays.stream(data).anyMatch(Objects::nonNull)) {
+                result.add(new MemoryQueryResultRow(data));
+            }
+            return result;
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+        result.addAll(dataMap.values());
+        dataMap.clear();
         result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
         return result;
     }
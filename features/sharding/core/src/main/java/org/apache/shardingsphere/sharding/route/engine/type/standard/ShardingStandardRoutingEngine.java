@@ -28,7 +28,6 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
-import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.MismatchedShardingDataSourceRouteInfoException;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.NoShardingDatabaseRouteInfoException;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
@@ -37,20 +36,20 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShard
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
-import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -92,10 +91,8 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     }
     
     private Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final ShardingTable shardingTable) {
-        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
-        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(shardingTable);
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(shardingTable);
         if (isRoutingByHint(shardingRule, shardingTable)) {
             return routeByHint(shardingTable, databaseShardingStrategy, tableShardingStrategy);
         }
@@ -139,16 +136,86 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         Collection<DataNode> result = new LinkedList<>();
+        List<List<ShardingConditionValue>> databaseShardingValues = new ArrayList<>(shardingConditions.getConditions().size());
+        List<List<ShardingConditionValue>> tableShardingValues = new ArrayList<>(shardingConditions.getConditions().size());
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(shardingTable,
-                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
-                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+            databaseShardingValues.add(getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each));
+            tableShardingValues.add(getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+        }
+        if (isBatchRoutable(databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues)) {
+            for (Collection<DataNode> each : routeInBatch(shardingTable,
+                    (StandardShardingStrategy) databaseShardingStrategy, databaseShardingValues, (StandardShardingStrategy) tableShardingStrategy, tableShardingValues)) {
+                result.addAll(each);
+                originalDataNodes.add(each);
+            }
+            return result;
+        }
+        for (int i = 0; i < databaseShardingValues.size(); i++) {
+            Collection<DataNode> dataNodes = route0(shardingTable, databaseShardingStrategy, databaseShardingValues.get(i), tableShardingStrategy, tableShardingValues.get(i));
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
+    private boolean isBatchRoutable(final ShardingStrategy databaseShardingStrategy, final List<List<ShardingConditionValue>> databaseShardingValues,
+                                    final ShardingStrategy tableShardingStrategy, final List<List<ShardingConditionValue>> tableShardingValues) {
+        return databaseShardingValues.size() > 1 && databaseShardingStrategy instanceof StandardShardingStrategy && tableShardingStrategy instanceof StandardShardingStrategy
+                && isSingleValues(databaseShardingValues) && isSingleValues(tableShardingValues);
+    }
+    
+    private boolean isSingleValues(final List<List<ShardingConditionValue>> shardingValues) {
+        ShardingConditionValue first = shardingValues.get(0).isEmpty() ? null : shardingValues.get(0).get(0);
+        for (List<ShardingConditionValue> each : shardingValues) {
+            if (1 != each.size() || !(each.get(0) instanceof ListShardingConditionValue) || 1 != ((ListShardingConditionValue<?>) each.get(0)).getValues().size()
+                    || !each.get(0).getTableName().equals(first.getTableName()) || !each.get(0).getColumnName().equals(first.getColumnName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private List<Collection<DataNode>> routeInBatch(final ShardingTable shardingTable,
+                                                    final StandardShardingStrategy databaseShardingStrategy, final List<List<ShardingConditionValue>> databaseShardingValues,
+                                                    final StandardShardingStrategy tableShardingStrategy, final List<List<ShardingConditionValue>> tableShardingValues) {
+        ShardingConditionValue databaseShardingValue = databaseShardingValues.get(0).get(0);
+        List<String> routedDataSources = databaseShardingStrategy.doBatchSharding(shardingTable.getActualDataSourceNames(),
+                databaseShardingValue.getTableName(), databaseShardingValue.getColumnName(), getSingleValues(databaseShardingValues), shardingTable.getDataSourceDataNode());
+        Map<String, List<Integer>> conditionIndexesByDataSource = new LinkedHashMap<>();
+        for (int i = 0; i < routedDataSources.size(); i++) {
+            ShardingSpherePreconditions.checkNotNull(routedDataSources.get(i), NoShardingDatabaseRouteInfoException::new);
+            conditionIndexesByDataSource.computeIfAbsent(routedDataSources.get(i), unused -> new ArrayList<>()).add(i);
+        }
+        ShardingConditionValue tableShardingValue = tableShardingValues.get(0).get(0);
+        List<Collection<DataNode>> result = new ArrayList<>(Collections.nCopies(routedDataSources.size(), Collections.emptyList()));
+        for (Entry<String, List<Integer>> entry : conditionIndexesByDataSource.entrySet()) {
+            List<Object> values = new ArrayList<>(entry.getValue().size());
+            for (int each : entry.getValue()) {
+                values.add(getSingleValue(tableShardingValues.get(each)));
+            }
+            List<String> routedTables = tableShardingStrategy.doBatchSharding(shardingTable.getActualTableNames(entry.getKey()),
+                    tableShardingValue.getTableName(), tableShardingValue.getColumnName(), values, shardingTable.getTableDataNode());
+            for (int i = 0; i < routedTables.size(); i++) {
+                if (null != routedTables.get(i)) {
+                    result.set(entry.getValue().get(i), Collections.singletonList(new DataNode(entry.getKey(), routedTables.get(i))));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private List<Object> getSingleValues(final List<List<ShardingConditionValue>> shardingValues) {
+        List<Object> result = new ArrayList<>(shardingValues.size());
+        for (List<ShardingConditionValue> each : shardingValues) {
+            result.add(getSingleValue(each));
+        }
+        return result;
+    }
+    
+    private Object getSingleValue(final List<ShardingConditionValue> shardingValues) {
+        return ((ListShardingConditionValue<?>) shardingValues.get(0)).getValues().iterator().next();
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         return shardingConditions.getConditions().isEmpty()
@@ -278,10 +345,4 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         }
         return result;
     }
-    
-    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
-                                                    final String defaultShardingColumn) {
-        return null == shardingStrategyConfig ? new NoneShardingStrategy()
-                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
-    }
 }
@@ -21,7 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingRouteAlgorithmException;
@@ -31,9 +31,11 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShar
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -68,21 +70,36 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return result;
     }
     
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
         Collection<String> result = new LinkedList<>();
-        for (Object each : shardingValue.getValues()) {
-            String target = shardingAlgorithm.doSharding(availableTargetNames,
-                    new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, each));
-            if (null != target && availableTargetNames.contains(target)) {
-                result.add(target);
-            } else if (null != target && !availableTargetNames.contains(target)) {
-                throw new ShardingRouteAlgorithmException(target, availableTargetNames);
+        for (String each : doBatchSharding(availableTargetNames, shardingValue.getTableName(), shardingValue.getColumnName(), new ArrayList<>(shardingValue.getValues()), dataNodeInfo)) {
+            if (null != each) {
+                result.add(each);
             }
         }
         return result;
     }
     
+    /**
+     * Sharding for batch of precise values.
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param logicTableName logic table name
+     * @param columnName column name
+     * @param shardingValues sharding values
+     * @param dataNodeInfo data node info
+     * @return sharding results for data sources or table names, in the same order as sharding values, null if value is not routed
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<String> doBatchSharding(final Collection<String> availableTargetNames, final String logicTableName, final String columnName,
+                                        final List<?> shardingValues, final DataNodeInfo dataNodeInfo) {
+        List<String> result = shardingAlgorithm.doSharding(availableTargetNames, new BatchPreciseShardingValue(logicTableName, columnName, dataNodeInfo, shardingValues));
+        for (String each : result) {
+            ShardingSpherePreconditions.checkState(null == each || availableTargetNames.contains(each), () -> new ShardingRouteAlgorithmException(each, availableTargetNames));
+        }
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
         return shardingAlgorithm.doSharding(availableTargetNames,
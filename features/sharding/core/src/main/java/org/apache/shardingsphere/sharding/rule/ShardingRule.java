@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.rule;
 import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
@@ -55,6 +56,9 @@ import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingA
 import org.apache.shardingsphere.sharding.exception.metadata.DuplicateSharingActualDataNodeException;
 import org.apache.shardingsphere.sharding.exception.metadata.InvalidBindingTablesException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAuditAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
@@ -78,7 +82,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -122,6 +126,15 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private final TableNamesMapper actualTableMapper;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ShardingTable> actualTableShardingTables;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<ShardingTable, ShardingStrategy> databaseShardingStrategies = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<ShardingTable, ShardingStrategy> tableShardingStrategies = new ConcurrentHashMap<>();
+    
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final InstanceContext instanceContext) {
         configuration = ruleConfig;
         this.dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSources.keySet());
@@ -150,6 +163,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
         logicalTableMapper = createLogicalTableMapper();
         actualTableMapper = createActualTableMapper();
+        actualTableShardingTables = createActualTableShardingTables();
     }
     
     private void validateUniqueActualDataNodesInTableRules() {
@@ -188,6 +202,16 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return result;
     }
     
+    private Map<String, ShardingTable> createActualTableShardingTables() {
+        Map<String, ShardingTable> result = new CaseInsensitiveMap<>();
+        for (ShardingTable each : shardingTables.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName(), each);
+            }
+        }
+        return result;
+    }
+    
     private Map<String, Collection<DataNode>> createShardingTableDataNodes(final Map<String, ShardingTable> shardingTables) {
         Map<String, Collection<DataNode>> result = new CaseInsensitiveMap<>(shardingTables.size(), 1F);
         for (ShardingTable each : shardingTables.values()) {
@@ -392,6 +416,39 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return null == shardingTable.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : shardingTable.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get database sharding strategy.
+     *
+     * @param shardingTable sharding table
+     * @return database sharding strategy
+     */
+    public ShardingStrategy getDatabaseShardingStrategy(final ShardingTable shardingTable) {
+        return isOwnedShardingTable(shardingTable)
+                ? databaseShardingStrategies.computeIfAbsent(shardingTable, key -> createShardingStrategy(getDatabaseShardingStrategyConfiguration(key)))
+                : createShardingStrategy(getDatabaseShardingStrategyConfiguration(shardingTable));
+    }
+    
+    /**
+     * Get table sharding strategy.
+     *
+     * @param shardingTable sharding table
+     * @return table sharding strategy
+     */
+    public ShardingStrategy getTableShardingStrategy(final ShardingTable shardingTable) {
+        return isOwnedShardingTable(shardingTable)
+                ? tableShardingStrategies.computeIfAbsent(shardingTable, key -> createShardingStrategy(getTableShardingStrategyConfiguration(key)))
+                : createShardingStrategy(getTableShardingStrategyConfiguration(shardingTable));
+    }
+    
+    private boolean isOwnedShardingTable(final ShardingTable shardingTable) {
+        return shardingTable == shardingTables.get(shardingTable.getLogicTable());
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    }
+    
     /**
      * Get audit strategy configuration.
      *
@@ -422,12 +479,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return sharding table
      */
     public Optional<ShardingTable> findShardingTableByActualTable(final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return Strings.isNullOrEmpty(actualTableName) ? Optional.empty() : Optional.ofNullable(actualTableShardingTables.get(actualTableName));
     }
     
     /**
@@ -467,8 +519,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         if (!bindingTableRule.isPresent()) {
             return false;
         }
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.addAll(bindingTableRule.get().getAllLogicTables());
+        Collection<String> result = bindingTableRule.get().getAllLogicTables();
         return !result.isEmpty() && result.containsAll(logicTableNames);
     }
     
@@ -21,6 +21,7 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.util.datetime.DateTimeFormatterFactory;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -42,10 +43,13 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.Properties;
+import java.util.TreeSet;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -129,6 +133,12 @@ class IntervalShardingAlgorithmTest {
                 new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2030-01-01 00:00:01")));
     }
     
+    @Test
+    void assertBatchDoShardingByMonth() {
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, new BatchPreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO,
+                Arrays.asList("2020-01-01 00:00:01", "2030-01-01 00:00:01", "2020-01-01 00:00:01", "2020-02-01 00:00:01"))), is(Arrays.asList("t_order_202001", null, "t_order_202001", "t_order_202002")));
+    }
+    
     @Test
     void assertLowerHalfRangeDoSharding() {
         Collection<String> actual = shardingAlgorithmByQuarter.doSharding(availableTablesForQuarterDataSources,
@@ -306,6 +316,25 @@ class IntervalShardingAlgorithmTest {
         assertThat(actualAsString.size(), is(7));
     }
     
+    @Test
+    void assertRangeDoShardingByHourOverYears() {
+        IntervalShardingAlgorithm algorithm = createAlgorithm("yyyy-MM-dd HH:mm:ss", "2016-01-01 00:00:00", "2025-12-31 23:00:00", "yyyyMMddHH", 1, "Hours");
+        Collection<String> availableTargetNames = new LinkedList<>();
+        for (int i = 0; i < 24; i++) {
+            availableTargetNames.add(String.format("t_order_202003%02d%02d", 1, i));
+            availableTargetNames.add(String.format("t_order_202003%02d%02d", 2, i));
+        }
+        Collection<String> actual = algorithm.doSharding(availableTargetNames, createShardingValue("2020-03-01 22:30:00", "2020-03-02 01:10:00"));
+        assertThat(new TreeSet<>(actual), is(new TreeSet<>(Arrays.asList("t_order_2020030122", "t_order_2020030123", "t_order_2020030200", "t_order_2020030201"))));
+    }
+    
+    @Test
+    void assertRangeDoShardingByMonthFromEndOfMonth() {
+        IntervalShardingAlgorithm algorithm = createAlgorithm("yyyy-MM-dd", "2021-01-31", "2021-12-31", "yyyyMMdd", 1, "Months");
+        Collection<String> availableTargetNames = Arrays.asList("t_order_20210131", "t_order_20210228", "t_order_20210328", "t_order_20210428", "t_order_20210528", "t_order_20210531");
+        assertThat(algorithm.doSharding(availableTargetNames, createShardingValue("2021-05-01", "2021-05-27")), is(Collections.singleton("t_order_20210428")));
+    }
+    
     private IntervalShardingAlgorithm createAlgorithm(final String datetimePattern, final String datetimeLower,
                                                       final String datetimeUpper, final String shardingSuffixPattern,
                                                       final Integer datetimeIntervalAmount, final String datetimeIntervalUnit) {
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    @Test
+    void assertCompileUnsupportedExpression() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${[0, 1]}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${user_id % 2}_${order_id % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.substring(1)}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_$order_id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${0}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 010}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 0x10}").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateSameAsGroovy() {
+        for (String each : Arrays.asList("t_order_${order_id % 4}", "t_order_${(order_id % 4).abs()}", "t_order_${order_id.hashCode() % 4}",
+                "ds_${(order_id + 1) * 2 % 5}_suffix", "${order_id - 3 % 2}", "t_order_${order_id}", "t_order_${order_id % 10 + 0}")) {
+            CompiledInlineExpression compiledExpression = CompiledInlineExpression.compile(each).orElseThrow(IllegalStateException::new);
+            for (Comparable<?> value : Arrays.<Comparable<?>>asList(0, 7, -9, Integer.MAX_VALUE, 787694822390497280L, -787694822390497281L, (short) 3, (byte) -5)) {
+                assertThat(compiledExpression.evaluate("order_id", value), is(Optional.of(InlineExpressionParserFactory.newInstance(each).evaluateWithArgs(Collections.singletonMap("order_id", value)))));
+            }
+        }
+    }
+    
+    @Test
+    void assertEvaluateWithStringValue() {
+        CompiledInlineExpression compiledExpression = CompiledInlineExpression.compile("t_order_${order_id.hashCode() % 4}").orElseThrow(IllegalStateException::new);
+        assertThat(compiledExpression.evaluate("order_id", "foo"), is(Optional.of("t_order_" + "foo".hashCode() % 4)));
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 4}").orElseThrow(IllegalStateException::new).evaluate("order_id", "foo").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression compiledExpression = CompiledInlineExpression.compile("t_order_${order_id % 4}").orElseThrow(IllegalStateException::new);
+        assertFalse(compiledExpression.evaluate("order_id", new BigInteger("787694822390497280787694822390497280")).isPresent());
+        assertFalse(compiledExpression.evaluate("user_id", 1).isPresent());
+        assertTrue(compiledExpression.evaluate("order_id", 1).isPresent());
+    }
+}
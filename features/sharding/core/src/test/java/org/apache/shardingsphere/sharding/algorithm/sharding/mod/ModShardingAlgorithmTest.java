@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchPreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingAlgorithmInitializationException;
@@ -53,6 +54,20 @@ class ModShardingAlgorithmTest {
         assertThat(algorithm.doSharding(createAvailableTargetNames(), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "12345678910111213141516")), is("t_order_12"));
     }
     
+    @Test
+    void assertBatchDoSharding() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        assertThat(algorithm.doSharding(createAvailableTargetNames(), new BatchPreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(17, -1L, 33, "12345678910111213141516"))),
+                is(Arrays.asList("t_order_1", "t_order_15", "t_order_1", "t_order_12")));
+    }
+    
+    @Test
+    void assertBatchDoShardingWithZeroPadding() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", createZeroPaddingProperties());
+        assertThat(algorithm.doSharding(createAvailableIncludeZeroTargetNames(), new BatchPreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList("12345678910111213141516", 1171))),
+                is(Arrays.asList("t_order_07", "t_order_01")));
+    }
+    
     @Test
     void assertRangeDoShardingWithAllTargets() {
         ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.cursor.CursorConnectionContext;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -47,6 +48,7 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -58,14 +60,14 @@ class ShardingDDLResultMergerTest {
     
     @Test
     void assertBuildIteratorStreamMergedResult() throws SQLException {
-        ShardingDDLResultMerger merger = new ShardingDDLResultMerger();
+        ShardingDDLResultMerger merger = new ShardingDDLResultMerger(new MemoryResultBudget(new ConfigurationProperties(new Properties())));
         assertThat(merger.merge(createSingleQueryResults(), mock(FetchStatementContext.class), mock(ShardingSphereDatabase.class), mock(ConnectionContext.class)),
                 instanceOf(IteratorStreamMergedResult.class));
     }
     
     @Test
     void assertBuildFetchStreamMergedResult() throws SQLException {
-        ShardingDDLResultMerger merger = new ShardingDDLResultMerger();
+        ShardingDDLResultMerger merger = new ShardingDDLResultMerger(new MemoryResultBudget(new ConfigurationProperties(new Properties())));
         ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
         ConnectionContext connectionContext = mock(ConnectionContext.class);
@@ -76,7 +78,7 @@ class ShardingDDLResultMergerTest {
     
     @Test
     void assertBuildTransparentMergedResult() throws SQLException {
-        ShardingDDLResultMerger merger = new ShardingDDLResultMerger();
+        ShardingDDLResultMerger merger = new ShardingDDLResultMerger(new MemoryResultBudget(new ConfigurationProperties(new Properties())));
         assertThat(merger.merge(createMultiQueryResults(), mock(SelectStatementContext.class), mock(ShardingSphereDatabase.class), mock(ConnectionContext.class)),
                 instanceOf(TransparentMergedResult.class));
     }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.ddl.FetchStateme
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -54,6 +55,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -78,7 +80,7 @@ class FetchStreamMergedResultTest {
     void setUp() {
         fetchCountStatementContext = createFetchStatementContext(false);
         fetchAllStatementContext = createFetchStatementContext(true);
-        resultMerger = new ShardingDDLResultMerger();
+        resultMerger = new ShardingDDLResultMerger(new MemoryResultBudget(new ConfigurationProperties(new Properties())));
         database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
         connectionContext = mock(ConnectionContext.class);
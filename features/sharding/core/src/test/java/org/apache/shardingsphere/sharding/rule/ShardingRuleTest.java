@@ -49,6 +49,7 @@ import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingA
 import org.apache.shardingsphere.sharding.exception.metadata.DuplicateSharingActualDataNodeException;
 import org.apache.shardingsphere.sharding.exception.metadata.InvalidBindingTablesException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -79,6 +80,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -195,6 +197,23 @@ class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findShardingTableByActualTable("table_0").isPresent());
     }
     
+    @Test
+    void assertFindTableRuleByActualTableIgnoreCase() {
+        Optional<ShardingTable> actual = createMaximumShardingRule().findShardingTableByActualTable("SUB_TABLE_1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("SUB_LOGIC_TABLE"));
+    }
+    
+    @Test
+    void assertGetShardingStrategies() {
+        ShardingRule shardingRule = createMinimumShardingRule();
+        ShardingTable shardingTable = shardingRule.getShardingTable("logic_table");
+        assertThat(shardingRule.getDatabaseShardingStrategy(shardingTable), instanceOf(NoneShardingStrategy.class));
+        assertThat(shardingRule.getDatabaseShardingStrategy(shardingTable), sameInstance(shardingRule.getDatabaseShardingStrategy(shardingTable)));
+        assertThat(shardingRule.getTableShardingStrategy(shardingTable), instanceOf(NoneShardingStrategy.class));
+        assertThat(shardingRule.getTableShardingStrategy(shardingTable), sameInstance(shardingRule.getTableShardingStrategy(shardingTable)));
+    }
+    
     @Test
     void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findShardingTableByActualTable("table_3").isPresent());
@@ -19,14 +19,70 @@ package org.apache.shardingsphere.infra.config.props;
 
 import org.apache.shardingsphere.infra.props.TypedProperties;
 
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Typed properties of configuration.
  */
 public final class ConfigurationProperties extends TypedProperties<ConfigurationPropertyKey> {
     
+    private final Map<Class<?>, ConfigurationPropertiesBoundState> boundStates = new ConcurrentHashMap<>();
+    
+    private volatile ConfigurationProperties alteredProps;
+    
     public ConfigurationProperties(final Properties props) {
         super(ConfigurationPropertyKey.class, props);
     }
+    
+    /**
+     * Get bound state, bound state is created on first get.
+     *
+     * @param boundStateClass bound state class
+     * @param boundStateCreator bound state creator
+     * @param <T> type of bound state
+     * @return bound state
+     */
+    public <T extends ConfigurationPropertiesBoundState> T getBoundState(final Class<T> boundStateClass, final Function<ConfigurationProperties, T> boundStateCreator) {
+        ConfigurationPropertiesBoundState result = boundStates.get(boundStateClass);
+        if (null != result) {
+            return boundStateClass.cast(result);
+        }
+        synchronized (this) {
+            return null == alteredProps
+                    ? boundStateClass.cast(boundStates.computeIfAbsent(boundStateClass, key -> boundStateCreator.apply(this)))
+                    : alteredProps.getBoundState(boundStateClass, boundStateCreator);
+        }
+    }
+    
+    /**
+     * Hand bound states over to altered configuration properties.
+     *
+     * @param props altered configuration properties
+     */
+    public synchronized void handOverBoundStates(final ConfigurationProperties props) {
+        if (this == props) {
+            return;
+        }
+        for (Entry<Class<?>, ConfigurationPropertiesBoundState> entry : boundStates.entrySet()) {
+            entry.getValue().refresh(props);
+            ConfigurationPropertiesBoundState replaced = props.boundStates.put(entry.getKey(), entry.getValue());
+            if (null != replaced && replaced != entry.getValue()) {
+                replaced.close();
+            }
+        }
+        boundStates.clear();
+        alteredProps = props;
+    }
+    
+    /**
+     * Close bound states.
+     */
+    public void closeBoundStates() {
+        boundStates.values().forEach(ConfigurationPropertiesBoundState::close);
+        boundStates.clear();
+    }
 }
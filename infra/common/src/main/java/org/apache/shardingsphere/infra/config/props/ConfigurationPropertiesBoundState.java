@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.config.props;
+
+/**
+ * Configuration properties bound state.
+ * 
+ * <p>Bound state is held by configuration properties of one meta data contexts, it is refreshed and handed over when configuration properties are altered,
+ * and closed together with meta data contexts.</p>
+ */
+public interface ConfigurationPropertiesBoundState extends AutoCloseable {
+    
+    /**
+     * Refresh by altered configuration properties.
+     *
+     * @param props altered configuration properties
+     */
+    void refresh(ConfigurationProperties props);
+    
+    @Override
+    default void close() {
+    }
+}
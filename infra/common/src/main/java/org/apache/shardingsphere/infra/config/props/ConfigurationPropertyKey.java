@@ -59,11 +59,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether adapt max opened connection size for each query by pool usage and latency of each storage unit.
+     */
+    ADAPTIVE_CONNECTIONS_SIZE_PER_QUERY_ENABLED("adaptive-connections-size-per-query-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max bytes of query results held in memory for all queries, 0 means unlimited and never spill to disk.
+     */
+    MEMORY_RESULT_GLOBAL_BUDGET_BYTES("memory-result-global-budget-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max bytes of query result held in memory for each result, rows beyond it are spilled to local temporary file, 0 means unlimited.
+     */
+    MEMORY_RESULT_BUDGET_BYTES_PER_RESULT("memory-result-budget-bytes-per-result", String.valueOf(0), long.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Local directory to store schema meta data snapshot, empty means snapshot disabled.
+     */
+    METADATA_SNAPSHOT_PATH("metadata-snapshot-path", "", String.class, true),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -80,6 +100,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Max backend connections kept with session variables for reuse by sessions with the same variables, 0 means disabled.
+     */
+    PROXY_BACKEND_SESSION_STATE_CONNECTION_CACHE_SIZE("proxy-backend-session-state-connection-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -100,6 +125,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
     
+    /**
+     * Max count of distinct SQL digests collected by ShardingSphere-Proxy, 0 means SQL digest statistics disabled.
+     */
+    PROXY_SQL_DIGEST_STATISTICS_CAPACITY("proxy-sql-digest-statistics-capacity", String.valueOf(0), int.class, false),
+    
+    /**
+     * Window seconds after which SQL digest statistics are reset, 0 means never reset.
+     */
+    PROXY_SQL_DIGEST_STATISTICS_WINDOW_SECONDS("proxy-sql-digest-statistics-window-seconds", String.valueOf(3600), long.class, false),
+    
+    /**
+     * Min offset of sharded ORDER BY LIMIT query executed by boundary seeking instead of fetching all leading rows from each shard, 0 means disabled.
+     */
+    PROXY_DEEP_PAGINATION_OFFSET_THRESHOLD("proxy-deep-pagination-offset-threshold", String.valueOf(0), long.class, false),
+    
     /**
      * CDC server port.
      */
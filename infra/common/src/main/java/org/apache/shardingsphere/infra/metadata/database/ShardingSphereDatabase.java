@@ -88,10 +88,49 @@ public final class ShardingSphereDatabase {
      */
     public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
                                                 final DatabaseConfiguration databaseConfig, final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
-        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, instanceContext);
+        return create(name, protocolType, storageTypes, databaseConfig, props, instanceContext, false);
+    }
+    
+    /**
+     * Create database meta data.
+     *
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param storageTypes storage types
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param instanceContext instance context
+     * @param metaDataSnapshotEnabled whether to load table meta data from local snapshot
+     * @return database meta data
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final DatabaseConfiguration databaseConfig,
+                                                final ConfigurationProperties props, final InstanceContext instanceContext, final boolean metaDataSnapshotEnabled) throws SQLException {
+        return create(name, protocolType, storageTypes, databaseConfig, props, DatabaseRulesBuilder.build(name, protocolType, databaseConfig, instanceContext), metaDataSnapshotEnabled);
+    }
+    
+    /**
+     * Create database meta data with built rules.
+     *
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param storageTypes storage types
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param databaseRules built database rules
+     * @return database meta data
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
+                                                final DatabaseConfiguration databaseConfig, final ConfigurationProperties props, final Collection<ShardingSphereRule> databaseRules) throws SQLException {
+        return create(name, protocolType, storageTypes, databaseConfig, props, databaseRules, false);
+    }
+    
+    private static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final DatabaseConfiguration databaseConfig,
+                                                 final ConfigurationProperties props, final Collection<ShardingSphereRule> databaseRules, final boolean metaDataSnapshotEnabled) throws SQLException {
         Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(GenericSchemaBuilder
                 .build(new GenericSchemaBuilderMaterial(protocolType, storageTypes, DataSourceStateManager.getInstance().getEnabledDataSources(name, databaseConfig), databaseRules,
-                        props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name))));
+                        props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name), metaDataSnapshotEnabled)));
         SystemSchemaBuilder.build(name, protocolType, props).forEach(schemas::putIfAbsent);
         return create(name, protocolType, databaseConfig, databaseRules, schemas);
     }
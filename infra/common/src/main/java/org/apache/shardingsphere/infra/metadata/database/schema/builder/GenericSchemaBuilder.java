@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
+import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.infra.database.core.metadata.data.model.Constra
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.IndexMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.snapshot.SchemaMetaDataSnapshotRepository;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
@@ -39,6 +41,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaD
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -93,7 +96,10 @@ public final class GenericSchemaBuilder {
         if (materials.isEmpty()) {
             return Collections.emptyMap();
         }
-        return MetaDataLoader.load(materials);
+        String snapshotPath = material.getProps().getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH);
+        return !material.isMetaDataSnapshotEnabled() || Strings.isNullOrEmpty(snapshotPath)
+                ? MetaDataLoader.load(materials)
+                : MetaDataLoader.load(materials, new SchemaMetaDataSnapshotRepository(Paths.get(snapshotPath)));
     }
     
     private static Map<String, SchemaMetaData> translate(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterial material) {
@@ -50,6 +50,13 @@ public final class GenericSchemaBuilderMaterial {
     
     private final String defaultSchemaName;
     
+    private final boolean metaDataSnapshotEnabled;
+    
+    public GenericSchemaBuilderMaterial(final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final Map<String, DataSource> dataSourceMap,
+                                        final Collection<ShardingSphereRule> rules, final ConfigurationProperties props, final String defaultSchemaName) {
+        this(protocolType, storageTypes, dataSourceMap, rules, props, defaultSchemaName, false);
+    }
+    
     public GenericSchemaBuilderMaterial(final DatabaseType protocolType, final Map<String, StorageUnit> storageUnits,
                                         final Collection<ShardingSphereRule> rules, final ConfigurationProperties props, final String defaultSchemaName) {
         this(protocolType, storageUnits.entrySet().stream()
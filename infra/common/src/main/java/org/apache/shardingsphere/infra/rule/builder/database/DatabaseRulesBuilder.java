@@ -34,10 +34,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -55,22 +57,66 @@ public final class DatabaseRulesBuilder {
      * @param instanceContext instance context
      * @return built rules
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("rawtypes")
     public static Collection<ShardingSphereRule> build(final String databaseName, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig, final InstanceContext instanceContext) {
         Collection<ShardingSphereRule> result = new LinkedList<>();
         for (Entry<RuleConfiguration, DatabaseRuleBuilder> entry : getRuleBuilderMap(databaseConfig).entrySet()) {
-            RuleConfigurationChecker configChecker = OrderedSPILoader.getServicesByClass(
-                    RuleConfigurationChecker.class, Collections.singleton(entry.getKey().getClass())).get(entry.getKey().getClass());
-            Map<String, DataSource> dataSources = databaseConfig.getStorageUnits().entrySet().stream()
-                    .collect(Collectors.toMap(Entry::getKey, storageUnit -> storageUnit.getValue().getDataSource(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
-            if (null != configChecker) {
-                configChecker.check(databaseName, entry.getKey(), dataSources, result);
-            }
-            result.add(entry.getValue().build(entry.getKey(), databaseName, protocolType, dataSources, result, instanceContext));
+            result.add(buildRule(databaseName, protocolType, databaseConfig, entry, result, instanceContext));
         }
         return result;
     }
     
+    /**
+     * Build database rules and reuse previous rules.
+     * Rules may keep rules built before them, so previous rules are reused only until the first changed rule, and all rules after it are rebuilt.
+     *
+     * @param databaseName database name
+     * @param protocolType protocol type
+     * @param databaseConfig database configuration
+     * @param previousRules previous rules in building order
+     * @param changedRules changed rules which have been built by caller
+     * @param instanceContext instance context
+     * @return built rules
+     */
+    @SuppressWarnings("rawtypes")
+    public static Collection<ShardingSphereRule> build(final String databaseName, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
+                                                       final Collection<ShardingSphereRule> previousRules, final Collection<ShardingSphereRule> changedRules, final InstanceContext instanceContext) {
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        Iterator<ShardingSphereRule> previousRulesIterator = previousRules.iterator();
+        boolean reusable = true;
+        for (Entry<RuleConfiguration, DatabaseRuleBuilder> entry : getRuleBuilderMap(databaseConfig).entrySet()) {
+            Optional<ShardingSphereRule> reusedRule = reusable ? findReusableRule(entry.getKey(), previousRulesIterator, changedRules) : Optional.empty();
+            reusable = reusedRule.isPresent() && previousRules.contains(reusedRule.get());
+            result.add(reusedRule.isPresent() ? reusedRule.get() : buildRule(databaseName, protocolType, databaseConfig, entry, result, instanceContext));
+        }
+        return result;
+    }
+    
+    private static Optional<ShardingSphereRule> findReusableRule(final RuleConfiguration ruleConfig, final Iterator<ShardingSphereRule> previousRulesIterator,
+                                                                 final Collection<ShardingSphereRule> changedRules) {
+        if (previousRulesIterator.hasNext()) {
+            ShardingSphereRule previousRule = previousRulesIterator.next();
+            if (ruleConfig == previousRule.getConfiguration()) {
+                return Optional.of(previousRule);
+            }
+        }
+        return changedRules.stream().filter(each -> ruleConfig == each.getConfiguration()).findFirst();
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ShardingSphereRule buildRule(final String databaseName, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
+                                                final Entry<RuleConfiguration, DatabaseRuleBuilder> ruleBuilderEntry, final Collection<ShardingSphereRule> builtRules,
+                                                final InstanceContext instanceContext) {
+        RuleConfigurationChecker configChecker = OrderedSPILoader.getServicesByClass(
+                RuleConfigurationChecker.class, Collections.singleton(ruleBuilderEntry.getKey().getClass())).get(ruleBuilderEntry.getKey().getClass());
+        Map<String, DataSource> dataSources = databaseConfig.getStorageUnits().entrySet().stream()
+                .collect(Collectors.toMap(Entry::getKey, storageUnit -> storageUnit.getValue().getDataSource(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+        if (null != configChecker) {
+            configChecker.check(databaseName, ruleBuilderEntry.getKey(), dataSources, builtRules);
+        }
+        return ruleBuilderEntry.getValue().build(ruleBuilderEntry.getKey(), databaseName, protocolType, dataSources, builtRules, instanceContext);
+    }
+    
     /**
      * Build database rules.
      *
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.config.props;
 
+import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
@@ -27,6 +28,7 @@ import org.slf4j.event.Level;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -89,4 +91,39 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
     }
+    
+    @Test
+    void assertGetBoundStateAfterHandOver() {
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        BoundStateFixture boundState = props.getBoundState(BoundStateFixture.class, BoundStateFixture::new);
+        assertThat(props.getBoundState(BoundStateFixture.class, BoundStateFixture::new), sameInstance(boundState));
+        ConfigurationProperties alteredProps = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString())));
+        props.handOverBoundStates(alteredProps);
+        assertThat(alteredProps.getBoundState(BoundStateFixture.class, BoundStateFixture::new), sameInstance(boundState));
+        assertThat(boundState.getProps(), sameInstance(alteredProps));
+        alteredProps.closeBoundStates();
+        assertTrue(boundState.isClosed());
+    }
+    
+    @Getter
+    private static final class BoundStateFixture implements ConfigurationPropertiesBoundState {
+        
+        private ConfigurationProperties props;
+        
+        private boolean closed;
+        
+        BoundStateFixture(final ConfigurationProperties props) {
+            this.props = props;
+        }
+        
+        @Override
+        public void refresh(final ConfigurationProperties props) {
+            this.props = props;
+        }
+        
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
 }
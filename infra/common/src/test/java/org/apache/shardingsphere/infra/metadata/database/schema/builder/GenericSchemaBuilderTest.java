@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -30,11 +32,14 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -86,6 +91,27 @@ class GenericSchemaBuilderTest {
         assertTables(new ShardingSphereSchema(actual.values().iterator().next().getTables(), Collections.emptyMap()).getTables());
     }
     
+    @Test
+    void assertLoadAlteredTableWithSnapshotOnlyOnStartup() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH.getKey(), "snapshot")));
+        Collection<String> tableNames = Collections.singletonList("data_node_routed_table1");
+        when(MetaDataLoader.load(any(), any())).thenReturn(createSchemaMetaDataMap("data_node_routed_table1", "id"));
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("data_node_routed_table1", "id", "status"));
+        GenericSchemaBuilderMaterial startupMaterial = new GenericSchemaBuilderMaterial(databaseType, material.getStorageTypes(), material.getDataSourceMap(),
+                material.getRules(), props, DefaultDatabase.LOGIC_NAME, true);
+        assertFalse(GenericSchemaBuilder.build(tableNames, startupMaterial).get(DefaultDatabase.LOGIC_NAME).getTable("data_node_routed_table1").containsColumn("status"));
+        GenericSchemaBuilderMaterial refreshMaterial = new GenericSchemaBuilderMaterial(databaseType, material.getStorageTypes(), material.getDataSourceMap(),
+                material.getRules(), props, DefaultDatabase.LOGIC_NAME);
+        assertTrue(GenericSchemaBuilder.build(tableNames, refreshMaterial).get(DefaultDatabase.LOGIC_NAME).getTable("data_node_routed_table1").containsColumn("status"));
+    }
+    
+    private Map<String, SchemaMetaData> createSchemaMetaDataMap(final String tableName, final String... columnNames) {
+        Collection<ColumnMetaData> columns = Arrays.stream(columnNames).map(each -> new ColumnMetaData(each, Types.INTEGER, false, false, false, true, false, true)).collect(Collectors.toList());
+        TableMetaData tableMetaData = new TableMetaData(tableName, columns, Collections.emptyList(), Collections.emptyList());
+        return Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new SchemaMetaData(DefaultDatabase.LOGIC_NAME, Collections.singletonList(tableMetaData)));
+    }
+    
     private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
         if (!tableNames.isEmpty() && (tableNames.contains("data_node_routed_table1") || tableNames.contains("data_node_routed_table2"))) {
             Collection<TableMetaData> tableMetaDataList = tableNames.stream()
@@ -23,14 +23,25 @@ import org.apache.shardingsphere.infra.fixture.FixtureRule;
 import org.apache.shardingsphere.infra.fixture.FixtureRuleConfiguration;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.fixture.FixtureBuiltRulesAwareRule;
+import org.apache.shardingsphere.infra.rule.builder.fixture.FixtureDistributedRuleConfiguration;
+import org.apache.shardingsphere.infra.rule.builder.fixture.FixtureEnhancedRuleConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class DatabaseRulesBuilderTest {
@@ -42,4 +53,52 @@ class DatabaseRulesBuilderTest {
         assertThat(actual.next(), instanceOf(FixtureRule.class));
         assertFalse(actual.hasNext());
     }
+    
+    @Test
+    void assertBuildWithChangedFormerRule() {
+        FixtureEnhancedRuleConfiguration enhancedRuleConfig = new FixtureEnhancedRuleConfiguration();
+        List<ShardingSphereRule> previousRules = buildRules(new FixtureDistributedRuleConfiguration(), enhancedRuleConfig);
+        FixtureDistributedRuleConfiguration changedRuleConfig = new FixtureDistributedRuleConfiguration();
+        ShardingSphereRule changedRule = new FixtureBuiltRulesAwareRule(changedRuleConfig, Collections.emptyList());
+        List<ShardingSphereRule> actual = new ArrayList<>(DatabaseRulesBuilder.build("foo_db", new MySQLDatabaseType(),
+                new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Arrays.asList(changedRuleConfig, enhancedRuleConfig)),
+                previousRules, Collections.singleton(changedRule), mock(InstanceContext.class)));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), sameInstance(changedRule));
+        assertThat(actual.get(1), not(sameInstance(previousRules.get(1))));
+        Collection<ShardingSphereRule> builtRules = ((FixtureBuiltRulesAwareRule) actual.get(1)).getBuiltRules();
+        assertTrue(builtRules.contains(changedRule));
+        assertFalse(builtRules.contains(previousRules.get(0)));
+    }
+    
+    @Test
+    void assertBuildWithChangedLatterRule() {
+        FixtureDistributedRuleConfiguration distributedRuleConfig = new FixtureDistributedRuleConfiguration();
+        List<ShardingSphereRule> previousRules = buildRules(distributedRuleConfig, new FixtureEnhancedRuleConfiguration());
+        FixtureEnhancedRuleConfiguration changedRuleConfig = new FixtureEnhancedRuleConfiguration();
+        ShardingSphereRule changedRule = new FixtureBuiltRulesAwareRule(changedRuleConfig, previousRules);
+        List<ShardingSphereRule> actual = new ArrayList<>(DatabaseRulesBuilder.build("foo_db", new MySQLDatabaseType(),
+                new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Arrays.asList(distributedRuleConfig, changedRuleConfig)),
+                previousRules, Collections.singleton(changedRule), mock(InstanceContext.class)));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), sameInstance(previousRules.get(0)));
+        assertThat(actual.get(1), sameInstance(changedRule));
+    }
+    
+    @Test
+    void assertBuildWithDroppedFormerRule() {
+        FixtureEnhancedRuleConfiguration enhancedRuleConfig = new FixtureEnhancedRuleConfiguration();
+        List<ShardingSphereRule> previousRules = buildRules(new FixtureDistributedRuleConfiguration(), enhancedRuleConfig);
+        List<ShardingSphereRule> actual = new ArrayList<>(DatabaseRulesBuilder.build("foo_db", new MySQLDatabaseType(),
+                new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.singleton(enhancedRuleConfig)),
+                previousRules, Collections.emptyList(), mock(InstanceContext.class)));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), not(sameInstance(previousRules.get(1))));
+        assertTrue(((FixtureBuiltRulesAwareRule) actual.get(0)).getBuiltRules().isEmpty());
+    }
+    
+    private List<ShardingSphereRule> buildRules(final FixtureDistributedRuleConfiguration distributedRuleConfig, final FixtureEnhancedRuleConfiguration enhancedRuleConfig) {
+        return new ArrayList<>(DatabaseRulesBuilder.build("foo_db", new MySQLDatabaseType(),
+                new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Arrays.asList(distributedRuleConfig, enhancedRuleConfig)), mock(InstanceContext.class)));
+    }
 }
@@ -37,4 +37,15 @@ public interface DataSourcePoolActiveDetector extends TypedSPI {
      * @throws SQLException SQL exception
      */
     boolean containsActiveConnection(DataSource dataSource) throws SQLException;
+    
+    /**
+     * Whether connection could be got without waiting.
+     *
+     * @param dataSource data source pool to be detected
+     * @return connection could be got without waiting or not
+     * @throws SQLException SQL exception
+     */
+    default boolean isConnectionAvailable(DataSource dataSource) throws SQLException {
+        return true;
+    }
 }
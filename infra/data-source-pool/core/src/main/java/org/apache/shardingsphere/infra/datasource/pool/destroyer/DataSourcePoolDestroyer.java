@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.datasource.pool.destroyer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import javax.sql.DataSource;
@@ -49,6 +50,9 @@ public final class DataSourcePoolDestroyer {
     
     @SneakyThrows
     private void graceDestroy() {
+        for (DataSourcePoolDestroyListener each : ShardingSphereServiceLoader.getServiceInstances(DataSourcePoolDestroyListener.class)) {
+            each.beforeDestroy(dataSource);
+        }
         waitUntilActiveConnectionComplete();
         ((AutoCloseable) dataSource).close();
     }
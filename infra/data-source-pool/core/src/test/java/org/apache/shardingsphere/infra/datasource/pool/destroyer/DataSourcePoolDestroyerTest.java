@@ -44,4 +44,13 @@ class DataSourcePoolDestroyerTest {
         Awaitility.await().atMost(1L, TimeUnit.SECONDS).pollInterval(10L, TimeUnit.MILLISECONDS).until(dataSource::isClosed);
         assertTrue(dataSource.isClosed());
     }
+    
+    @Test
+    void assertAsyncDestroyWithConnectionHeldOutsideOfPool() throws SQLException {
+        MockedDataSource dataSource = new MockedDataSource();
+        dataSource.getConnection();
+        new DataSourcePoolDestroyer(dataSource).asyncDestroy();
+        Awaitility.await().atMost(1L, TimeUnit.SECONDS).pollInterval(10L, TimeUnit.MILLISECONDS).until(dataSource::isClosed);
+        assertTrue(dataSource.getOpenedConnections().isEmpty());
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.destroyer.fixture;
+
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyListener;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+public final class DataSourcePoolDestroyListenerFixture implements DataSourcePoolDestroyListener {
+    
+    @Override
+    public void beforeDestroy(final DataSource dataSource) {
+        if (!(dataSource instanceof MockedDataSource)) {
+            return;
+        }
+        for (Connection each : new ArrayList<>(((MockedDataSource) dataSource).getOpenedConnections())) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+}
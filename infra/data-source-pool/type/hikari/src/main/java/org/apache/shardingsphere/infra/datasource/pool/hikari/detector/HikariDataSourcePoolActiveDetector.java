@@ -38,6 +38,18 @@ public final class HikariDataSourcePoolActiveDetector implements DataSourcePoolA
         return null == hikariPoolMXBean ? 0 : (int) hikariPoolMXBean.getClass().getMethod("getActiveConnections").invoke(hikariPoolMXBean);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public boolean isConnectionAvailable(final DataSource dataSource) {
+        Object hikariPoolMXBean = dataSource.getClass().getMethod("getHikariPoolMXBean").invoke(dataSource);
+        if (null == hikariPoolMXBean) {
+            return true;
+        }
+        int idleConnections = (int) hikariPoolMXBean.getClass().getMethod("getIdleConnections").invoke(hikariPoolMXBean);
+        int totalConnections = (int) hikariPoolMXBean.getClass().getMethod("getTotalConnections").invoke(hikariPoolMXBean);
+        return idleConnections > 0 || totalConnections < (int) dataSource.getClass().getMethod("getMaximumPoolSize").invoke(dataSource);
+    }
+    
     @Override
     public String getType() {
         return "com.zaxxer.hikari.HikariDataSource";
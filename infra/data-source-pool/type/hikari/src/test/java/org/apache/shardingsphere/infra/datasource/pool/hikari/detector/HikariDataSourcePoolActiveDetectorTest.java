@@ -49,6 +49,21 @@ class HikariDataSourcePoolActiveDetectorTest {
         }
     }
     
+    @Test
+    void assertConnectionAvailableWhenEmptyPool() {
+        assertTrue(new HikariDataSourcePoolActiveDetector().isConnectionAvailable(new HikariDataSource()));
+    }
+    
+    @Test
+    void assertConnectionNotAvailableWhenPoolExhausted() throws SQLException {
+        HikariDataSource dataSource = createHikariDataSource();
+        dataSource.setMaximumPoolSize(1);
+        try (Connection ignored = dataSource.getConnection()) {
+            assertFalse(new HikariDataSourcePoolActiveDetector().isConnectionAvailable(dataSource));
+        }
+        assertTrue(new HikariDataSourcePoolActiveDetector().isConnectionAvailable(dataSource));
+    }
+    
     private HikariDataSource createHikariDataSource() {
         HikariConfig config = new HikariConfig();
         config.setDriverClassName(MockedDriver.class.getName());
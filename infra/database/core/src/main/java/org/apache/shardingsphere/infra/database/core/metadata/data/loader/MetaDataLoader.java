@@ -24,6 +24,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.type.TableMetaDataLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.snapshot.SchemaMetaDataSnapshotRefreshedListenerRegistry;
+import org.apache.shardingsphere.infra.database.core.metadata.data.snapshot.SchemaMetaDataSnapshotRepository;
+import org.apache.shardingsphere.infra.database.core.metadata.data.snapshot.SchemaMetaDataSnapshotSerializer;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 
@@ -36,6 +39,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -51,6 +55,9 @@ public final class MetaDataLoader {
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
+    private static final ExecutorService SNAPSHOT_REFRESH_EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataSnapshotRefresher-%d").build());
+    
     /**
      * Load meta data.
      *
@@ -59,10 +66,24 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        return load(materials, null);
+    }
+    
+    /**
+     * Load meta data with snapshot.
+     * 
+     * <p>If snapshot of material exists, it is used directly and refreshed from storage unit in background, otherwise the loaded meta data is persisted as snapshot.</p>
+     *
+     * @param materials meta data loader materials
+     * @param snapshotRepository schema meta data snapshot repository, null means snapshot disabled
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final SchemaMetaDataSnapshotRepository snapshotRepository) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (MetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            futures.add(EXECUTOR_SERVICE.submit(() -> null == snapshotRepository ? load(each) : loadWithSnapshot(each, snapshotRepository)));
         }
         try {
             for (Future<Collection<SchemaMetaData>> each : futures) {
@@ -79,6 +100,31 @@ public final class MetaDataLoader {
         return result;
     }
     
+    private static Collection<SchemaMetaData> loadWithSnapshot(final MetaDataLoaderMaterial material, final SchemaMetaDataSnapshotRepository snapshotRepository) throws SQLException {
+        Optional<Collection<SchemaMetaData>> snapshot = snapshotRepository.load(material);
+        if (snapshot.isPresent()) {
+            SNAPSHOT_REFRESH_EXECUTOR_SERVICE.execute(() -> refreshSnapshot(material, snapshot.get(), snapshotRepository));
+            return snapshot.get();
+        }
+        Collection<SchemaMetaData> result = load(material);
+        snapshotRepository.persist(material, result);
+        return result;
+    }
+    
+    private static void refreshSnapshot(final MetaDataLoaderMaterial material, final Collection<SchemaMetaData> snapshot, final SchemaMetaDataSnapshotRepository snapshotRepository) {
+        try {
+            Collection<SchemaMetaData> refreshed = load(material);
+            if (!SchemaMetaDataSnapshotSerializer.getContentFingerprint(snapshot).equals(SchemaMetaDataSnapshotSerializer.getContentFingerprint(refreshed))) {
+                snapshotRepository.persist(material, refreshed);
+                SchemaMetaDataSnapshotRefreshedListenerRegistry.notifyRefreshed(material);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Refresh schema meta data snapshot failed.", ex);
+        }
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
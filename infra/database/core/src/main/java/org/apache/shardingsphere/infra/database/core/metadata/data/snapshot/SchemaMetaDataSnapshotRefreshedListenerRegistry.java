@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Schema meta data snapshot refreshed listener registry.
+ * 
+ * <p>Snapshot may be refreshed before listener registered, unhandled materials are kept and handled by the next registered listener.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaMetaDataSnapshotRefreshedListenerRegistry {
+    
+    private static final Collection<SchemaMetaDataSnapshotRefreshedListener> LISTENERS = new LinkedList<>();
+    
+    private static final Collection<MetaDataLoaderMaterial> UNHANDLED_MATERIALS = new LinkedList<>();
+    
+    /**
+     * Register listener.
+     *
+     * @param listener schema meta data snapshot refreshed listener
+     */
+    public static synchronized void register(final SchemaMetaDataSnapshotRefreshedListener listener) {
+        LISTENERS.add(listener);
+        UNHANDLED_MATERIALS.removeIf(listener::onRefreshed);
+    }
+    
+    /**
+     * Unregister listener.
+     *
+     * @param listener schema meta data snapshot refreshed listener
+     */
+    public static synchronized void unregister(final SchemaMetaDataSnapshotRefreshedListener listener) {
+        LISTENERS.remove(listener);
+    }
+    
+    /**
+     * Notify listeners that schema meta data is different from snapshot after refreshed.
+     *
+     * @param material meta data loader material
+     */
+    public static synchronized void notifyRefreshed(final MetaDataLoaderMaterial material) {
+        boolean handled = false;
+        for (SchemaMetaDataSnapshotRefreshedListener each : LISTENERS) {
+            handled |= each.onRefreshed(material);
+        }
+        if (!handled) {
+            UNHANDLED_MATERIALS.add(material);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.snapshot;
+
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Schema meta data snapshot repository.
+ * 
+ * <p>Snapshots are stored as one file per meta data loader material, the file name is the fingerprint of data source followed by the fingerprint of actual tables.
+ * Persisting a snapshot removes the other snapshots of the same data source, so snapshots of outdated table sets do not pile up.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SchemaMetaDataSnapshotRepository {
+    
+    private static final String FILE_SUFFIX = ".snapshot";
+    
+    private final Path directory;
+    
+    /**
+     * Load schema meta data snapshot.
+     *
+     * @param material meta data loader material
+     * @return loaded schema meta data
+     * @throws SQLException SQL exception
+     */
+    public Optional<Collection<SchemaMetaData>> load(final MetaDataLoaderMaterial material) throws SQLException {
+        Path file = directory.resolve(getFileName(material));
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return Optional.of(SchemaMetaDataSnapshotSerializer.deserialize(input));
+        } catch (final IOException ex) {
+            log.warn("Load schema meta data snapshot `{}` failed, it will be reloaded from storage unit.", file, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Persist schema meta data snapshot.
+     *
+     * @param material meta data loader material
+     * @param schemaMetaDataList schema meta data list
+     * @throws SQLException SQL exception
+     */
+    public void persist(final MetaDataLoaderMaterial material, final Collection<SchemaMetaData> schemaMetaDataList) throws SQLException {
+        String dataSourceFingerprint = getDataSourceFingerprint(material);
+        String fileName = getFileName(dataSourceFingerprint, material);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, dataSourceFingerprint, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                SchemaMetaDataSnapshotSerializer.serialize(schemaMetaDataList, output);
+            }
+            Files.move(tempFile, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            removeOutdatedSnapshots(dataSourceFingerprint, fileName);
+        } catch (final IOException ex) {
+            log.warn("Persist schema meta data snapshot to `{}` failed.", directory, ex);
+        }
+    }
+    
+    private void removeOutdatedSnapshots(final String dataSourceFingerprint, final String currentFileName) throws IOException {
+        try (DirectoryStream<Path> outdatedFiles = Files.newDirectoryStream(directory, dataSourceFingerprint + "-*" + FILE_SUFFIX)) {
+            for (Path each : outdatedFiles) {
+                if (!currentFileName.equals(each.getFileName().toString())) {
+                    Files.deleteIfExists(each);
+                }
+            }
+        }
+    }
+    
+    private String getFileName(final MetaDataLoaderMaterial material) throws SQLException {
+        return getFileName(getDataSourceFingerprint(material), material);
+    }
+    
+    private String getFileName(final String dataSourceFingerprint, final MetaDataLoaderMaterial material) {
+        StringBuilder tables = new StringBuilder();
+        for (String each : new TreeSet<>(material.getActualTableNames())) {
+            tables.append('|').append(each);
+        }
+        return dataSourceFingerprint + "-" + Hashing.sha256().hashString(tables, StandardCharsets.UTF_8) + FILE_SUFFIX;
+    }
+    
+    private String getDataSourceFingerprint(final MetaDataLoaderMaterial material) throws SQLException {
+        StringBuilder result = new StringBuilder(material.getStorageType().getType()).append('|').append(material.getDefaultSchemaName());
+        try (Connection connection = material.getDataSource().getConnection()) {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            result.append('|').append(databaseMetaData.getURL()).append('|').append(databaseMetaData.getUserName()).append('|').append(connection.getCatalog());
+        }
+        return Hashing.sha256().hashString(result, StandardCharsets.UTF_8).toString();
+    }
+}
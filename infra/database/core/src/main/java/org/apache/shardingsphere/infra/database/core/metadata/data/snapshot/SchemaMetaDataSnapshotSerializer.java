@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.snapshot;
+
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.stream.Collectors;
+
+/**
+ * Schema meta data snapshot serializer.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaMetaDataSnapshotSerializer {
+    
+    private static final int MAGIC = 0x53534D44;
+    
+    private static final int VERSION = 1;
+    
+    /**
+     * Serialize schema meta data.
+     *
+     * @param schemaMetaDataList schema meta data list
+     * @param output data output
+     * @throws IOException IO exception
+     */
+    public static void serialize(final Collection<SchemaMetaData> schemaMetaDataList, final DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(schemaMetaDataList.size());
+        for (SchemaMetaData each : schemaMetaDataList) {
+            output.writeUTF(each.getName());
+            output.writeInt(each.getTables().size());
+            for (TableMetaData table : each.getTables()) {
+                writeTable(table, output);
+            }
+        }
+    }
+    
+    private static void writeTable(final TableMetaData table, final DataOutputStream output) throws IOException {
+        output.writeUTF(table.getName());
+        output.writeByte(table.getType().ordinal());
+        output.writeInt(table.getColumns().size());
+        for (ColumnMetaData each : table.getColumns()) {
+            output.writeUTF(each.getName());
+            output.writeInt(each.getDataType());
+            output.writeByte(toFlags(each));
+        }
+        output.writeInt(table.getIndexes().size());
+        for (IndexMetaData each : table.getIndexes()) {
+            output.writeUTF(each.getName());
+            output.writeBoolean(each.isUnique());
+            output.writeInt(each.getColumns().size());
+            for (String column : each.getColumns()) {
+                output.writeUTF(column);
+            }
+        }
+        output.writeInt(table.getConstraints().size());
+        for (ConstraintMetaData each : table.getConstraints()) {
+            output.writeUTF(each.getName());
+            output.writeBoolean(null != each.getReferencedTableName());
+            if (null != each.getReferencedTableName()) {
+                output.writeUTF(each.getReferencedTableName());
+            }
+        }
+    }
+    
+    private static int toFlags(final ColumnMetaData column) {
+        int result = column.isPrimaryKey() ? 1 : 0;
+        result |= column.isGenerated() ? 1 << 1 : 0;
+        result |= column.isCaseSensitive() ? 1 << 2 : 0;
+        result |= column.isVisible() ? 1 << 3 : 0;
+        result |= column.isUnsigned() ? 1 << 4 : 0;
+        result |= column.isNullable() ? 1 << 5 : 0;
+        return result;
+    }
+    
+    /**
+     * Get content fingerprint of schema meta data.
+     * 
+     * <p>The fingerprint covers columns, indexes and constraints of tables. Schemas, tables, indexes and constraints are sorted by name, so it does not depend on loading order.</p>
+     *
+     * @param schemaMetaDataList schema meta data list
+     * @return content fingerprint
+     */
+    @SneakyThrows(IOException.class)
+    public static String getContentFingerprint(final Collection<SchemaMetaData> schemaMetaDataList) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(result)) {
+            serialize(schemaMetaDataList.stream().sorted(Comparator.comparing(SchemaMetaData::getName)).map(SchemaMetaDataSnapshotSerializer::sort).collect(Collectors.toList()), output);
+        }
+        return Hashing.sha256().hashBytes(result.toByteArray()).toString();
+    }
+    
+    private static SchemaMetaData sort(final SchemaMetaData schemaMetaData) {
+        return new SchemaMetaData(schemaMetaData.getName(), schemaMetaData.getTables().stream().sorted(Comparator.comparing(TableMetaData::getName))
+                .map(each -> new TableMetaData(each.getName(), each.getColumns(), each.getIndexes().stream().sorted(Comparator.comparing(IndexMetaData::getName)).collect(Collectors.toList()),
+                        each.getConstraints().stream().sorted(Comparator.comparing(ConstraintMetaData::getName)).collect(Collectors.toList()), each.getType()))
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Deserialize schema meta data.
+     *
+     * @param input data input
+     * @return schema meta data list
+     * @throws IOException IO exception
+     */
+    public static Collection<SchemaMetaData> deserialize(final DataInputStream input) throws IOException {
+        if (MAGIC != input.readInt() || VERSION != input.readInt()) {
+            throw new IOException("Unsupported schema meta data snapshot format.");
+        }
+        int schemaCount = input.readInt();
+        Collection<SchemaMetaData> result = new ArrayList<>(schemaCount);
+        for (int i = 0; i < schemaCount; i++) {
+            String schemaName = input.readUTF();
+            int tableCount = input.readInt();
+            Collection<TableMetaData> tables = new LinkedList<>();
+            for (int j = 0; j < tableCount; j++) {
+                tables.add(readTable(input));
+            }
+            result.add(new SchemaMetaData(schemaName, tables));
+        }
+        return result;
+    }
+    
+    private static TableMetaData readTable(final DataInputStream input) throws IOException {
+        String tableName = input.readUTF();
+        TableType tableType = TableType.values()[input.readByte()];
+        int columnCount = input.readInt();
+        Collection<ColumnMetaData> columns = new LinkedList<>();
+        for (int i = 0; i < columnCount; i++) {
+            String columnName = input.readUTF();
+            int dataType = input.readInt();
+            int flags = input.readByte();
+            columns.add(new ColumnMetaData(columnName, dataType, 0 != (flags & 1), 0 != (flags & 1 << 1), 0 != (flags & 1 << 2), 0 != (flags & 1 << 3),
+                    0 != (flags & 1 << 4), 0 != (flags & 1 << 5)));
+        }
+        int indexCount = input.readInt();
+        Collection<IndexMetaData> indexes = new LinkedList<>();
+        for (int i = 0; i < indexCount; i++) {
+            IndexMetaData index = new IndexMetaData(input.readUTF());
+            index.setUnique(input.readBoolean());
+            int indexColumnCount = input.readInt();
+            for (int j = 0; j < indexColumnCount; j++) {
+                index.getColumns().add(input.readUTF());
+            }
+            indexes.add(index);
+        }
+        int constraintCount = input.readInt();
+        Collection<ConstraintMetaData> constraints = new LinkedList<>();
+        for (int i = 0; i < constraintCount; i++) {
+            String constraintName = input.readUTF();
+            constraints.add(new ConstraintMetaData(constraintName, input.readBoolean() ? input.readUTF() : null));
+        }
+        return new TableMetaData(tableName, columns, indexes, constraints, tableType);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.snapshot;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchemaMetaDataSnapshotRefreshedListenerRegistryTest {
+    
+    @Test
+    void assertNotifyRefreshedWithRegisteredListener() {
+        SchemaMetaDataSnapshotRefreshedListener listener = mock(SchemaMetaDataSnapshotRefreshedListener.class);
+        MetaDataLoaderMaterial material = mock(MetaDataLoaderMaterial.class);
+        when(listener.onRefreshed(material)).thenReturn(true);
+        SchemaMetaDataSnapshotRefreshedListenerRegistry.register(listener);
+        try {
+            SchemaMetaDataSnapshotRefreshedListenerRegistry.notifyRefreshed(material);
+            verify(listener).onRefreshed(material);
+        } finally {
+            SchemaMetaDataSnapshotRefreshedListenerRegistry.unregister(listener);
+        }
+    }
+    
+    @Test
+    void assertRegisterWithUnhandledMaterial() {
+        MetaDataLoaderMaterial material = mock(MetaDataLoaderMaterial.class);
+        SchemaMetaDataSnapshotRefreshedListenerRegistry.notifyRefreshed(material);
+        SchemaMetaDataSnapshotRefreshedListener listener = mock(SchemaMetaDataSnapshotRefreshedListener.class);
+        when(listener.onRefreshed(material)).thenReturn(true);
+        SchemaMetaDataSnapshotRefreshedListenerRegistry.register(listener);
+        SchemaMetaDataSnapshotRefreshedListenerRegistry.unregister(listener);
+        SchemaMetaDataSnapshotRefreshedListener nextListener = mock(SchemaMetaDataSnapshotRefreshedListener.class);
+        SchemaMetaDataSnapshotRefreshedListenerRegistry.register(nextListener);
+        SchemaMetaDataSnapshotRefreshedListenerRegistry.unregister(nextListener);
+        verify(listener).onRefreshed(material);
+        verify(nextListener, never()).onRefreshed(material);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.snapshot;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SchemaMetaDataSnapshotRepositoryTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "TRUNK");
+    
+    @TempDir
+    private Path directory;
+    
+    @Test
+    void assertLoadWithoutSnapshot() throws SQLException {
+        assertFalse(new SchemaMetaDataSnapshotRepository(directory).load(createMaterial("t_order")).isPresent());
+    }
+    
+    @Test
+    void assertPersistAndLoad() throws SQLException {
+        SchemaMetaDataSnapshotRepository repository = new SchemaMetaDataSnapshotRepository(directory);
+        Collection<SchemaMetaData> expected = Collections.singleton(new SchemaMetaData("foo_schema", Collections.emptyList()));
+        repository.persist(createMaterial("t_order"), expected);
+        Optional<Collection<SchemaMetaData>> actual = repository.load(createMaterial("t_order"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().iterator().next(), is(expected.iterator().next()));
+        assertFalse(repository.load(createMaterial("t_order_item")).isPresent());
+    }
+    
+    @Test
+    void assertPersistRemovesOutdatedSnapshot() throws SQLException {
+        SchemaMetaDataSnapshotRepository repository = new SchemaMetaDataSnapshotRepository(directory);
+        Collection<SchemaMetaData> schemaMetaDataList = Collections.singleton(new SchemaMetaData("foo_schema", Collections.emptyList()));
+        repository.persist(createMaterial("t_order"), schemaMetaDataList);
+        repository.persist(createMaterial("t_order_item"), schemaMetaDataList);
+        assertFalse(repository.load(createMaterial("t_order")).isPresent());
+        assertTrue(repository.load(createMaterial("t_order_item")).isPresent());
+    }
+    
+    private MetaDataLoaderMaterial createMaterial(final String actualTableName) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getURL()).thenReturn("jdbc:mock://127.0.0.1/foo_ds");
+        when(connection.getMetaData().getUserName()).thenReturn("root");
+        when(dataSource.getConnection()).thenReturn(connection);
+        return new MetaDataLoaderMaterial(Collections.singleton(actualTableName), dataSource, databaseType, "foo_schema");
+    }
+}
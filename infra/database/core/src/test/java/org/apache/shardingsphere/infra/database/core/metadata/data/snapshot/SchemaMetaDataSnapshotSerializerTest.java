@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.snapshot;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SchemaMetaDataSnapshotSerializerTest {
+    
+    @Test
+    void assertSerializeAndDeserialize() throws IOException {
+        IndexMetaData index = new IndexMetaData("idx_order_user");
+        index.getColumns().add("user_id");
+        index.setUnique(true);
+        TableMetaData table = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, true, true, false, true, true, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, true, true, false, true)), Collections.singletonList(index),
+                Arrays.asList(new ConstraintMetaData("fk_user", "t_user"), new ConstraintMetaData("fk_none", null)), TableType.TABLE);
+        TableMetaData view = new TableMetaData("v_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), TableType.VIEW);
+        Collection<SchemaMetaData> expected = Collections.singletonList(new SchemaMetaData("foo_schema", Arrays.asList(table, view)));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SchemaMetaDataSnapshotSerializer.serialize(expected, new DataOutputStream(bytes));
+        Collection<SchemaMetaData> actual = SchemaMetaDataSnapshotSerializer.deserialize(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(expected.iterator().next()));
+    }
+    
+    @Test
+    void assertGetContentFingerprintWithDifferentTableOrder() {
+        TableMetaData order = new TableMetaData("t_order", Collections.singletonList(new ColumnMetaData("order_id", Types.BIGINT, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        TableMetaData user = new TableMetaData("t_user", Collections.singletonList(new ColumnMetaData("user_id", Types.INTEGER, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        assertThat(SchemaMetaDataSnapshotSerializer.getContentFingerprint(Collections.singletonList(new SchemaMetaData("foo_schema", Arrays.asList(order, user)))),
+                is(SchemaMetaDataSnapshotSerializer.getContentFingerprint(Collections.singletonList(new SchemaMetaData("foo_schema", Arrays.asList(user, order))))));
+    }
+    
+    @Test
+    void assertGetContentFingerprintWithDifferentColumn() {
+        TableMetaData expected = new TableMetaData("t_order", Collections.singletonList(new ColumnMetaData("order_id", Types.BIGINT, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        TableMetaData actual = new TableMetaData("t_order", Collections.singletonList(new ColumnMetaData("order_id", Types.VARCHAR, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        assertThat(SchemaMetaDataSnapshotSerializer.getContentFingerprint(Collections.singletonList(new SchemaMetaData("foo_schema", Collections.singletonList(expected)))),
+                not(SchemaMetaDataSnapshotSerializer.getContentFingerprint(Collections.singletonList(new SchemaMetaData("foo_schema", Collections.singletonList(actual))))));
+    }
+    
+    @Test
+    void assertGetContentFingerprintWithDifferentIndex() {
+        IndexMetaData index = new IndexMetaData("idx_user");
+        index.getColumns().add("user_id");
+        TableMetaData expected = new TableMetaData("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        TableMetaData actual = new TableMetaData("t_order", Collections.emptyList(), Collections.singletonList(index), Collections.emptyList());
+        assertThat(SchemaMetaDataSnapshotSerializer.getContentFingerprint(Collections.singletonList(new SchemaMetaData("foo_schema", Collections.singletonList(expected)))),
+                not(SchemaMetaDataSnapshotSerializer.getContentFingerprint(Collections.singletonList(new SchemaMetaData("foo_schema", Collections.singletonList(actual))))));
+    }
+    
+    @Test
+    void assertDeserializeWithInvalidFormat() {
+        assertThrows(IOException.class, () -> SchemaMetaDataSnapshotSerializer.deserialize(new DataInputStream(new ByteArrayInputStream(new byte[]{0, 0, 0, 0, 0, 0, 0, 1}))));
+    }
+}
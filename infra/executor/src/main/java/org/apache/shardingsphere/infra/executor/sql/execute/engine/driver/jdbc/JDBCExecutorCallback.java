@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -26,8 +25,11 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.load.StorageUnitExecutionLoad;
+import org.apache.shardingsphere.infra.executor.sql.load.StorageUnitExecutionLoadRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
@@ -41,7 +43,6 @@ import java.util.Optional;
  *
  * @param <T> class type of return value
  */
-@RequiredArgsConstructor
 public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCExecutionUnit, T> {
     
     private final DatabaseType protocolType;
@@ -52,8 +53,23 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final boolean isExceptionThrown;
     
+    private final StorageUnitExecutionLoadRegistry executionLoadRegistry;
+    
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    public JDBCExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        this(protocolType, resourceMetaData, sqlStatement, isExceptionThrown, null);
+    }
+    
+    public JDBCExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown,
+                                final StorageUnitExecutionLoadRegistry executionLoadRegistry) {
+        this.protocolType = protocolType;
+        this.resourceMetaData = resourceMetaData;
+        this.sqlStatement = sqlStatement;
+        this.isExceptionThrown = isExceptionThrown;
+        this.executionLoadRegistry = executionLoadRegistry;
+    }
+    
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final String processId) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
@@ -74,9 +90,12 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
      */
     private T execute(final JDBCExecutionUnit jdbcExecutionUnit, final boolean isTrunkThread, final String processId) throws SQLException {
         SQLExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DatabaseType storageType = resourceMetaData.getStorageUnits().get(jdbcExecutionUnit.getExecutionUnit().getDataSourceName()).getStorageType();
-        ConnectionProperties connectionProps = resourceMetaData.getStorageUnits().get(jdbcExecutionUnit.getExecutionUnit().getDataSourceName()).getConnectionProperties();
+        StorageUnit storageUnit = resourceMetaData.getStorageUnits().get(jdbcExecutionUnit.getExecutionUnit().getDataSourceName());
+        DatabaseType storageType = storageUnit.getStorageType();
+        ConnectionProperties connectionProps = storageUnit.getConnectionProperties();
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        StorageUnitExecutionLoad executionLoad = null != executionLoadRegistry && executionLoadRegistry.isEnabled() ? executionLoadRegistry.get(storageUnit) : null;
+        long startNanoTime = null == executionLoad ? 0L : executionLoad.start();
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
@@ -94,6 +113,10 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            if (null != executionLoad) {
+                executionLoad.finish(startNanoTime);
+            }
         }
     }
     
@@ -91,4 +91,7 @@ public interface QueryResult extends ExecuteResult, AutoCloseable {
      * @return query result meta data
      */
     QueryResultMetaData getMetaData();
+    
+    @Override
+    void close() throws SQLException;
 }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.SpillableRows;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -30,6 +32,25 @@ import java.sql.SQLException;
 public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
     
     public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).loadColumnar(resultSet.getMetaData().getColumnCount(), resultSet));
+    }
+    
+    private JDBCMemoryQueryResult(final ResultSet resultSet, final SpillableRows rows) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), rows);
+    }
+    
+    /**
+     * Create JDBC memory query result, rows are spilled to local temporary files beyond memory result budget if it is enabled.
+     *
+     * @param resultSet result set
+     * @param databaseType database type
+     * @param budget memory result budget
+     * @return created JDBC memory query result
+     * @throws SQLException SQL exception
+     */
+    public static JDBCMemoryQueryResult create(final ResultSet resultSet, final DatabaseType databaseType, final MemoryResultBudget budget) throws SQLException {
+        return budget.isEnabled()
+                ? new JDBCMemoryQueryResult(resultSet, new QueryResultDataRowLoader(databaseType).loadSpillable(resultSet.getMetaData().getColumnCount(), resultSet, budget))
+                : new JDBCMemoryQueryResult(resultSet, databaseType);
     }
 }
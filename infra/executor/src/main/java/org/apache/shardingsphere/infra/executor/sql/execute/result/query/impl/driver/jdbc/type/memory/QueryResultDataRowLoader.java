@@ -19,7 +19,10 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.ColumnarRowBatch;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.SpillableRows;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -59,4 +62,54 @@ public final class QueryResultDataRowLoader {
         }
         return result;
     }
+    
+    /**
+     * Load query result data row into columnar row batch.
+     *
+     * @param columnCount column count
+     * @param resultSet result set
+     * @return columnar row batch
+     * @throws SQLException SQL exception
+     */
+    public ColumnarRowBatch loadColumnar(final int columnCount, final ResultSet resultSet) throws SQLException {
+        ColumnarRowBatch result = new ColumnarRowBatch(columnCount);
+        Object[] rowData = new Object[columnCount];
+        while (resultSet.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                Object rowValue = resultSetMapper.load(resultSet, columnIndex);
+                rowData[columnIndex - 1] = resultSet.wasNull() ? null : rowValue;
+            }
+            result.addRow(rowData);
+        }
+        return result;
+    }
+    
+    /**
+     * Load query result data row into spillable rows.
+     *
+     * @param columnCount column count
+     * @param resultSet result set
+     * @param budget memory result budget
+     * @return spillable rows
+     * @throws SQLException SQL exception
+     */
+    public SpillableRows loadSpillable(final int columnCount, final ResultSet resultSet, final MemoryResultBudget budget) throws SQLException {
+        SpillableRows result = new SpillableRows(budget);
+        try {
+            while (resultSet.next()) {
+                Object[] rowData = new Object[columnCount];
+                for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                    Object rowValue = resultSetMapper.load(resultSet, columnIndex);
+                    rowData[columnIndex - 1] = resultSet.wasNull() ? null : rowValue;
+                }
+                result.add(rowData);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            result.close();
+            throw ex;
+        }
+        return result;
+    }
 }
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
 
+import com.google.common.collect.Iterators;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.ColumnarRowBatch;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.SpillableRows;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -32,6 +35,7 @@ import java.io.InputStreamReader;
 import java.io.ObjectOutputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Iterator;
@@ -46,9 +50,14 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     
     private final Iterator<MemoryQueryResultDataRow> rows;
     
-    @Getter
+    private final SpillableRows spillableRows;
+    
+    private final ColumnarRowBatch rowBatch;
+    
     private MemoryQueryResultDataRow currentRow;
     
+    private int currentRowIndex = -1;
+    
     @Getter
     private long rowCount;
     
@@ -57,11 +66,39 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
         this.metaData = metaData;
         this.rows = rows.iterator();
+        spillableRows = null;
+        rowBatch = null;
         rowCount = rows.size();
     }
     
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final SpillableRows rows) {
+        this.metaData = metaData;
+        this.rows = Iterators.transform(rows, each -> new MemoryQueryResultDataRow(Arrays.asList(each)));
+        spillableRows = rows;
+        rowBatch = null;
+        rowCount = rows.getSize();
+    }
+    
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final ColumnarRowBatch rowBatch) {
+        this.metaData = metaData;
+        rows = null;
+        spillableRows = null;
+        this.rowBatch = rowBatch;
+        rowCount = rowBatch.getRowCount();
+    }
+    
     @Override
     public final boolean next() {
+        if (null != rowBatch) {
+            if (currentRowIndex < rowBatch.getRowCount()) {
+                currentRowIndex++;
+            }
+            if (currentRowIndex < rowBatch.getRowCount()) {
+                rowCount--;
+                return true;
+            }
+            return false;
+        }
         if (rows.hasNext()) {
             currentRow = rows.next();
             rowCount--;
@@ -71,23 +108,36 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
         return false;
     }
     
+    /**
+     * Judge whether current row exists.
+     *
+     * @return current row exists or not
+     */
+    public final boolean hasCurrentRow() {
+        return null == rowBatch ? null != currentRow : currentRowIndex >= 0 && currentRowIndex < rowBatch.getRowCount();
+    }
+    
+    private Object getCell(final int columnIndex) {
+        return null == rowBatch ? currentRow.getValue().get(columnIndex - 1) : rowBatch.getValue(currentRowIndex, columnIndex);
+    }
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCell(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCell(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        Object value = currentRow.getValue().get(columnIndex - 1);
+        Object value = getCell(columnIndex);
         wasNull = null == value;
         return getInputStream(value);
     }
@@ -115,5 +165,8 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     
     @Override
     public final void close() {
+        if (null != spillableRows) {
+            spillableRows.close();
+        }
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar;
+
+import lombok.Getter;
+
+/**
+ * Columnar row batch.
+ * 
+ * <p>Values of each column are stored in a column vector instead of a list per row.
+ * Integral, floating point and temporal values are stored in primitive arrays with null bitmaps, other values are stored by reference.
+ * Type of column vector is decided by the first not null value of the column, and falls back to reference storage if following values are in different types.</p>
+ */
+public final class ColumnarRowBatch {
+    
+    private final ColumnVector[] columns;
+    
+    @Getter
+    private int rowCount;
+    
+    public ColumnarRowBatch(final int columnCount) {
+        columns = new ColumnVector[columnCount];
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row values, which can be reused by caller after added
+     */
+    public void addRow(final Object[] row) {
+        for (int i = 0; i < columns.length; i++) {
+            append(i, row[i]);
+        }
+        rowCount++;
+    }
+    
+    private void append(final int columnIndex, final Object value) {
+        ColumnVector column = columns[columnIndex];
+        if (null == column) {
+            if (null == value) {
+                return;
+            }
+            column = createColumnVector(value.getClass());
+            for (int i = 0; i < rowCount; i++) {
+                column.append(null);
+            }
+            columns[columnIndex] = column;
+        }
+        if (!column.append(value)) {
+            ColumnVector objectColumn = new ObjectColumnVector();
+            for (int i = 0; i < rowCount; i++) {
+                objectColumn.append(column.get(i));
+            }
+            objectColumn.append(value);
+            columns[columnIndex] = objectColumn;
+        }
+    }
+    
+    private ColumnVector createColumnVector(final Class<?> valueClass) {
+        if (LongColumnVector.isSupported(valueClass)) {
+            return new LongColumnVector(valueClass);
+        }
+        if (DoubleColumnVector.isSupported(valueClass)) {
+            return new DoubleColumnVector(valueClass);
+        }
+        return TemporalColumnVector.isSupported(valueClass) ? new TemporalColumnVector(valueClass) : new ObjectColumnVector();
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, starts from 0
+     * @param columnIndex column index, starts from 1
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        ColumnVector column = columns[columnIndex - 1];
+        return null == column ? null : column.get(rowIndex);
+    }
+}
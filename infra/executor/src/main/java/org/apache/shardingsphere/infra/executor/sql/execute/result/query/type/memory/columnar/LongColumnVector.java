@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Column vector for integral values, including {@link Byte}, {@link Short}, {@link Integer} and {@link Long}.
+ */
+@RequiredArgsConstructor
+final class LongColumnVector extends PrimitiveColumnVector {
+    
+    private final Class<?> valueClass;
+    
+    private long[] values;
+    
+    /**
+     * Judge whether value class is supported.
+     *
+     * @param valueClass value class
+     * @return supported or not
+     */
+    static boolean isSupported(final Class<?> valueClass) {
+        return Integer.class == valueClass || Long.class == valueClass || Short.class == valueClass || Byte.class == valueClass;
+    }
+    
+    @Override
+    protected boolean accept(final Object value) {
+        return valueClass == value.getClass();
+    }
+    
+    @Override
+    protected int getCapacity() {
+        return null == values ? 0 : values.length;
+    }
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        values = copyOf(values, newCapacity);
+    }
+    
+    @Override
+    protected void set(final int rowIndex, final Object value) {
+        values[rowIndex] = ((Number) value).longValue();
+    }
+    
+    @Override
+    protected Object getNotNull(final int rowIndex) {
+        long result = values[rowIndex];
+        if (Integer.class == valueClass) {
+            return (int) result;
+        }
+        if (Long.class == valueClass) {
+            return result;
+        }
+        return Short.class == valueClass ? (Object) (short) result : (Object) (byte) result;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Column vector for values of any type.
+ */
+final class ObjectColumnVector implements ColumnVector {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public boolean append(final Object value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1));
+        }
+        values[size++] = value;
+        return true;
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Column vector for primitive values.
+ * 
+ * <p>Values are stored in a primitive array with a null bitmap, and boxed to the type of the first appended value only when they are read.</p>
+ */
+abstract class PrimitiveColumnVector implements ColumnVector {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    @Override
+    public final boolean append(final Object value) {
+        if (null != value && !accept(value)) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        if (null == value) {
+            nulls.set(size);
+        } else {
+            set(size, value);
+        }
+        size++;
+        return true;
+    }
+    
+    private void ensureCapacity(final int minCapacity) {
+        int capacity = getCapacity();
+        if (minCapacity > capacity) {
+            grow(Math.max(INITIAL_CAPACITY, Math.max(minCapacity, capacity + (capacity >> 1))));
+        }
+    }
+    
+    @Override
+    public final Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getNotNull(rowIndex);
+    }
+    
+    protected static long[] copyOf(final long[] original, final int newLength) {
+        return null == original ? new long[newLength] : Arrays.copyOf(original, newLength);
+    }
+    
+    protected abstract boolean accept(Object value);
+    
+    protected abstract int getCapacity();
+    
+    protected abstract void grow(int newCapacity);
+    
+    protected abstract void set(int rowIndex, Object value);
+    
+    protected abstract Object getNotNull(int rowIndex);
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Column vector for temporal values, including {@link Date}, {@link Time} and {@link Timestamp}.
+ * 
+ * <p>Epoch milliseconds are stored for all temporal values, nanoseconds are stored for timestamp additionally.</p>
+ */
+@RequiredArgsConstructor
+final class TemporalColumnVector extends PrimitiveColumnVector {
+    
+    private final Class<?> valueClass;
+    
+    private long[] millis;
+    
+    private int[] nanos;
+    
+    /**
+     * Judge whether value class is supported.
+     *
+     * @param valueClass value class
+     * @return supported or not
+     */
+    static boolean isSupported(final Class<?> valueClass) {
+        return Timestamp.class == valueClass || Date.class == valueClass || Time.class == valueClass;
+    }
+    
+    @Override
+    protected boolean accept(final Object value) {
+        return valueClass == value.getClass();
+    }
+    
+    @Override
+    protected int getCapacity() {
+        return null == millis ? 0 : millis.length;
+    }
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        millis = copyOf(millis, newCapacity);
+        if (Timestamp.class == valueClass) {
+            nanos = null == nanos ? new int[newCapacity] : Arrays.copyOf(nanos, newCapacity);
+        }
+    }
+    
+    @Override
+    protected void set(final int rowIndex, final Object value) {
+        millis[rowIndex] = ((java.util.Date) value).getTime();
+        if (Timestamp.class == valueClass) {
+            nanos[rowIndex] = ((Timestamp) value).getNanos();
+        }
+    }
+    
+    @Override
+    protected Object getNotNull(final int rowIndex) {
+        if (Timestamp.class == valueClass) {
+            Timestamp result = new Timestamp(millis[rowIndex]);
+            result.setNanos(nanos[rowIndex]);
+            return result;
+        }
+        return Date.class == valueClass ? new Date(millis[rowIndex]) : new Time(millis[rowIndex]);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertiesBoundState;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory budget of in memory results.
+ * 
+ * <p>The global budget is shared by all in memory results of the same meta data contexts, the budget per result bounds every single result.
+ * Rows beyond the budget are spilled to local temporary files by {@link SpillableRows}.</p>
+ */
+public final class MemoryResultBudget implements ConfigurationPropertiesBoundState {
+    
+    private final AtomicLong usedBytes = new AtomicLong();
+    
+    private volatile long globalBudgetBytes;
+    
+    private volatile long budgetBytesPerResult;
+    
+    public MemoryResultBudget(final ConfigurationProperties props) {
+        refresh(props);
+    }
+    
+    /**
+     * Get memory result budget of configuration properties.
+     *
+     * @param props configuration properties
+     * @return memory result budget
+     */
+    public static MemoryResultBudget getInstance(final ConfigurationProperties props) {
+        return props.getBoundState(MemoryResultBudget.class, MemoryResultBudget::new);
+    }
+    
+    @Override
+    public void refresh(final ConfigurationProperties props) {
+        long newGlobalBudgetBytes = props.<Long>getValue(ConfigurationPropertyKey.MEMORY_RESULT_GLOBAL_BUDGET_BYTES);
+        long newBudgetBytesPerResult = props.<Long>getValue(ConfigurationPropertyKey.MEMORY_RESULT_BUDGET_BYTES_PER_RESULT);
+        if (newGlobalBudgetBytes != globalBudgetBytes) {
+            globalBudgetBytes = newGlobalBudgetBytes;
+        }
+        if (newBudgetBytesPerResult != budgetBytesPerResult) {
+            budgetBytesPerResult = newBudgetBytesPerResult;
+        }
+    }
+    
+    /**
+     * Judge whether memory budget enabled.
+     *
+     * @return enabled or not
+     */
+    public boolean isEnabled() {
+        return globalBudgetBytes > 0L || budgetBytesPerResult > 0L;
+    }
+    
+    /**
+     * Try to acquire memory for one result.
+     *
+     * @param resultAcquiredBytes bytes already acquired by the result
+     * @param bytes bytes to be acquired
+     * @return acquired or not
+     */
+    public boolean tryAcquire(final long resultAcquiredBytes, final long bytes) {
+        long perResult = budgetBytesPerResult;
+        if (perResult > 0L && resultAcquiredBytes + bytes > perResult) {
+            return false;
+        }
+        long global = globalBudgetBytes;
+        if (global <= 0L) {
+            usedBytes.addAndGet(bytes);
+            return true;
+        }
+        long current;
+        do {
+            current = usedBytes.get();
+            if (current + bytes > global) {
+                return false;
+            }
+        } while (!usedBytes.compareAndSet(current, current + bytes));
+        return true;
+    }
+    
+    /**
+     * Acquire memory regardless of budget, it is used for rows which can not be spilled.
+     *
+     * @param bytes bytes to be acquired
+     */
+    public void forceAcquire(final long bytes) {
+        usedBytes.addAndGet(bytes);
+    }
+    
+    /**
+     * Release memory.
+     *
+     * @param bytes bytes to be released
+     */
+    public void release(final long bytes) {
+        usedBytes.addAndGet(-bytes);
+    }
+    
+    /**
+     * Get used bytes of all in memory results.
+     *
+     * @return used bytes
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+    
+    /**
+     * Estimate heap bytes of row.
+     *
+     * @param row row values
+     * @return estimated bytes
+     */
+    public static long estimateSize(final Object[] row) {
+        long result = 16L + 8L * row.length;
+        for (Object each : row) {
+            result += estimateSize(each);
+        }
+        return result;
+    }
+    
+    private static long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return 64L;
+        }
+        return value instanceof Number || value instanceof Boolean ? 16L : 32L;
+    }
+}
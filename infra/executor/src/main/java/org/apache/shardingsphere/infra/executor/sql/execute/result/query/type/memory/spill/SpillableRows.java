@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Spillable rows.
+ * 
+ * <p>Rows are kept in memory while {@link MemoryResultBudget} allows, the following rows are appended to a compressed local temporary file
+ * and read back sequentially, so the iteration order is the same as the appending order.
+ * Rows containing values whose types are not in {@link #SPILLABLE_TYPES} are pinned in memory and only their positions are written to the file,
+ * memory of pinned rows is still charged to the budget so that other rows are spilled earlier.
+ * All rows should be added before iteration, memory and temporary file are released when iteration finished or rows closed.</p>
+ */
+public final class SpillableRows implements Iterator<Object[]>, AutoCloseable {
+    
+    private static final long RESERVE_CHUNK_BYTES = 64L * 1024L;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int RESET_INTERVAL_ROWS = 1024;
+    
+    private static final Collection<Class<?>> SPILLABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, Character.class, BigInteger.class, BigDecimal.class, byte[].class, Date.class, Time.class, Timestamp.class,
+            LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class, Instant.class, UUID.class));
+    
+    private final MemoryResultBudget budget;
+    
+    private final Deque<Object[]> memoryRows = new ArrayDeque<>();
+    
+    private final Map<Long, Object[]> pinnedRows = new HashMap<>();
+    
+    private long acquiredBytes;
+    
+    private long usedBytes;
+    
+    private long pinnedBytes;
+    
+    private Path spillFile;
+    
+    private Deflater deflater;
+    
+    private ObjectOutputStream output;
+    
+    private Inflater inflater;
+    
+    private ObjectInputStream input;
+    
+    private long spilledCount;
+    
+    private long readSpilledCount;
+    
+    @Getter
+    private long size;
+    
+    public SpillableRows(final MemoryResultBudget budget) {
+        this.budget = budget;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row values
+     */
+    @SneakyThrows(IOException.class)
+    public void add(final Object[] row) {
+        size++;
+        if (null == output) {
+            long rowBytes = MemoryResultBudget.estimateSize(row);
+            if (reserve(rowBytes)) {
+                memoryRows.add(row);
+                usedBytes += rowBytes;
+                return;
+            }
+            openOutput();
+        }
+        spill(row);
+    }
+    
+    private boolean reserve(final long rowBytes) {
+        long lackBytes = usedBytes + rowBytes - acquiredBytes;
+        if (lackBytes <= 0L) {
+            return true;
+        }
+        long chunkBytes = Math.max(RESERVE_CHUNK_BYTES, lackBytes);
+        if (budget.tryAcquire(acquiredBytes, chunkBytes)) {
+            acquiredBytes += chunkBytes;
+            return true;
+        }
+        if (chunkBytes > lackBytes && budget.tryAcquire(acquiredBytes, lackBytes)) {
+            acquiredBytes += lackBytes;
+            return true;
+        }
+        return false;
+    }
+    
+    private void openOutput() throws IOException {
+        spillFile = Files.createTempFile("shardingsphere-spill-", ".tmp");
+        deflater = new Deflater(Deflater.BEST_SPEED);
+        output = new ObjectOutputStream(new BufferedOutputStream(new DeflaterOutputStream(Files.newOutputStream(spillFile), deflater, BUFFER_SIZE), BUFFER_SIZE));
+    }
+    
+    private void spill(final Object[] row) throws IOException {
+        if (isSpillable(row)) {
+            output.writeObject(row);
+        } else {
+            pin(row);
+            output.writeObject(spilledCount);
+        }
+        spilledCount++;
+        if (0L == spilledCount % RESET_INTERVAL_ROWS) {
+            output.reset();
+        }
+    }
+    
+    private boolean isSpillable(final Object[] row) {
+        for (Object each : row) {
+            if (null != each && !SPILLABLE_TYPES.contains(each.getClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void pin(final Object[] row) {
+        long rowBytes = MemoryResultBudget.estimateSize(row);
+        budget.forceAcquire(rowBytes);
+        pinnedBytes += rowBytes;
+        pinnedRows.put(spilledCount, row);
+    }
+    
+    private Object[] unpin(final Object position) {
+        Object[] result = pinnedRows.remove(position);
+        long rowBytes = MemoryResultBudget.estimateSize(result);
+        budget.release(rowBytes);
+        pinnedBytes -= rowBytes;
+        return result;
+    }
+    
+    /**
+     * Judge whether rows spilled to file.
+     *
+     * @return spilled or not
+     */
+    public boolean isSpilled() {
+        return null != spillFile;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !memoryRows.isEmpty() || readSpilledCount < spilledCount;
+    }
+    
+    @Override
+    public Object[] next() {
+        if (!memoryRows.isEmpty()) {
+            return nextMemoryRow();
+        }
+        if (readSpilledCount < spilledCount) {
+            return nextSpilledRow();
+        }
+        throw new NoSuchElementException();
+    }
+    
+    private Object[] nextMemoryRow() {
+        Object[] result = memoryRows.poll();
+        usedBytes -= MemoryResultBudget.estimateSize(result);
+        if (memoryRows.isEmpty()) {
+            usedBytes = 0L;
+        }
+        if (acquiredBytes - usedBytes >= RESERVE_CHUNK_BYTES) {
+            budget.release(acquiredBytes - usedBytes);
+            acquiredBytes = usedBytes;
+        }
+        if (!hasNext()) {
+            close();
+        }
+        return result;
+    }
+    
+    @SneakyThrows({IOException.class, ClassNotFoundException.class})
+    private Object[] nextSpilledRow() {
+        if (null == input) {
+            openInput();
+        }
+        Object value = input.readObject();
+        readSpilledCount++;
+        Object[] result = value instanceof Object[] ? (Object[]) value : unpin(value);
+        if (readSpilledCount == spilledCount) {
+            close();
+        }
+        return result;
+    }
+    
+    private void openInput() throws IOException {
+        output.close();
+        output = null;
+        deflater.end();
+        deflater = null;
+        inflater = new Inflater();
+        input = new ObjectInputStream(new BufferedInputStream(new InflaterInputStream(Files.newInputStream(spillFile), inflater, BUFFER_SIZE), BUFFER_SIZE));
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public void close() {
+        memoryRows.clear();
+        pinnedRows.clear();
+        spilledCount = readSpilledCount;
+        budget.release(acquiredBytes + pinnedBytes);
+        acquiredBytes = 0L;
+        usedBytes = 0L;
+        pinnedBytes = 0L;
+        if (null != output) {
+            output.close();
+            output = null;
+        }
+        if (null != deflater) {
+            deflater.end();
+            deflater = null;
+        }
+        if (null != input) {
+            input.close();
+            input = null;
+        }
+        if (null != inflater) {
+            inflater.end();
+            inflater = null;
+        }
+        if (null != spillFile) {
+            Files.deleteIfExists(spillFile);
+            spillFile = null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.load;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution load of storage unit.
+ * 
+ * <p>Tracks SQL units in flight on the storage unit and an exponentially weighted moving average of their latency.</p>
+ */
+@RequiredArgsConstructor
+public final class StorageUnitExecutionLoad {
+    
+    private static final int LATENCY_SMOOTHING_FACTOR = 5;
+    
+    private static final long SLOW_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
+    private final int maxPoolSize;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong averageLatencyNanos = new AtomicLong();
+    
+    /**
+     * Start execution of one SQL unit.
+     *
+     * @return start nano time
+     */
+    public long start() {
+        inFlightCount.incrementAndGet();
+        return System.nanoTime();
+    }
+    
+    /**
+     * Finish execution of one SQL unit.
+     *
+     * @param startNanoTime start nano time
+     */
+    public void finish(final long startNanoTime) {
+        inFlightCount.decrementAndGet();
+        long latencyNanos = System.nanoTime() - startNanoTime;
+        averageLatencyNanos.accumulateAndGet(latencyNanos, (average, sample) -> 0L == average ? sample : average + (sample - average) / LATENCY_SMOOTHING_FACTOR);
+    }
+    
+    /**
+     * Get count of SQL units in flight.
+     *
+     * @return count of SQL units in flight
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get moving average latency nanoseconds.
+     *
+     * @return moving average latency nanoseconds
+     */
+    public long getAverageLatencyNanos() {
+        return averageLatencyNanos.get();
+    }
+    
+    /**
+     * Get max connections size for one query by current load.
+     * 
+     * <p>Half of idle pooled connections are left for concurrent queries. A busy storage unit, which has half of the pool in flight, is limited to that share
+     * to avoid exhausting the pool, an idle but slow storage unit may take that share even if it exceeds the configured size.
+     * The configured size is returned if pool size is unknown.</p>
+     *
+     * @param maxConnectionsSizePerQuery configured max connections size per query
+     * @return max connections size
+     */
+    public int getMaxConnectionsSize(final int maxConnectionsSizePerQuery) {
+        if (maxPoolSize <= 0) {
+            return maxConnectionsSizePerQuery;
+        }
+        int inFlight = getInFlightCount();
+        int fairShare = Math.max((maxPoolSize - inFlight) / 2, 1);
+        if (inFlight * 2 >= maxPoolSize) {
+            return Math.min(maxConnectionsSizePerQuery, fairShare);
+        }
+        if (inFlight * 4 < maxPoolSize && getAverageLatencyNanos() >= SLOW_LATENCY_NANOS) {
+            return Math.max(maxConnectionsSizePerQuery, fairShare);
+        }
+        return maxConnectionsSizePerQuery;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.load;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertiesBoundState;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+
+/**
+ * Storage unit execution load registry.
+ * 
+ * <p>Loads are weakly bound to storage unit instances, so they are discarded together with storage units which are altered or unregistered.
+ * Registry is bound to configuration properties, so every meta data contexts tracks loads of its own storage units.</p>
+ */
+public final class StorageUnitExecutionLoadRegistry implements ConfigurationPropertiesBoundState {
+    
+    private final LoadingCache<StorageUnit, StorageUnitExecutionLoad> loads = CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(each -> new StorageUnitExecutionLoad(getMaxPoolSize(each))));
+    
+    private volatile boolean enabled;
+    
+    public StorageUnitExecutionLoadRegistry(final ConfigurationProperties props) {
+        refresh(props);
+    }
+    
+    /**
+     * Get storage unit execution load registry bound to configuration properties.
+     *
+     * @param props configuration properties
+     * @return storage unit execution load registry
+     */
+    public static StorageUnitExecutionLoadRegistry getInstance(final ConfigurationProperties props) {
+        return props.getBoundState(StorageUnitExecutionLoadRegistry.class, StorageUnitExecutionLoadRegistry::new);
+    }
+    
+    @Override
+    public void refresh(final ConfigurationProperties props) {
+        enabled = props.<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTIONS_SIZE_PER_QUERY_ENABLED);
+        if (!enabled) {
+            loads.invalidateAll();
+        }
+    }
+    
+    /**
+     * Judge whether execution loads are tracked.
+     *
+     * @return tracked or not
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get execution load of storage unit.
+     *
+     * @param storageUnit storage unit
+     * @return execution load
+     */
+    public StorageUnitExecutionLoad get(final StorageUnit storageUnit) {
+        return loads.getUnchecked(storageUnit);
+    }
+    
+    private static int getMaxPoolSize(final StorageUnit storageUnit) {
+        if (null == storageUnit.getDataSourcePoolProperties()) {
+            return 0;
+        }
+        Object result = storageUnit.getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties().get("maxPoolSize");
+        try {
+            return null == result ? 0 : Integer.parseInt(result.toString());
+        } catch (final NumberFormatException ignored) {
+            return 0;
+        }
+    }
+}
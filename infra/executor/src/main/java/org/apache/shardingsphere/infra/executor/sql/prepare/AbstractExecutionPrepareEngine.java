@@ -67,18 +67,30 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<SQLUnit>> entry : aggregateSQLUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<SQLUnit> sqlUnits = entry.getValue();
-            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            int maxConnectionsSize = getMaxConnectionsSize(dataSourceName, maxConnectionsSizePerQuery);
+            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits, maxConnectionsSize);
+            ConnectionMode connectionMode = maxConnectionsSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0), sqlUnitGroups, connectionMode));
         }
         return decorate(routeContext, result, reportContext);
     }
     
-    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits, final int maxConnectionsSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSize ? sqlUnits.size() / maxConnectionsSize : sqlUnits.size() / maxConnectionsSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
+    /**
+     * Get max connections size of data source for current query.
+     *
+     * @param dataSourceName data source name
+     * @param maxConnectionsSizePerQuery configured max connections size per query
+     * @return max connections size, must be positive
+     */
+    protected int getMaxConnectionsSize(final String dataSourceName, final int maxConnectionsSizePerQuery) {
+        return maxConnectionsSizePerQuery;
+    }
+    
     protected abstract List<ExecutionGroup<T>> group(String dataSourceName, int connectionOffset, List<List<SQLUnit>> sqlUnitGroups, ConnectionMode connectionMode) throws SQLException;
     
     private Map<String, List<SQLUnit>> aggregateSQLUnitGroups(final Collection<ExecutionUnit> executionUnits) {
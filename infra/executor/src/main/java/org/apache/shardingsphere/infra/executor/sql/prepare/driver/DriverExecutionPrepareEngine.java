@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.load.StorageUnitExecutionLoadRegistry;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -57,10 +58,20 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     private final Map<String, StorageUnit> storageUnits;
     
+    private final StorageUnitExecutionLoadRegistry executionLoadRegistry;
+    
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final DatabaseConnectionManager<C> databaseConnectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final Map<String, StorageUnit> storageUnits) {
+        this(type, maxConnectionsSizePerQuery, null, databaseConnectionManager, statementManager, option, rules, storageUnits);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final StorageUnitExecutionLoadRegistry executionLoadRegistry,
+                                        final DatabaseConnectionManager<C> databaseConnectionManager,
+                                        final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
+                                        final Map<String, StorageUnit> storageUnits) {
         super(maxConnectionsSizePerQuery, rules);
+        this.executionLoadRegistry = executionLoadRegistry;
         this.databaseConnectionManager = databaseConnectionManager;
         this.statementManager = statementManager;
         this.option = option;
@@ -83,6 +94,13 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    @Override
+    protected int getMaxConnectionsSize(final String dataSourceName, final int maxConnectionsSizePerQuery) {
+        return null != executionLoadRegistry && executionLoadRegistry.isEnabled()
+                ? executionLoadRegistry.get(storageUnits.get(dataSourceName)).getMaxConnectionsSize(maxConnectionsSizePerQuery)
+                : maxConnectionsSizePerQuery;
+    }
+    
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final int connectionOffset, final List<List<SQLUnit>> sqlUnitGroups, final ConnectionMode connectionMode) throws SQLException {
         List<ExecutionGroup<T>> result = new LinkedList<>();
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ColumnarRowBatchTest {
+    
+    @Test
+    void assertGetValueWithPrimitiveColumns() {
+        ColumnarRowBatch actual = new ColumnarRowBatch(4);
+        for (int i = 0; i < 100; i++) {
+            actual.addRow(new Object[]{i, (long) i * 10L, 0 == i % 2 ? null : i / 2D, (short) i});
+        }
+        assertThat(actual.getRowCount(), is(100));
+        assertThat(actual.getValue(99, 1), is(99));
+        assertThat(actual.getValue(99, 2), is(990L));
+        assertNull(actual.getValue(98, 3));
+        assertThat(actual.getValue(99, 3), is(49.5D));
+        assertThat(actual.getValue(99, 4), is((short) 99));
+    }
+    
+    @Test
+    void assertGetValueWithTemporalColumns() {
+        ColumnarRowBatch actual = new ColumnarRowBatch(2);
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        actual.addRow(new Object[]{timestamp, new Date(86400000L)});
+        assertThat(actual.getValue(0, 1), is(timestamp));
+        assertThat(actual.getValue(0, 1), instanceOf(Timestamp.class));
+        assertThat(actual.getValue(0, 2), is(new Date(86400000L)));
+    }
+    
+    @Test
+    void assertGetValueWithLeadingNulls() {
+        ColumnarRowBatch actual = new ColumnarRowBatch(2);
+        actual.addRow(new Object[]{null, null});
+        actual.addRow(new Object[]{1, null});
+        assertNull(actual.getValue(0, 1));
+        assertThat(actual.getValue(1, 1), is(1));
+        assertNull(actual.getValue(1, 2));
+    }
+    
+    @Test
+    void assertGetValueWithMixedTypes() {
+        ColumnarRowBatch actual = new ColumnarRowBatch(1);
+        actual.addRow(new Object[]{1});
+        actual.addRow(new Object[]{null});
+        actual.addRow(new Object[]{2L});
+        actual.addRow(new Object[]{BigDecimal.ONE});
+        assertThat(actual.getValue(0, 1), is(1));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(2, 1), is(2L));
+        assertThat(actual.getValue(3, 1), is(BigDecimal.ONE));
+    }
+}
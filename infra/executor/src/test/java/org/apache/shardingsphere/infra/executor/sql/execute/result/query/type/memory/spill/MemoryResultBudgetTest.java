@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryResultBudgetTest {
+    
+    @Test
+    void assertGetInstance() {
+        ConfigurationProperties props = createProperties(0L, 1024L);
+        assertThat(MemoryResultBudget.getInstance(props), sameInstance(MemoryResultBudget.getInstance(props)));
+        assertThat(MemoryResultBudget.getInstance(props), not(sameInstance(MemoryResultBudget.getInstance(createProperties(0L, 1024L)))));
+    }
+    
+    @Test
+    void assertIsEnabled() {
+        MemoryResultBudget budget = new MemoryResultBudget(new ConfigurationProperties(new Properties()));
+        assertFalse(budget.isEnabled());
+        budget.refresh(createProperties(0L, 1024L));
+        assertTrue(budget.isEnabled());
+    }
+    
+    @Test
+    void assertRefreshByHandOverBoundStates() {
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        MemoryResultBudget budget = MemoryResultBudget.getInstance(props);
+        ConfigurationProperties alteredProps = createProperties(0L, 1024L);
+        props.handOverBoundStates(alteredProps);
+        assertThat(MemoryResultBudget.getInstance(alteredProps), sameInstance(budget));
+        assertTrue(budget.isEnabled());
+    }
+    
+    @Test
+    void assertTryAcquireWithBudgetPerResult() {
+        MemoryResultBudget budget = new MemoryResultBudget(createProperties(0L, 1024L));
+        assertTrue(budget.tryAcquire(0L, 1024L));
+        assertFalse(budget.tryAcquire(1024L, 1L));
+        budget.release(1024L);
+        assertThat(budget.getUsedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertTryAcquireWithGlobalBudget() {
+        MemoryResultBudget budget = new MemoryResultBudget(createProperties(1024L, 0L));
+        assertTrue(budget.tryAcquire(0L, 1000L));
+        assertFalse(budget.tryAcquire(0L, 100L));
+        assertThat(budget.getUsedBytes(), is(1000L));
+        budget.release(1000L);
+        assertThat(budget.getUsedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertEstimateSize() {
+        assertThat(MemoryResultBudget.estimateSize(new Object[]{null, 1, "ab"}), is(16L + 24L + 16L + 44L));
+    }
+    
+    private ConfigurationProperties createProperties(final long globalBudgetBytes, final long budgetBytesPerResult) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.MEMORY_RESULT_GLOBAL_BUDGET_BYTES.getKey(), String.valueOf(globalBudgetBytes)),
+                new Property(ConfigurationPropertyKey.MEMORY_RESULT_BUDGET_BYTES_PER_RESULT.getKey(), String.valueOf(budgetBytesPerResult))));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableRowsTest {
+    
+    private MemoryResultBudget budget;
+    
+    @BeforeEach
+    void setUp() {
+        budget = new MemoryResultBudget(new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.MEMORY_RESULT_BUDGET_BYTES_PER_RESULT.getKey(), String.valueOf(1024L)))));
+    }
+    
+    @Test
+    void assertIterateInMemory() {
+        try (SpillableRows rows = new SpillableRows(budget)) {
+            rows.add(new Object[]{1, "foo"});
+            rows.add(new Object[]{2, "bar"});
+            assertFalse(rows.isSpilled());
+            assertThat(rows.getSize(), is(2L));
+            assertThat(rows.next()[1], is("foo"));
+            assertThat(rows.next()[1], is("bar"));
+            assertFalse(rows.hasNext());
+        }
+        assertThat(budget.getUsedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertIterateWithSpilledRows() {
+        Object pinned = new Object();
+        try (SpillableRows rows = new SpillableRows(budget)) {
+            for (int i = 0; i < 3000; i++) {
+                rows.add(new Object[]{i, "value_" + i, 1000 == i ? pinned : null});
+            }
+            assertTrue(rows.isSpilled());
+            assertThat(rows.getSize(), is(3000L));
+            for (int i = 0; i < 3000; i++) {
+                Object[] actual = rows.next();
+                assertThat(actual[0], is(i));
+                assertThat(actual[1], is("value_" + i));
+                if (1000 == i) {
+                    assertThat(actual[2], sameInstance(pinned));
+                }
+            }
+            assertFalse(rows.hasNext());
+            assertFalse(rows.isSpilled());
+        }
+        assertThat(budget.getUsedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertChargePinnedRows() {
+        try (SpillableRows rows = new SpillableRows(budget)) {
+            for (int i = 0; i < 100; i++) {
+                rows.add(new Object[]{i, "value_" + i});
+            }
+            assertTrue(rows.isSpilled());
+            long usedBytesBeforePinned = budget.getUsedBytes();
+            rows.add(new Object[]{100, new Object()});
+            assertThat(budget.getUsedBytes(), greaterThan(usedBytesBeforePinned));
+        }
+        assertThat(budget.getUsedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertCloseBeforeIterateFinished() {
+        SpillableRows rows = new SpillableRows(budget);
+        for (int i = 0; i < 100; i++) {
+            rows.add(new Object[]{i, "value_" + i});
+        }
+        assertTrue(rows.isSpilled());
+        rows.next();
+        rows.close();
+        assertFalse(rows.hasNext());
+        assertFalse(rows.isSpilled());
+        assertThat(budget.getUsedBytes(), is(0L));
+    }
+}
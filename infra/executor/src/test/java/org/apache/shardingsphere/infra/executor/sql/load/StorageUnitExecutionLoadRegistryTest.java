@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.load;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+class StorageUnitExecutionLoadRegistryTest {
+    
+    @Test
+    void assertGetInstancePerProperties() {
+        ConfigurationProperties props = createProperties(true);
+        StorageUnitExecutionLoadRegistry actual = StorageUnitExecutionLoadRegistry.getInstance(props);
+        assertTrue(actual.isEnabled());
+        assertThat(StorageUnitExecutionLoadRegistry.getInstance(props), sameInstance(actual));
+        assertThat(StorageUnitExecutionLoadRegistry.getInstance(createProperties(true)), not(sameInstance(actual)));
+        assertFalse(StorageUnitExecutionLoadRegistry.getInstance(new ConfigurationProperties(new Properties())).isEnabled());
+    }
+    
+    @Test
+    void assertRefreshWhenPropertiesAltered() {
+        ConfigurationProperties props = createProperties(true);
+        StorageUnitExecutionLoadRegistry registry = StorageUnitExecutionLoadRegistry.getInstance(props);
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        StorageUnitExecutionLoad load = registry.get(storageUnit);
+        assertThat(registry.get(storageUnit), is(load));
+        ConfigurationProperties alteredProps = createProperties(false);
+        props.handOverBoundStates(alteredProps);
+        assertThat(StorageUnitExecutionLoadRegistry.getInstance(alteredProps), sameInstance(registry));
+        assertFalse(registry.isEnabled());
+        assertThat(registry.get(storageUnit), not(sameInstance(load)));
+    }
+    
+    private ConfigurationProperties createProperties(final boolean enabled) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.ADAPTIVE_CONNECTIONS_SIZE_PER_QUERY_ENABLED.getKey(), String.valueOf(enabled))));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageUnitExecutionLoadTest {
+    
+    @Test
+    void assertStartAndFinish() {
+        StorageUnitExecutionLoad load = new StorageUnitExecutionLoad(10);
+        long startNanoTime = load.start();
+        assertThat(load.getInFlightCount(), is(1));
+        load.finish(startNanoTime - 1000L);
+        assertThat(load.getInFlightCount(), is(0));
+        assertTrue(load.getAverageLatencyNanos() > 0L);
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeWithUnknownPoolSize() {
+        StorageUnitExecutionLoad load = new StorageUnitExecutionLoad(0);
+        load.start();
+        assertThat(load.getMaxConnectionsSize(5), is(5));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeWhenBusy() {
+        StorageUnitExecutionLoad load = new StorageUnitExecutionLoad(10);
+        for (int i = 0; i < 6; i++) {
+            load.start();
+        }
+        assertThat(load.getMaxConnectionsSize(5), is(2));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeWhenExhausted() {
+        StorageUnitExecutionLoad load = new StorageUnitExecutionLoad(2);
+        load.start();
+        load.start();
+        assertThat(load.getMaxConnectionsSize(5), is(1));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeWhenIdleAndFast() {
+        StorageUnitExecutionLoad load = new StorageUnitExecutionLoad(20);
+        assertThat(load.getMaxConnectionsSize(1), is(1));
+    }
+    
+    @Test
+    void assertGetMaxConnectionsSizeWhenIdleAndSlow() {
+        StorageUnitExecutionLoad load = new StorageUnitExecutionLoad(20);
+        load.finish(load.start() - TimeUnit.MILLISECONDS.toNanos(50L));
+        assertThat(load.getMaxConnectionsSize(1), is(10));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.merge;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.merge.engine.decorator.impl.TransparentResultDecorator;
@@ -69,17 +70,36 @@ public final class MergeEngine {
      * @throws SQLException SQL exception
      */
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext) throws SQLException {
-        Optional<MergedResult> mergedResult = executeMerge(queryResults, sqlStatementContext);
+        return doMerge(queryResults, sqlStatementContext, null);
+    }
+    
+    /**
+     * Merge with pagination context instead of the one of SQL statement context.
+     *
+     * @param queryResults query results
+     * @param sqlStatementContext SQL statement context
+     * @param paginationContext pagination context, null means using the one of SQL statement context
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final PaginationContext paginationContext) throws SQLException {
+        return doMerge(queryResults, sqlStatementContext, paginationContext);
+    }
+    
+    private MergedResult doMerge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final PaginationContext paginationContext) throws SQLException {
+        Optional<MergedResult> mergedResult = executeMerge(queryResults, sqlStatementContext, paginationContext);
         Optional<MergedResult> result = mergedResult.isPresent() ? Optional.of(decorate(mergedResult.get(), sqlStatementContext)) : decorate(queryResults.get(0), sqlStatementContext);
         return result.orElseGet(() -> new TransparentMergedResult(queryResults.get(0)));
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private Optional<MergedResult> executeMerge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext) throws SQLException {
+    private Optional<MergedResult> executeMerge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final PaginationContext paginationContext) throws SQLException {
         for (Entry<ShardingSphereRule, ResultProcessEngine> entry : engines.entrySet()) {
             if (entry.getValue() instanceof ResultMergerEngine) {
                 ResultMerger resultMerger = ((ResultMergerEngine) entry.getValue()).newInstance(database.getName(), database.getProtocolType(), entry.getKey(), props, sqlStatementContext);
-                return Optional.of(resultMerger.merge(queryResults, sqlStatementContext, database, connectionContext));
+                return Optional.of(null == paginationContext
+                        ? resultMerger.merge(queryResults, sqlStatementContext, database, connectionContext)
+                        : resultMerger.merge(queryResults, sqlStatementContext, paginationContext, database, connectionContext));
             }
         }
         return Optional.empty();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.merge.engine.merger;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -42,4 +43,20 @@ public interface ResultMerger {
      * @throws SQLException SQL exception
      */
     MergedResult merge(List<QueryResult> queryResults, SQLStatementContext sqlStatementContext, ShardingSphereDatabase database, ConnectionContext connectionContext) throws SQLException;
+    
+    /**
+     * Merge query results with pagination context instead of the one of SQL statement context.
+     * 
+     * @param queryResults query results
+     * @param sqlStatementContext SQL statement context
+     * @param paginationContext pagination context
+     * @param database database
+     * @param connectionContext connection context
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    default MergedResult merge(List<QueryResult> queryResults, SQLStatementContext sqlStatementContext, PaginationContext paginationContext,
+                               ShardingSphereDatabase database, ConnectionContext connectionContext) throws SQLException {
+        return merge(queryResults, sqlStatementContext, database, connectionContext);
+    }
 }
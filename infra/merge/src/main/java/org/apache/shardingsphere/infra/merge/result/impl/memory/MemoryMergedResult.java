@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.SpillableRows;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -49,20 +53,62 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
+    private final SpillableRows spillableRows;
+    
     private MemoryQueryResultRow currentResultSetRow;
     
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRows.iterator();
-        if (!memoryQueryResultRows.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRows.get(0);
+        this(rule, schema, sqlStatementContext, queryResults, null);
+    }
+    
+    protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults,
+                                 final MemoryResultBudget budget) throws SQLException {
+        PeekingIterator<MemoryQueryResultRow> memoryQueryResultRows = Iterators.peekingIterator(initIterator(rule, schema, sqlStatementContext, queryResults));
+        if (memoryQueryResultRows.hasNext()) {
+            currentResultSetRow = memoryQueryResultRows.peek();
         }
+        spillableRows = null != budget && budget.isEnabled() ? createSpillableRows(memoryQueryResultRows, budget) : null;
+        memoryResultSetRows = null == spillableRows ? memoryQueryResultRows : Iterators.transform(spillableRows, MemoryQueryResultRow::new);
+    }
+    
+    private SpillableRows createSpillableRows(final Iterator<MemoryQueryResultRow> memoryQueryResultRows, final MemoryResultBudget budget) {
+        SpillableRows result = new SpillableRows(budget);
+        try {
+            while (memoryQueryResultRows.hasNext()) {
+                result.add(memoryQueryResultRows.next().getData());
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            result.close();
+            throw ex;
+        }
+        return result;
     }
     
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
+    /**
+     * Initialize memory query result rows as iterator.
+     * 
+     * <p>Rows are taken one by one in iteration order, and spilled as taken if memory result budget is enabled.
+     * Merged results holding many rows can override it with an iterator which drops rows already taken,
+     * so only the rows within budget are kept in memory.</p>
+     *
+     * @param rule rule
+     * @param schema schema
+     * @param sqlStatementContext SQL statement context
+     * @param queryResults query results
+     * @return memory query result rows iterator
+     * @throws SQLException SQL exception
+     */
+    protected Iterator<MemoryQueryResultRow> initIterator(final T rule, final ShardingSphereSchema schema,
+                                                          final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        return init(rule, schema, sqlStatementContext, queryResults).iterator();
+    }
+    
     @Override
     public final boolean next() {
         if (memoryResultSetRows.hasNext()) {
@@ -102,4 +148,11 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() {
+        if (null != spillableRows) {
+            spillableRows.close();
+        }
+    }
 }
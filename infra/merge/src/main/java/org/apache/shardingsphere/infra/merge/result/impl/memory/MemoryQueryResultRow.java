@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
@@ -29,6 +31,7 @@ import java.sql.SQLException;
 @RequiredArgsConstructor
 public final class MemoryQueryResultRow {
     
+    @Getter(AccessLevel.PACKAGE)
     private final Object[] data;
     
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
@@ -63,4 +63,9 @@ public final class TransparentMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return queryResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        queryResult.close();
+    }
 }
@@ -17,7 +17,16 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.fixture.TestMemoryMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.test.fixture.infra.rule.MockedRule;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -28,8 +37,11 @@ import java.sql.Clob;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -102,4 +114,23 @@ class MemoryMergedResultTest {
     void assertWasNull() {
         assertFalse(memoryMergedResult.wasNull());
     }
+    
+    @Test
+    void assertCloseWithPartlyConsumedSpilledRows() throws SQLException {
+        MemoryResultBudget budget = new MemoryResultBudget(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.MEMORY_RESULT_BUDGET_BYTES_PER_RESULT.getKey(), "150"))));
+        MemoryMergedResult<MockedRule> actual = new MemoryMergedResult<MockedRule>(null, null, null, Collections.emptyList(), budget) {
+            
+            @Override
+            protected List<MemoryQueryResultRow> init(final MockedRule rule, final ShardingSphereSchema schema,
+                                                      final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
+                return Arrays.asList(new MemoryQueryResultRow(new Object[]{"a"}), new MemoryQueryResultRow(new Object[]{"b"}), new MemoryQueryResultRow(new Object[]{"c"}));
+            }
+        };
+        assertThat(budget.getUsedBytes(), is(132L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("a"));
+        actual.close();
+        assertThat(budget.getUsedBytes(), is(0L));
+        assertFalse(actual.next());
+    }
 }
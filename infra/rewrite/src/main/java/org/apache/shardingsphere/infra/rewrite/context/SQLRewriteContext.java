@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGenerators;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.DefaultTokenGeneratorBuilder;
@@ -59,6 +60,9 @@ public final class SQLRewriteContext {
     
     private final ConnectionContext connectionContext;
     
+    @Getter(AccessLevel.NONE)
+    private SQLRewriteTemplate sqlRewriteTemplate;
+    
     public SQLRewriteContext(final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext, final String sql, final List<Object> params,
                              final ConnectionContext connectionContext, final HintValueContext hintValueContext) {
         this.database = database;
@@ -96,4 +100,16 @@ public final class SQLRewriteContext {
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(database.getName(), database.getSchemas(), sqlStatementContext, parameters, connectionContext));
     }
+    
+    /**
+     * Get SQL rewrite template, which is compiled once and shared by all route units unless SQL tokens changed.
+     *
+     * @return SQL rewrite template
+     */
+    public SQLRewriteTemplate getSQLRewriteTemplate() {
+        if (null == sqlRewriteTemplate || sqlRewriteTemplate.getSqlTokens().size() != sqlTokens.size()) {
+            sqlRewriteTemplate = new SQLRewriteTemplate(sql, sqlTokens);
+        }
+        return sqlRewriteTemplate;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>Compiled once for SQL and SQL tokens, and shared by SQL builders of all route units.
+ * SQL tokens are sorted, conjunction ranges are computed and texts of route unit independent SQL tokens are rendered in advance,
+ * so SQL builders only need to render route unit aware SQL tokens.</p>
+ */
+public final class SQLRewriteTemplate {
+    
+    @Getter
+    private final String sql;
+    
+    @Getter
+    private final List<SQLToken> sqlTokens;
+    
+    private final String[] sqlTokenTexts;
+    
+    private final int[] conjunctionStartIndexes;
+    
+    private final int[] conjunctionStopIndexes;
+    
+    @Getter
+    private final int estimatedLength;
+    
+    public SQLRewriteTemplate(final String sql, final Collection<SQLToken> sqlTokens) {
+        this.sql = sql;
+        this.sqlTokens = new ArrayList<>(sqlTokens);
+        Collections.sort(this.sqlTokens);
+        int sqlTokenCount = this.sqlTokens.size();
+        sqlTokenTexts = new String[sqlTokenCount];
+        conjunctionStartIndexes = new int[sqlTokenCount];
+        conjunctionStopIndexes = new int[sqlTokenCount];
+        int length = sqlTokenCount > 0 ? this.sqlTokens.get(0).getStartIndex() : sql.length();
+        for (int i = 0; i < sqlTokenCount; i++) {
+            SQLToken each = this.sqlTokens.get(i);
+            if (!(each instanceof RouteUnitAware) && !(each instanceof ComposableSQLToken)) {
+                sqlTokenTexts[i] = each.toString();
+                length += sqlTokenTexts[i].length();
+            }
+            conjunctionStartIndexes[i] = getConjunctionStartIndex(each);
+            conjunctionStopIndexes[i] = sqlTokenCount - 1 == i ? sql.length() : this.sqlTokens.get(i + 1).getStartIndex();
+            length += Math.max(conjunctionStopIndexes[i] - conjunctionStartIndexes[i], 0);
+        }
+        estimatedLength = length;
+    }
+    
+    /**
+     * Get pre-rendered text of SQL token.
+     *
+     * @param sqlTokenIndex index of SQL token
+     * @return pre-rendered text, null if SQL token is route unit aware or composable
+     */
+    public String getSQLTokenText(final int sqlTokenIndex) {
+        return sqlTokenTexts[sqlTokenIndex];
+    }
+    
+    /**
+     * Append conjunction text after SQL token.
+     *
+     * @param sqlTokenIndex index of SQL token
+     * @param builder string builder to be appended
+     */
+    public void appendConjunctionText(final int sqlTokenIndex, final StringBuilder builder) {
+        builder.append(sql, conjunctionStartIndexes[sqlTokenIndex], conjunctionStopIndexes[sqlTokenIndex]);
+    }
+    
+    /**
+     * Get conjunction text after SQL token which is not a top level SQL token, such as SQL tokens in composable SQL token.
+     *
+     * @param sqlToken SQL token
+     * @return conjunction text
+     */
+    public String getConjunctionText(final SQLToken sqlToken) {
+        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
+        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? sql.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
+        return sql.substring(getConjunctionStartIndex(sqlToken), stopIndex);
+    }
+    
+    private int getConjunctionStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+}
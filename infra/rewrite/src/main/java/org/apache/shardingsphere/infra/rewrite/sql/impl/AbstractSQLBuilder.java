@@ -20,13 +20,13 @@ package org.apache.shardingsphere.infra.rewrite.sql.impl;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -43,44 +43,35 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         if (context.getSqlTokens().isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            if (each instanceof ComposableSQLToken) {
-                result.append(getComposableSQLTokenText((ComposableSQLToken) each));
+        SQLRewriteTemplate template = context.getSQLRewriteTemplate();
+        List<SQLToken> sqlTokens = template.getSqlTokens();
+        StringBuilder result = new StringBuilder(template.getEstimatedLength());
+        result.append(template.getSql(), 0, sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
+            String sqlTokenText = template.getSQLTokenText(i);
+            if (null != sqlTokenText) {
+                result.append(sqlTokenText);
+            } else if (each instanceof ComposableSQLToken) {
+                result.append(getComposableSQLTokenText(template, (ComposableSQLToken) each));
             } else if (each instanceof SubstitutableColumnNameToken) {
                 result.append(((SubstitutableColumnNameToken) each).toString(routeUnit));
             } else {
                 result.append(getSQLTokenText(each));
             }
-            result.append(getConjunctionText(each));
+            template.appendConjunctionText(i, result);
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
+    private String getComposableSQLTokenText(final SQLRewriteTemplate template, final ComposableSQLToken composableSQLToken) {
         StringBuilder result = new StringBuilder();
         for (SQLToken each : composableSQLToken.getSqlTokens()) {
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(template.getConjunctionText(each));
         }
         return result.toString();
     }
-    
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
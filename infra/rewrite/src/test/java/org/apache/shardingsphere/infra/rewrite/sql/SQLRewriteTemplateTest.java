@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SQLRewriteTemplateTest {
+    
+    @Test
+    void assertNewInstance() {
+        SQLToken tableToken = new RouteUnitAwareSQLTokenFixture(14, 16);
+        SQLToken columnToken = new SQLTokenFixture(24, 25);
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=?", Arrays.asList(columnToken, tableToken));
+        assertThat(actual.getSqlTokens(), is(Arrays.asList(tableToken, columnToken)));
+        assertNull(actual.getSQLTokenText(0));
+        assertThat(actual.getSQLTokenText(1), is("XXX"));
+        StringBuilder conjunctionText = new StringBuilder();
+        actual.appendConjunctionText(0, conjunctionText);
+        assertThat(conjunctionText.toString(), is(" WHERE "));
+        assertThat(actual.getConjunctionText(columnToken), is("=?"));
+    }
+}
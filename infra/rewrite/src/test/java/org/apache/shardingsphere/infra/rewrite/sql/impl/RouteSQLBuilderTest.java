@@ -18,13 +18,16 @@
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -37,7 +40,9 @@ class RouteSQLBuilderTest {
     void assertToSQLWithNormalSQLToken() {
         SQLRewriteContext context = mock(SQLRewriteContext.class);
         when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
-        when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
+        List<SQLToken> sqlTokens = Collections.singletonList(new SQLTokenFixture(14, 16));
+        when(context.getSqlTokens()).thenReturn(sqlTokens);
+        when(context.getSQLRewriteTemplate()).thenReturn(new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=?", sqlTokens));
         assertThat(new RouteSQLBuilder(context, createRouteUnit()).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
     
@@ -45,7 +50,9 @@ class RouteSQLBuilderTest {
     void assertToSQLWithRouteUnitAwareSQLToken() {
         SQLRewriteContext context = mock(SQLRewriteContext.class);
         when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
-        when(context.getSqlTokens()).thenReturn(Collections.singletonList(new RouteUnitAwareSQLTokenFixture(14, 16)));
+        List<SQLToken> sqlTokens = Collections.singletonList(new RouteUnitAwareSQLTokenFixture(14, 16));
+        when(context.getSqlTokens()).thenReturn(sqlTokens);
+        when(context.getSQLRewriteTemplate()).thenReturn(new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=?", sqlTokens));
         assertThat(new RouteSQLBuilder(context, createRouteUnit()).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
     }
     
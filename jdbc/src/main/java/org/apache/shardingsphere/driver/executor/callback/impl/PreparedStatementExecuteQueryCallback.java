@@ -19,6 +19,8 @@ package org.apache.shardingsphere.driver.executor.callback.impl;
 
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.spill.MemoryResultBudget;
+import org.apache.shardingsphere.infra.executor.sql.load.StorageUnitExecutionLoadRegistry;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -33,8 +35,9 @@ import java.sql.Statement;
 public final class PreparedStatementExecuteQueryCallback extends ExecuteQueryCallback {
     
     public PreparedStatementExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
-                                                 final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+                                                 final boolean isExceptionThrown, final StorageUnitExecutionLoadRegistry executionLoadRegistry,
+                                                 final MemoryResultBudget memoryResultBudget) {
+        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown, executionLoadRegistry, memoryResultBudget);
     }
     
     @Override
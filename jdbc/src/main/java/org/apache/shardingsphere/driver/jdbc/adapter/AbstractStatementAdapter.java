@@ -27,6 +27,8 @@ import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOper
 import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
@@ -38,6 +40,7 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.LinkedList;
 
 /**
  * Adapter for {@code Statement}.
@@ -56,6 +59,12 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     private boolean closed;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<QueryResult> executedQueryResults = new LinkedList<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<MergedResult> executedMergedResults = new LinkedList<>();
+    
     protected final boolean isNeedImplicitCommitTransaction(final ShardingSphereConnection connection, final SQLStatement sqlStatement, final boolean multiExecutionUnits) {
         if (!connection.getAutoCommit()) {
             return false;
@@ -82,6 +91,29 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         }
     }
     
+    /**
+     * Replace query results and merged result of last execution, which are closed with statement.
+     *
+     * @param queryResults query results
+     * @param mergedResult merged result
+     * @throws SQLException SQL exception
+     */
+    protected final void replaceExecutedResults(final Collection<QueryResult> queryResults, final MergedResult mergedResult) throws SQLException {
+        closeExecutedResults();
+        executedQueryResults.addAll(queryResults);
+        executedMergedResults.add(mergedResult);
+    }
+    
+    private void closeExecutedResults() throws SQLException {
+        try {
+            new ForceExecuteTemplate<MergedResult>().execute(executedMergedResults, MergedResult::close);
+            new ForceExecuteTemplate<QueryResult>().execute(executedQueryResults, QueryResult::close);
+        } finally {
+            executedMergedResults.clear();
+            executedQueryResults.clear();
+        }
+    }
+    
     protected abstract boolean isAccumulate();
     
     protected abstract Collection<? extends Statement> getRoutedStatements();
@@ -220,6 +252,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
+            closeExecutedResults();
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
             if (null != getExecutor()) {
                 getExecutor().close();
@@ -93,6 +93,13 @@ public final class MultiplexPipelineChannel implements PipelineChannel {
         return findChannel().poll();
     }
     
+    @Override
+    public void registerReadinessCallback(final PipelineChannelReadinessCallback readinessCallback) {
+        for (PipelineChannel each : channels) {
+            each.registerReadinessCallback(readinessCallback);
+        }
+    }
+    
     @Override
     public void ack(final List<Record> records) {
         findChannel().ack(records);
@@ -58,6 +58,13 @@ public interface PipelineChannel {
      */
     List<Record> poll();
     
+    /**
+     * Register readiness callback, which is called after records pushed.
+     *
+     * @param readinessCallback readiness callback
+     */
+    void registerReadinessCallback(PipelineChannelReadinessCallback readinessCallback);
+    
     /**
      * Ack the last batch.
      *
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.channel.memory;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelReadinessCallback;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 
@@ -39,6 +40,8 @@ public final class MemoryPipelineChannel implements PipelineChannel {
     
     private final PipelineChannelAckCallback ackCallback;
     
+    private volatile PipelineChannelReadinessCallback readinessCallback;
+    
     public MemoryPipelineChannel(final int blockQueueSize, final PipelineChannelAckCallback ackCallback) {
         queue = blockQueueSize < 1 ? new SynchronousQueue<>(true) : new ArrayBlockingQueue<>(blockQueueSize, true);
         this.ackCallback = ackCallback;
@@ -48,6 +51,9 @@ public final class MemoryPipelineChannel implements PipelineChannel {
     @Override
     public void push(final List<Record> records) {
         queue.put(records);
+        if (null != readinessCallback) {
+            readinessCallback.onReady();
+        }
     }
     
     @SneakyThrows(InterruptedException.class)
@@ -79,6 +85,11 @@ public final class MemoryPipelineChannel implements PipelineChannel {
         return null == result ? Collections.emptyList() : result;
     }
     
+    @Override
+    public void registerReadinessCallback(final PipelineChannelReadinessCallback readinessCallback) {
+        this.readinessCallback = readinessCallback;
+    }
+    
     @Override
     public void ack(final List<Record> records) {
         ackCallback.onAck(records);
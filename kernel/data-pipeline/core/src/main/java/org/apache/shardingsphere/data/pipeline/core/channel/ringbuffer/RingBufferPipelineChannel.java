@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelReadinessCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>It is designed for one producer thread and one consumer thread, which is how dumpers and importers use a channel.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final List<?>[] slots;
+    
+    private final int mask;
+    
+    private final long recordsCapacity;
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private final AtomicLong consumerSequence = new AtomicLong();
+    
+    private final AtomicLong pendingRecordsCount = new AtomicLong();
+    
+    private volatile PipelineChannelReadinessCallback readinessCallback;
+    
+    public RingBufferPipelineChannel(final int slotsCount, final long recordsCapacity, final RingBufferWaitStrategy waitStrategy, final PipelineChannelAckCallback ackCallback) {
+        int size = 1;
+        while (size < slotsCount) {
+            size <<= 1;
+        }
+        slots = new List<?>[size];
+        mask = size - 1;
+        this.recordsCapacity = recordsCapacity;
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void push(final List<Record> records) {
+        long sequence = producerSequence.get();
+        while (sequence - consumerSequence.get() >= slots.length || isRecordsCapacityExceeded(records.size())) {
+            waitStrategy.await();
+        }
+        slots[(int) sequence & mask] = records;
+        pendingRecordsCount.addAndGet(records.size());
+        producerSequence.lazySet(sequence + 1L);
+        if (null != readinessCallback) {
+            readinessCallback.onReady();
+        }
+    }
+    
+    private boolean isRecordsCapacityExceeded(final int recordsCount) {
+        long pendingCount = pendingRecordsCount.get();
+        return pendingCount > 0L && pendingCount + recordsCount > recordsCapacity;
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Record> result = null;
+        do {
+            List<Record> records = take();
+            if (null == records) {
+                if (System.nanoTime() - deadlineNanos >= 0L) {
+                    break;
+                }
+                waitStrategy.await();
+                continue;
+            }
+            if (records.isEmpty()) {
+                continue;
+            }
+            if (null == result && records.size() >= batchSize) {
+                return records;
+            }
+            if (null == result) {
+                result = new ArrayList<>(Math.max(batchSize, records.size()));
+            }
+            result.addAll(records);
+        } while ((null == result || result.size() < batchSize) && System.nanoTime() - deadlineNanos < 0L);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        long sequence = consumerSequence.get();
+        if (sequence >= producerSequence.get()) {
+            return Collections.emptyList();
+        }
+        return getSlot(sequence);
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = take();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private List<Record> take() {
+        long sequence = consumerSequence.get();
+        if (sequence >= producerSequence.get()) {
+            return null;
+        }
+        List<Record> result = getSlot(sequence);
+        slots[(int) sequence & mask] = null;
+        consumerSequence.lazySet(sequence + 1L);
+        pendingRecordsCount.addAndGet(-result.size());
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Record> getSlot(final long sequence) {
+        return (List<Record>) slots[(int) sequence & mask];
+    }
+    
+    @Override
+    public void registerReadinessCallback(final PipelineChannelReadinessCallback readinessCallback) {
+        this.readinessCallback = readinessCallback;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
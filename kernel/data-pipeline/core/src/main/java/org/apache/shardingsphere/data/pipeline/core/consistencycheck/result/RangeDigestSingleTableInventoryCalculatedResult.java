@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.UnsignedBytes;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Range digest single table inventory calculated result.
+ *
+ * <p>Records digests are the leaves and range digest is their parent, so different records could be located without comparing raw data.</p>
+ */
+@Getter
+@Slf4j
+public final class RangeDigestSingleTableInventoryCalculatedResult implements SingleTableInventoryCalculatedResult {
+    
+    private final Object maxUniqueKeyValue;
+    
+    private final int recordsCount;
+    
+    private final HashCode digest;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<Object, HashCode> recordDigests;
+    
+    private final boolean limitReached;
+    
+    public RangeDigestSingleTableInventoryCalculatedResult(final Object maxUniqueKeyValue, final Map<Object, HashCode> recordDigests) {
+        this(maxUniqueKeyValue, recordDigests, false);
+    }
+    
+    public RangeDigestSingleTableInventoryCalculatedResult(final Object maxUniqueKeyValue, final Map<Object, HashCode> recordDigests, final boolean limitReached) {
+        this.maxUniqueKeyValue = maxUniqueKeyValue;
+        recordsCount = recordDigests.size();
+        digest = calculateDigest(recordDigests.values());
+        this.recordDigests = recordDigests;
+        this.limitReached = limitReached;
+    }
+    
+    // Source and target could order records of the same unique key values differently by collation, so record digests are sorted before hashing
+    private static HashCode calculateDigest(final Collection<HashCode> recordDigests) {
+        List<byte[]> sortedRecordDigests = recordDigests.stream().map(HashCode::asBytes).sorted(UnsignedBytes.lexicographicalComparator()).collect(Collectors.toList());
+        Hasher result = Hashing.sha256().newHasher();
+        sortedRecordDigests.forEach(result::putBytes);
+        return result.hash();
+    }
+    
+    @Override
+    public Optional<Object> getMaxUniqueKeyValue() {
+        return Optional.ofNullable(maxUniqueKeyValue);
+    }
+    
+    /**
+     * Get unique key values of records which are different between this and that.
+     *
+     * @param that that calculated result of the same unique key range
+     * @param limit max count of unique key values to return
+     * @return unique key values of missing, redundant or different records
+     */
+    public List<Object> getDifferentUniqueKeyValues(final RangeDigestSingleTableInventoryCalculatedResult that, final int limit) {
+        List<Object> result = new LinkedList<>();
+        for (Entry<Object, HashCode> entry : recordDigests.entrySet()) {
+            if (result.size() >= limit) {
+                return result;
+            }
+            if (!entry.getValue().equals(that.recordDigests.get(entry.getKey()))) {
+                result.add(entry.getKey());
+            }
+        }
+        for (Object each : that.recordDigests.keySet()) {
+            if (result.size() >= limit) {
+                return result;
+            }
+            if (!recordDigests.containsKey(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean equals(final Object o) {
+        if (null == o) {
+            return false;
+        }
+        if (this == o) {
+            return true;
+        }
+        if (getClass() != o.getClass()) {
+            log.warn("RangeDigestSingleTableInventoryCalculatedResult type not match, o.className={}.", o.getClass().getName());
+            return false;
+        }
+        RangeDigestSingleTableInventoryCalculatedResult that = (RangeDigestSingleTableInventoryCalculatedResult) o;
+        if (recordsCount != that.recordsCount || !digest.equals(that.digest)) {
+            log.info("Range digest not match, recordsCount1={}, recordsCount2={}, digest1={}, digest2={}.", recordsCount, that.recordsCount, digest, that.digest);
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(recordsCount, digest);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RangeDigestSingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RangeDigestSingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressUpdatedParameter;
+import org.apache.shardingsphere.data.pipeline.core.metadata.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Digest match table inventory checker.
+ *
+ * <p>
+ * Source table is split into unique key ranges of chunk size, target table is calculated by the same ranges, so missing or redundant records only affect one range.
+ * Calculation of source next range and target current range run in parallel, and only records digests of mismatched ranges are compared to locate different records.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class DigestMatchTableInventoryChecker implements TableInventoryChecker {
+    
+    private static final int MAX_DIFFERENT_UNIQUE_KEY_VALUES_COUNT = 100;
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final int chunkSize;
+    
+    private final RangeDigestSingleTableInventoryCalculator sourceCalculator = new RangeDigestSingleTableInventoryCalculator();
+    
+    private final RangeDigestSingleTableInventoryCalculator targetCalculator = new RangeDigestSingleTableInventoryCalculator();
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("job-" + getJobIdDigest(param.getJobId()) + "-digest-check-%d");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), threadFactory);
+        try {
+            return checkSingleTableInventoryData(executor);
+        } finally {
+            executor.shutdown();
+            executor.shutdownNow();
+        }
+    }
+    
+    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final ThreadPoolExecutor executor) {
+        String sourceTableName = param.getSourceTable().getTableName().toString();
+        String targetTableName = param.getTargetTable().getTableName().toString();
+        Object lowerBound = param.getProgressContext().getSourceTableCheckPositions().get(sourceTableName);
+        Future<RangeDigestSingleTableInventoryCalculatedResult> sourceFuture = submitSourceCalculation(executor, lowerBound);
+        List<Object> differentUniqueKeyValues = new LinkedList<>();
+        boolean matched = true;
+        while (true) {
+            if (null != param.getReadRateLimitAlgorithm()) {
+                param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+            }
+            RangeDigestSingleTableInventoryCalculatedResult sourceResult = waitFuture(sourceFuture);
+            boolean lastRange = !sourceResult.isLimitReached();
+            Object upperBound = lastRange ? null : sourceResult.getMaxUniqueKeyValue().orElse(null);
+            Object targetLowerBound = lowerBound;
+            Future<RangeDigestSingleTableInventoryCalculatedResult> targetFuture = executor.submit(
+                    () -> targetCalculator.calculate(createCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), targetLowerBound), upperBound, 0));
+            if (!lastRange) {
+                sourceFuture = submitSourceCalculation(executor, upperBound);
+            }
+            RangeDigestSingleTableInventoryCalculatedResult targetResult = waitFuture(targetFuture);
+            if (!sourceResult.equals(targetResult)) {
+                matched = false;
+                differentUniqueKeyValues.addAll(sourceResult.getDifferentUniqueKeyValues(targetResult, MAX_DIFFERENT_UNIQUE_KEY_VALUES_COUNT - differentUniqueKeyValues.size()));
+            }
+            if (matched && null != upperBound) {
+                param.getProgressContext().getSourceTableCheckPositions().put(sourceTableName, upperBound);
+                param.getProgressContext().getTargetTableCheckPositions().put(targetTableName, upperBound);
+            }
+            param.getProgressContext().onProgressUpdated(new PipelineJobProgressUpdatedParameter(sourceResult.getRecordsCount()));
+            if (lastRange || differentUniqueKeyValues.size() >= MAX_DIFFERENT_UNIQUE_KEY_VALUES_COUNT) {
+                break;
+            }
+            lowerBound = upperBound;
+        }
+        if (!matched) {
+            log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKeys={}, differentUniqueKeyValues={}",
+                    param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys(), differentUniqueKeyValues);
+        }
+        return new TableDataConsistencyCheckResult(matched);
+    }
+    
+    private Future<RangeDigestSingleTableInventoryCalculatedResult> submitSourceCalculation(final ThreadPoolExecutor executor, final Object lowerBound) {
+        return executor.submit(() -> sourceCalculator.calculate(createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), lowerBound), null, chunkSize));
+    }
+    
+    private SingleTableInventoryCalculateParameter createCalculateParameter(final PipelineDataSourceWrapper dataSource, final CaseInsensitiveQualifiedTable table, final Object lowerBound) {
+        return new SingleTableInventoryCalculateParameter(dataSource, table, param.getColumnNames(), param.getUniqueKeys(), lowerBound);
+    }
+    
+    private String getJobIdDigest(final String jobId) {
+        return jobId.length() <= 6 ? jobId : jobId.substring(0, 6);
+    }
+    
+    private <T> T waitFuture(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLWrapperException(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex.getCause();
+            }
+            throw new SQLWrapperException(new SQLException(ex));
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        sourceCalculator.cancel();
+        targetCalculator.cancel();
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return sourceCalculator.isCanceling() || targetCalculator.isCanceling();
+    }
+}
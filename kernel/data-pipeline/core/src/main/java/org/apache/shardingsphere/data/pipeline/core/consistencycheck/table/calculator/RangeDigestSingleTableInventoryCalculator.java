@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RangeDigestSingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column.ColumnValueReaderEngine;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.query.JDBCStreamQueryBuilder;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.infra.database.mysql.type.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Range digest single table inventory calculator.
+ */
+public final class RangeDigestSingleTableInventoryCalculator extends AbstractSingleTableInventoryCalculator {
+    
+    @Override
+    public Iterable<SingleTableInventoryCalculatedResult> calculate(final SingleTableInventoryCalculateParameter param) {
+        return Collections.singletonList(calculate(param, null, 0));
+    }
+    
+    /**
+     * Calculate digest of records whose first unique key value is in range (table check position, upper bound].
+     * 
+     * <p>If max records count is reached, the records of the last first unique key value are left to the next range, so a range never splits records of one first unique key value.
+     * If all records of the range have the same first unique key value, the limit is doubled until the records of another first unique key value are reached.</p>
+     *
+     * @param param calculate parameter, table check position is used as exclusive lower bound and null means unbounded
+     * @param upperBound inclusive upper bound, null means unbounded
+     * @param maxRecordsCount max records count to be calculated, 0 means unlimited
+     * @return calculated result
+     */
+    public RangeDigestSingleTableInventoryCalculatedResult calculate(final SingleTableInventoryCalculateParameter param, final Object upperBound, final int maxRecordsCount) {
+        if (param.getUniqueKeys().isEmpty()) {
+            throw new UnsupportedOperationException("Data consistency of DIGEST_MATCH type not support table without unique key and primary key now");
+        }
+        int limit = maxRecordsCount;
+        RangeDigestSingleTableInventoryCalculatedResult result = calculateWithLimit(param, upperBound, limit);
+        while (result.isLimitReached() && 0 == result.getRecordsCount()) {
+            limit *= 2;
+            result = calculateWithLimit(param, upperBound, limit);
+        }
+        return result;
+    }
+    
+    private RangeDigestSingleTableInventoryCalculatedResult calculateWithLimit(final SingleTableInventoryCalculateParameter param, final Object upperBound, final int maxRecordsCount) {
+        Object lowerBound = param.getTableCheckPosition();
+        Collection<String> columnNames = param.getColumnNames().isEmpty() ? Collections.singleton("*") : param.getColumnNames();
+        List<String> uniqueKeys = param.getUniqueKeys().stream().map(PipelineColumnMetaData::getName).collect(Collectors.toList());
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType()).buildQueryRangeOrderingSQL(
+                param.getSchemaName(), param.getLogicTableName(), columnNames, uniqueKeys, null != lowerBound, null != upperBound);
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(param.getDatabaseType(), connection, sql)) {
+            setCurrentStatement(preparedStatement);
+            if (maxRecordsCount > 0) {
+                preparedStatement.setMaxRows(maxRecordsCount);
+                if (!(param.getDatabaseType() instanceof MySQLDatabaseType)) {
+                    preparedStatement.setFetchSize(maxRecordsCount);
+                }
+            }
+            int parameterIndex = 1;
+            if (null != lowerBound) {
+                preparedStatement.setObject(parameterIndex++, lowerBound);
+            }
+            if (null != upperBound) {
+                preparedStatement.setObject(parameterIndex, upperBound);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return calculateDigests(param, resultSet, maxRecordsCount);
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private RangeDigestSingleTableInventoryCalculatedResult calculateDigests(final SingleTableInventoryCalculateParameter param, final ResultSet resultSet, final int maxRecordsCount) throws SQLException {
+        ColumnValueReaderEngine columnValueReaderEngine = new ColumnValueReaderEngine(param.getDatabaseType());
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        int columnCount = resultSetMetaData.getColumnCount();
+        List<Integer> uniqueKeyColumnIndexes = new ArrayList<>(param.getUniqueKeys().size());
+        for (PipelineColumnMetaData each : param.getUniqueKeys()) {
+            uniqueKeyColumnIndexes.add(getUniqueKeyColumnIndex(resultSetMetaData, each.getName()));
+        }
+        Map<Object, HashCode> recordDigests = new LinkedHashMap<>();
+        Object maxUniqueKeyValue = null;
+        Object previousMaxUniqueKeyValue = null;
+        Object lastComparableUniqueKeyValue = null;
+        int lastUniqueKeyValueRecordsCount = 0;
+        while (resultSet.next()) {
+            ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName()));
+            Object[] comparableValues = new Object[columnCount];
+            Object firstUniqueKeyValue = null;
+            Hasher hasher = Hashing.sha256().newHasher();
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                Object columnValue = columnValueReaderEngine.read(resultSet, resultSetMetaData, columnIndex);
+                if (columnIndex == uniqueKeyColumnIndexes.get(0)) {
+                    firstUniqueKeyValue = columnValue;
+                }
+                comparableValues[columnIndex - 1] = getComparableValue(columnValue);
+                putComparableValue(hasher, comparableValues[columnIndex - 1]);
+            }
+            List<Object> uniqueKeyValues = new ArrayList<>(uniqueKeyColumnIndexes.size());
+            for (int each : uniqueKeyColumnIndexes) {
+                uniqueKeyValues.add(comparableValues[each - 1]);
+            }
+            if (0 < lastUniqueKeyValueRecordsCount && Objects.deepEquals(lastComparableUniqueKeyValue, uniqueKeyValues.get(0))) {
+                lastUniqueKeyValueRecordsCount++;
+            } else {
+                previousMaxUniqueKeyValue = maxUniqueKeyValue;
+                lastUniqueKeyValueRecordsCount = 1;
+            }
+            maxUniqueKeyValue = firstUniqueKeyValue;
+            lastComparableUniqueKeyValue = uniqueKeyValues.get(0);
+            recordDigests.put(uniqueKeyValues, hasher.hash());
+        }
+        boolean limitReached = maxRecordsCount > 0 && recordDigests.size() >= maxRecordsCount;
+        if (limitReached && uniqueKeyColumnIndexes.size() > 1) {
+            removeLastRecordDigests(recordDigests, lastUniqueKeyValueRecordsCount);
+            maxUniqueKeyValue = previousMaxUniqueKeyValue;
+        }
+        return new RangeDigestSingleTableInventoryCalculatedResult(maxUniqueKeyValue, recordDigests, limitReached);
+    }
+    
+    // Records of the last first unique key value might be cut by limit, they are calculated in the next range
+    private void removeLastRecordDigests(final Map<Object, HashCode> recordDigests, final int removedCount) {
+        int retainedCount = recordDigests.size() - removedCount;
+        Iterator<Object> iterator = recordDigests.keySet().iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            iterator.next();
+            if (i >= retainedCount) {
+                iterator.remove();
+            }
+        }
+    }
+    
+    private int getUniqueKeyColumnIndex(final ResultSetMetaData resultSetMetaData, final String uniqueKey) throws SQLException {
+        for (int columnIndex = 1, columnCount = resultSetMetaData.getColumnCount(); columnIndex <= columnCount; columnIndex++) {
+            if (uniqueKey.equalsIgnoreCase(resultSetMetaData.getColumnLabel(columnIndex))) {
+                return columnIndex;
+            }
+        }
+        throw new SQLException(String.format("Unique key `%s` is not in query columns", uniqueKey));
+    }
+    
+    // Values matched by DataConsistencyCheckUtils must have the same comparable value
+    private Object getComparableValue(final Object columnValue) throws SQLException {
+        if (columnValue instanceof Long || columnValue instanceof Integer || columnValue instanceof Short || columnValue instanceof Byte) {
+            return ((Number) columnValue).longValue();
+        }
+        if (columnValue instanceof BigDecimal) {
+            return 0 == BigDecimal.ZERO.compareTo((BigDecimal) columnValue) ? BigDecimal.ZERO : ((BigDecimal) columnValue).stripTrailingZeros();
+        }
+        if (columnValue instanceof SQLXML) {
+            return ((SQLXML) columnValue).getString();
+        }
+        if (columnValue instanceof Array) {
+            return ((Array) columnValue).getArray();
+        }
+        return columnValue;
+    }
+    
+    // Every value is prefixed by a type tag and variable length values by their length, so different values could not have the same encoding
+    private void putComparableValue(final Hasher hasher, final Object comparableValue) throws SQLException {
+        if (null == comparableValue) {
+            hasher.putByte((byte) 0);
+        } else if (comparableValue instanceof Long) {
+            hasher.putByte((byte) 1).putLong((Long) comparableValue);
+        } else if (comparableValue instanceof String) {
+            putBytes(hasher.putByte((byte) 2), ((String) comparableValue).getBytes(StandardCharsets.UTF_8));
+        } else if (comparableValue instanceof BigDecimal) {
+            putBytes(hasher.putByte((byte) 3), ((BigDecimal) comparableValue).unscaledValue().toByteArray()).putInt(((BigDecimal) comparableValue).scale());
+        } else if (comparableValue instanceof byte[]) {
+            putBytes(hasher.putByte((byte) 4), (byte[]) comparableValue);
+        } else if (comparableValue instanceof Boolean) {
+            hasher.putByte((byte) 5).putBoolean((Boolean) comparableValue);
+        } else if (comparableValue instanceof Double) {
+            hasher.putByte((byte) 6).putLong(Double.doubleToLongBits((Double) comparableValue));
+        } else if (comparableValue instanceof Float) {
+            hasher.putByte((byte) 7).putInt(Float.floatToIntBits((Float) comparableValue));
+        } else if (comparableValue.getClass().isArray()) {
+            int length = java.lang.reflect.Array.getLength(comparableValue);
+            hasher.putByte((byte) 8).putInt(length);
+            for (int i = 0; i < length; i++) {
+                putComparableValue(hasher, getComparableValue(java.lang.reflect.Array.get(comparableValue, i)));
+            }
+        } else {
+            putBytes(putBytes(hasher.putByte((byte) 9), comparableValue.getClass().getName().getBytes(StandardCharsets.UTF_8)), comparableValue.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+    
+    private Hasher putBytes(final Hasher hasher, final byte[] bytes) {
+        return hasher.putInt(bytes.length).putBytes(bytes);
+    }
+}
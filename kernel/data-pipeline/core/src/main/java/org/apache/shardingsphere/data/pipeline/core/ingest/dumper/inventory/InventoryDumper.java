@@ -27,6 +27,7 @@ import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInva
 import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column.CachedResultSetMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column.ColumnValueReaderEngine;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
@@ -55,9 +56,9 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
@@ -126,14 +127,16 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 int rowCount = 0;
                 JobRateLimitAlgorithm rateLimitAlgorithm = dumperContext.getRateLimitAlgorithm();
-                ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-                List<Record> dataRecords = new LinkedList<>();
+                ResultSetMetaData resultSetMetaData = new CachedResultSetMetaData(resultSet.getMetaData());
+                List<String> columnNames = getColumnNames(resultSetMetaData);
+                List<PipelineColumnMetaData> columnMetaDataList = getColumnMetaDataList(columnNames, tableMetaData);
+                List<Record> dataRecords = new ArrayList<>(batchSize);
                 while (resultSet.next()) {
                     if (dataRecords.size() >= batchSize) {
                         channel.push(dataRecords);
-                        dataRecords = new LinkedList<>();
+                        dataRecords = new ArrayList<>(batchSize);
                     }
-                    dataRecords.add(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
+                    dataRecords.add(loadDataRecord(resultSet, resultSetMetaData, columnNames, columnMetaDataList));
                     ++rowCount;
                     if (!isRunning()) {
                         log.info("Broke because of inventory dump is not running.");
@@ -195,17 +198,37 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         }
     }
     
-    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final PipelineTableMetaData tableMetaData) throws SQLException {
+    private List<String> getColumnNames(final ResultSetMetaData resultSetMetaData) throws SQLException {
         int columnCount = resultSetMetaData.getColumnCount();
-        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, dumperContext.getLogicTableName(), newPosition(resultSet), columnCount);
         List<String> insertColumnNames = Optional.ofNullable(dumperContext.getInsertColumnNames()).orElse(Collections.emptyList());
-        ShardingSpherePreconditions.checkState(insertColumnNames.isEmpty() || insertColumnNames.size() == resultSetMetaData.getColumnCount(),
+        ShardingSpherePreconditions.checkState(insertColumnNames.isEmpty() || insertColumnNames.size() == columnCount,
                 () -> new PipelineInvalidParameterException("Insert colum names count not equals ResultSet column count"));
+        if (!insertColumnNames.isEmpty()) {
+            return insertColumnNames;
+        }
+        List<String> result = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            result.add(resultSetMetaData.getColumnName(i));
+        }
+        return result;
+    }
+    
+    private List<PipelineColumnMetaData> getColumnMetaDataList(final List<String> columnNames, final PipelineTableMetaData tableMetaData) {
+        List<PipelineColumnMetaData> result = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(each);
+            ShardingSpherePreconditions.checkNotNull(columnMetaData, () -> new PipelineInvalidParameterException(String.format("Column name is %s", each)));
+            result.add(columnMetaData);
+        }
+        return result;
+    }
+    
+    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData,
+                                      final List<String> columnNames, final List<PipelineColumnMetaData> columnMetaDataList) throws SQLException {
+        int columnCount = columnNames.size();
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, dumperContext.getLogicTableName(), newPosition(resultSet), columnCount);
         for (int i = 1; i <= columnCount; i++) {
-            String columnName = insertColumnNames.isEmpty() ? resultSetMetaData.getColumnName(i) : insertColumnNames.get(i - 1);
-            ShardingSpherePreconditions.checkNotNull(tableMetaData.getColumnMetaData(columnName), () -> new PipelineInvalidParameterException(String.format("Column name is %s", columnName)));
-            boolean isUniqueKey = tableMetaData.getColumnMetaData(columnName).isUniqueKey();
-            result.addColumn(new Column(columnName, columnValueReaderEngine.read(resultSet, resultSetMetaData, i), true, isUniqueKey));
+            result.addColumn(new Column(columnNames.get(i - 1), columnValueReaderEngine.read(resultSet, resultSetMetaData, i), true, columnMetaDataList.get(i - 1).isUniqueKey()));
         }
         return result;
     }
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Cached result set meta data.
+ *
+ * <p>Column name, type, type name and signed flag are read once, since they are looked up for every cell when reading rows.</p>
+ */
+public final class CachedResultSetMetaData implements ResultSetMetaData {
+    
+    private final ResultSetMetaData delegate;
+    
+    private final int columnCount;
+    
+    private final String[] columnNames;
+    
+    private final String[] columnLabels;
+    
+    private final int[] columnTypes;
+    
+    private final String[] columnTypeNames;
+    
+    private final boolean[] signedFlags;
+    
+    public CachedResultSetMetaData(final ResultSetMetaData delegate) throws SQLException {
+        this.delegate = delegate;
+        columnCount = delegate.getColumnCount();
+        columnNames = new String[columnCount];
+        columnLabels = new String[columnCount];
+        columnTypes = new int[columnCount];
+        columnTypeNames = new String[columnCount];
+        signedFlags = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = delegate.getColumnName(i + 1);
+            columnLabels[i] = delegate.getColumnLabel(i + 1);
+            columnTypes[i] = delegate.getColumnType(i + 1);
+            columnTypeNames[i] = delegate.getColumnTypeName(i + 1);
+            signedFlags[i] = delegate.isSigned(i + 1);
+        }
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+    
+    @Override
+    public boolean isAutoIncrement(final int column) throws SQLException {
+        return delegate.isAutoIncrement(column);
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int column) throws SQLException {
+        return delegate.isCaseSensitive(column);
+    }
+    
+    @Override
+    public boolean isSearchable(final int column) throws SQLException {
+        return delegate.isSearchable(column);
+    }
+    
+    @Override
+    public boolean isCurrency(final int column) throws SQLException {
+        return delegate.isCurrency(column);
+    }
+    
+    @Override
+    public int isNullable(final int column) throws SQLException {
+        return delegate.isNullable(column);
+    }
+    
+    @Override
+    public boolean isSigned(final int column) {
+        return signedFlags[column - 1];
+    }
+    
+    @Override
+    public int getColumnDisplaySize(final int column) throws SQLException {
+        return delegate.getColumnDisplaySize(column);
+    }
+    
+    @Override
+    public String getColumnLabel(final int column) {
+        return columnLabels[column - 1];
+    }
+    
+    @Override
+    public String getColumnName(final int column) {
+        return columnNames[column - 1];
+    }
+    
+    @Override
+    public String getSchemaName(final int column) throws SQLException {
+        return delegate.getSchemaName(column);
+    }
+    
+    @Override
+    public int getPrecision(final int column) throws SQLException {
+        return delegate.getPrecision(column);
+    }
+    
+    @Override
+    public int getScale(final int column) throws SQLException {
+        return delegate.getScale(column);
+    }
+    
+    @Override
+    public String getTableName(final int column) throws SQLException {
+        return delegate.getTableName(column);
+    }
+    
+    @Override
+    public String getCatalogName(final int column) throws SQLException {
+        return delegate.getCatalogName(column);
+    }
+    
+    @Override
+    public int getColumnType(final int column) {
+        return columnTypes[column - 1];
+    }
+    
+    @Override
+    public String getColumnTypeName(final int column) {
+        return columnTypeNames[column - 1];
+    }
+    
+    @Override
+    public boolean isReadOnly(final int column) throws SQLException {
+        return delegate.isReadOnly(column);
+    }
+    
+    @Override
+    public boolean isWritable(final int column) throws SQLException {
+        return delegate.isWritable(column);
+    }
+    
+    @Override
+    public boolean isDefinitelyWritable(final int column) throws SQLException {
+        return delegate.isDefinitelyWritable(column);
+    }
+    
+    @Override
+    public String getColumnClassName(final int column) throws SQLException {
+        return delegate.getColumnClassName(column);
+    }
+    
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+    }
+    
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+}
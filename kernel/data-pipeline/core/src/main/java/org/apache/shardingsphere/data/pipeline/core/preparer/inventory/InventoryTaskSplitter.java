@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.preparer.inventory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.Range;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.context.TransmissionJobItemContext;
 import org.apache.shardingsphere.data.pipeline.core.context.TransmissionProcessContext;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.InventoryDumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.InventoryDumperContext;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPositionFactory;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
@@ -49,6 +51,7 @@ import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -56,6 +59,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -65,6 +69,8 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final double MAX_EVEN_DISTRIBUTION_FACTOR = 2D;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperContext dumperContext;
@@ -174,8 +180,7 @@ public final class InventoryTaskSplitter {
                 return getPositionByIntegerUniqueKeyRange(dumperContext, tableRecordsCount, jobItemContext, dataSource);
             }
             if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                // TODO Support string unique key table splitting. Ascii characters ordering are different in different versions of databases.
-                return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+                return getPositionByStringUniqueKeyRange(dumperContext, tableRecordsCount, jobItemContext, dataSource);
             }
         }
         return Collections.singleton(new UnsupportedKeyIngestPosition());
@@ -186,10 +191,16 @@ public final class InventoryTaskSplitter {
         if (0 == tableRecordsCount) {
             return Collections.singletonList(new IntegerPrimaryKeyIngestPosition(0, 0));
         }
-        Collection<IngestPosition> result = new LinkedList<>();
         Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dataSource, dumperContext);
-        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfig().getRead().getShardingSize();
-        long splitCount = tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0);
+        long splitCount = getSplitCount(tableRecordsCount, jobItemContext);
+        if (splitCount > 1L && isUnevenlyDistributed(uniqueKeyValuesRange, tableRecordsCount)) {
+            Optional<Collection<IngestPosition>> positions = getPositionsByUniqueKeyValues(
+                    dumperContext, Pair.of(uniqueKeyValuesRange.getMinimum(), uniqueKeyValuesRange.getMaximum()), jobItemContext, dataSource);
+            if (positions.isPresent()) {
+                return positions.get();
+            }
+        }
+        Collection<IngestPosition> result = new LinkedList<>();
         long interval = (uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum()) / splitCount;
         IntervalToRangeIterator rangeIterator = new IntervalToRangeIterator(uniqueKeyValuesRange.getMinimum(), uniqueKeyValuesRange.getMaximum(), interval);
         while (rangeIterator.hasNext()) {
@@ -199,6 +210,97 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
+    private long getSplitCount(final long tableRecordsCount, final TransmissionJobItemContext jobItemContext) {
+        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfig().getRead().getShardingSize();
+        return tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0);
+    }
+    
+    private boolean isUnevenlyDistributed(final Range<Long> uniqueKeyValuesRange, final long tableRecordsCount) {
+        // When at least half of the key values exist, every interval split range holds at most twice the expected records
+        return ((double) uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum() + 1D) / tableRecordsCount > MAX_EVEN_DISTRIBUTION_FACTOR;
+    }
+    
+    private Collection<IngestPosition> getPositionByStringUniqueKeyRange(final InventoryDumperContext dumperContext, final long tableRecordsCount,
+                                                                         final TransmissionJobItemContext jobItemContext, final PipelineDataSourceWrapper dataSource) {
+        if (getSplitCount(tableRecordsCount, jobItemContext) > 1L) {
+            Pair<Object, Object> uniqueKeyValuesRange = getUniqueKeyMinMaxValues(jobItemContext, dataSource, dumperContext);
+            if (null != uniqueKeyValuesRange.getLeft()) {
+                Optional<Collection<IngestPosition>> positions = getPositionsByUniqueKeyValues(dumperContext, uniqueKeyValuesRange, jobItemContext, dataSource);
+                if (positions.isPresent()) {
+                    return positions.get();
+                }
+            }
+        }
+        return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+    }
+    
+    private Optional<Collection<IngestPosition>> getPositionsByUniqueKeyValues(final InventoryDumperContext dumperContext, final Pair<?, ?> uniqueKeyValuesRange,
+                                                                               final TransmissionJobItemContext jobItemContext, final DataSource dataSource) {
+        String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfig().getRead().getShardingSize();
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        Optional<String> splitSQL = pipelineSQLBuilder.buildSplitByUniqueKeyRangeSQL(schemaName, dumperContext.getActualTableName(), uniqueKey, shardingSize);
+        if (!splitSQL.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<IngestPosition> result = new LinkedList<>();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(splitSQL.get())) {
+            Object beginValue = uniqueKeyValuesRange.getLeft();
+            while (null != beginValue) {
+                Object endValue = uniqueKeyValuesRange.getRight();
+                Object nextBeginValue = null;
+                preparedStatement.setObject(1, beginValue);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (resultSet.next()) {
+                        endValue = resultSet.getObject(1);
+                        nextBeginValue = resultSet.next() ? resultSet.getObject(1) : null;
+                    }
+                }
+                IngestPosition position = PrimaryKeyIngestPositionFactory.newInstance(beginValue, endValue);
+                if (!isSplittablePosition(position)) {
+                    return Optional.empty();
+                }
+                result.add(position);
+                beginValue = nextBeginValue;
+            }
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+        log.info("Split {} to {} inventory positions by unique key values", dumperContext.getActualTableName(), result.size());
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private boolean isSplittablePosition(final IngestPosition position) {
+        if (position instanceof IntegerPrimaryKeyIngestPosition) {
+            return true;
+        }
+        if (!(position instanceof StringPrimaryKeyIngestPosition)) {
+            return false;
+        }
+        String beginValue = ((StringPrimaryKeyIngestPosition) position).getBeginValue();
+        String endValue = ((StringPrimaryKeyIngestPosition) position).getEndValue();
+        // Position is persisted as comma separated text, empty or comma contained values could not be restored
+        return null != beginValue && null != endValue && !beginValue.contains(",") && !endValue.contains(",");
+    }
+    
+    private Pair<Object, Object> getUniqueKeyMinMaxValues(final TransmissionJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperContext dumperContext) {
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String sql = pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(), uniqueKey);
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? Pair.of(resultSet.getObject(1), resultSet.getObject(2)) : Pair.of(null, null);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final TransmissionJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperContext dumperContext) {
         String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
         PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
@@ -68,6 +68,21 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build split by unique key range SQL.
+     *
+     * <p>The SQL has one parameter, the begin value of unique key, and steps over the unique key index by offset.
+     * It returns the last unique key value of the sharding size rows from begin value, and then the first unique key value after them.</p>
+     *
+     * @param qualifiedTableName qualified table name
+     * @param escapedUniqueKey escaped unique key
+     * @param shardingSize sharding size
+     * @return built SQL
+     */
+    default Optional<String> buildSplitByUniqueKeyRangeSQL(final String qualifiedTableName, final String escapedUniqueKey, final int shardingSize) {
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s>=? ORDER BY %s ASC LIMIT 2 OFFSET %d", escapedUniqueKey, qualifiedTableName, escapedUniqueKey, escapedUniqueKey, shardingSize - 1));
+    }
+    
     /**
      * Build CRC32 SQL.
      *
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 
 import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -59,6 +61,34 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
                 : String.format("SELECT %s FROM %s WHERE %s>? ORDER BY %s ASC", queryColumns, qualifiedTableName, escapedUniqueKey, escapedUniqueKey);
     }
     
+    /**
+     * Build query range ordering SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKeys unique keys, they may be primary keys, bounds are on the first one and records are ordered by all of them
+     * @param lowerBounded whether exclusive lower bound parameter is present
+     * @param upperBounded whether inclusive upper bound parameter is present
+     * @return built SQL
+     */
+    public String buildQueryRangeOrderingSQL(final String schemaName, final String tableName, final Collection<String> columnNames, final List<String> uniqueKeys,
+                                             final boolean lowerBounded, final boolean upperBounded) {
+        String qualifiedTableName = sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName);
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKeys.get(0));
+        String queryColumns = columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.joining(","));
+        Collection<String> conditions = new LinkedList<>();
+        if (lowerBounded) {
+            conditions.add(escapedUniqueKey + ">?");
+        }
+        if (upperBounded) {
+            conditions.add(escapedUniqueKey + "<=?");
+        }
+        String whereClause = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        String orderByColumns = uniqueKeys.stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each) + " ASC").collect(Collectors.joining(", "));
+        return String.format("SELECT %s FROM %s%s ORDER BY %s", queryColumns, qualifiedTableName, whereClause, orderByColumns);
+    }
+    
     /**
      * Build CRC32 SQL.
      *
@@ -94,6 +94,19 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build split by unique key range SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param shardingSize sharding size
+     * @return split by unique key range SQL
+     */
+    public Optional<String> buildSplitByUniqueKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey, final int shardingSize) {
+        return dialectSQLBuilder.buildSplitByUniqueKeyRangeSQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey), shardingSize);
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -58,4 +59,13 @@ class MemoryPipelineChannelTest {
         channel.push(records);
         assertThat(channel.fetch(10, 0L), is(records));
     }
+    
+    @Test
+    void assertPushNotifiesReadinessCallback() {
+        MemoryPipelineChannel channel = new MemoryPipelineChannel(100, new InventoryTaskAckCallback(new AtomicReference<>()));
+        AtomicInteger readyCount = new AtomicInteger();
+        channel.registerReadinessCallback(readyCount::incrementAndGet);
+        channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+        assertThat(readyCount.get(), is(1));
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = createChannel(4, 100L);
+        List<Record> records = Collections.singletonList(createRecord());
+        channel.push(records);
+        assertThat(channel.fetch(10, 0L), is(records));
+        assertTrue(channel.fetch(10, 0L).isEmpty());
+    }
+    
+    @Test
+    void assertFetchMergesBatches() {
+        RingBufferPipelineChannel channel = createChannel(4, 100L);
+        Record record1 = createRecord();
+        Record record2 = createRecord();
+        Record record3 = createRecord();
+        channel.push(Collections.singletonList(record1));
+        channel.push(Arrays.asList(record2, record3));
+        assertThat(channel.fetch(3, 100L), is(Arrays.asList(record1, record2, record3)));
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        RingBufferPipelineChannel channel = createChannel(1, 100L);
+        assertTrue(channel.peek().isEmpty());
+        List<Record> records = Collections.singletonList(createRecord());
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertTrue(channel.poll().isEmpty());
+    }
+    
+    @Test
+    void assertPushNotifiesReadinessCallback() {
+        RingBufferPipelineChannel channel = createChannel(4, 100L);
+        AtomicInteger readyCount = new AtomicInteger();
+        channel.registerReadinessCallback(readyCount::incrementAndGet);
+        channel.push(Collections.singletonList(createRecord()));
+        assertThat(readyCount.get(), is(1));
+    }
+    
+    @Test
+    void assertPushAndFetchConcurrently() throws InterruptedException {
+        RingBufferPipelineChannel channel = createChannel(2, 3L);
+        int recordsCount = 1000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < recordsCount; i++) {
+                channel.push(Collections.singletonList(createRecord()));
+            }
+        });
+        producer.start();
+        List<Record> actual = new ArrayList<>(recordsCount);
+        while (actual.size() < recordsCount) {
+            actual.addAll(channel.fetch(100, 100L));
+        }
+        producer.join();
+        assertThat(actual.size(), is(recordsCount));
+    }
+    
+    private RingBufferPipelineChannel createChannel(final int slotsCount, final long recordsCapacity) {
+        return new RingBufferPipelineChannel(slotsCount, recordsCapacity, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+    }
+    
+    private Record createRecord() {
+        return new PlaceholderRecord(new IngestFinishedPosition());
+    }
+}
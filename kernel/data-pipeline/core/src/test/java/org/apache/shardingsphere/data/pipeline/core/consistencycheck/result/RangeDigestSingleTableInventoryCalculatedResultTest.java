@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
+
+import com.google.common.hash.HashCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RangeDigestSingleTableInventoryCalculatedResultTest {
+    
+    @Test
+    void assertEmptyRecordsEquals() {
+        assertThat(new RangeDigestSingleTableInventoryCalculatedResult(null, Collections.emptyMap()), is(new RangeDigestSingleTableInventoryCalculatedResult(null, Collections.emptyMap())));
+    }
+    
+    @Test
+    void assertSameRecordDigestsEquals() {
+        RangeDigestSingleTableInventoryCalculatedResult actual = new RangeDigestSingleTableInventoryCalculatedResult(3L, createRecordDigests(1L, 11L, 2L, 22L, 3L, 33L));
+        RangeDigestSingleTableInventoryCalculatedResult expected = new RangeDigestSingleTableInventoryCalculatedResult(3L, createRecordDigests(1L, 11L, 2L, 22L, 3L, 33L));
+        assertThat(actual, is(expected));
+        assertThat(actual.hashCode(), is(expected.hashCode()));
+        assertThat(actual.getDifferentUniqueKeyValues(expected, 10), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertGetDifferentUniqueKeyValues() {
+        RangeDigestSingleTableInventoryCalculatedResult source = new RangeDigestSingleTableInventoryCalculatedResult(4L, createRecordDigests(1L, 11L, 2L, 22L, 4L, 44L));
+        RangeDigestSingleTableInventoryCalculatedResult target = new RangeDigestSingleTableInventoryCalculatedResult(4L, createRecordDigests(1L, 11L, 2L, 20L, 3L, 33L));
+        assertThat(source, not(target));
+        assertThat(source.getDifferentUniqueKeyValues(target, 10), is(Arrays.<Object>asList(2L, 4L, 3L)));
+        assertThat(source.getDifferentUniqueKeyValues(target, 1), is(Collections.<Object>singletonList(2L)));
+    }
+    
+    private Map<Object, HashCode> createRecordDigests(final long... keyAndDigests) {
+        Map<Object, HashCode> result = new LinkedHashMap<>();
+        for (int i = 0; i < keyAndDigests.length; i += 2) {
+            result.put(keyAndDigests[i], HashCode.fromLong(keyAndDigests[i + 1]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.RangeDigestSingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.metadata.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RangeDigestSingleTableInventoryCalculatorTest {
+    
+    private SingleTableInventoryCalculateParameter parameter;
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        parameter = new SingleTableInventoryCalculateParameter(pipelineDataSource, new CaseInsensitiveQualifiedTable(null, "t_order_item"), Arrays.asList("order_id", "item_id", "status"),
+                Arrays.asList(new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true), new PipelineColumnMetaData(2, "item_id", Types.INTEGER, "integer", false, true, true)),
+                null);
+        when(pipelineDataSource.getDatabaseType()).thenReturn(databaseType);
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+    }
+    
+    @Test
+    void assertCalculateWithDifferentOrderOfSameFirstUniqueKey() throws SQLException {
+        PreparedStatement sourceStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "foo"}, {1L, 2L, "bar"}});
+        PreparedStatement targetStatement = mockPreparedStatement(new Object[][]{{1L, 2L, "bar"}, {1L, 1L, "foo"}});
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(sourceStatement, targetStatement);
+        RangeDigestSingleTableInventoryCalculatedResult source = new RangeDigestSingleTableInventoryCalculator().calculate(parameter, null, 0);
+        RangeDigestSingleTableInventoryCalculatedResult target = new RangeDigestSingleTableInventoryCalculator().calculate(parameter, null, 0);
+        assertThat(source, is(target));
+        assertThat(source.getDifferentUniqueKeyValues(target, 10), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertCalculateWithDifferentRecordOfSameFirstUniqueKey() throws SQLException {
+        PreparedStatement sourceStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "foo"}, {1L, 2L, "bar"}});
+        PreparedStatement targetStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "foo"}, {1L, 2L, "baz"}});
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(sourceStatement, targetStatement);
+        RangeDigestSingleTableInventoryCalculatedResult source = new RangeDigestSingleTableInventoryCalculator().calculate(parameter, null, 0);
+        RangeDigestSingleTableInventoryCalculatedResult target = new RangeDigestSingleTableInventoryCalculator().calculate(parameter, null, 0);
+        assertThat(source, not(target));
+        assertThat(source.getDifferentUniqueKeyValues(target, 10), is(Collections.<Object>singletonList(Arrays.asList(1L, 2L))));
+    }
+    
+    @Test
+    void assertCalculateWithDifferentValuesOfSameHashCode() throws SQLException {
+        PreparedStatement sourceStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "Aa"}});
+        PreparedStatement targetStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "BB"}});
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(sourceStatement, targetStatement);
+        assertThat(new RangeDigestSingleTableInventoryCalculator().calculate(parameter, null, 0), not(new RangeDigestSingleTableInventoryCalculator().calculate(parameter, null, 0)));
+    }
+    
+    @Test
+    void assertCalculateWithCompositeUniqueKeyCrossingChunkBoundary() throws SQLException {
+        PreparedStatement sourceStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "foo"}, {2L, 1L, "foo"}, {2L, 2L, "bar"}});
+        PreparedStatement targetStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "foo"}});
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(sourceStatement, targetStatement);
+        RangeDigestSingleTableInventoryCalculatedResult source = new RangeDigestSingleTableInventoryCalculator().calculate(parameter, null, 3);
+        assertTrue(source.isLimitReached());
+        assertThat(source.getRecordsCount(), is(1));
+        assertThat(source.getMaxUniqueKeyValue().orElse(null), is(1L));
+        assertThat(source, is(new RangeDigestSingleTableInventoryCalculator().calculate(parameter, 1L, 0)));
+    }
+    
+    @Test
+    void assertCalculateWithCompositeUniqueKeyLargerThanChunk() throws SQLException {
+        PreparedStatement limitedStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "foo"}, {1L, 2L, "bar"}});
+        PreparedStatement doubledStatement = mockPreparedStatement(new Object[][]{{1L, 1L, "foo"}, {1L, 2L, "bar"}, {1L, 3L, "baz"}, {2L, 1L, "foo"}});
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(limitedStatement, doubledStatement);
+        RangeDigestSingleTableInventoryCalculatedResult actual = new RangeDigestSingleTableInventoryCalculator().calculate(parameter, null, 2);
+        assertTrue(actual.isLimitReached());
+        assertThat(actual.getRecordsCount(), is(3));
+        assertThat(actual.getMaxUniqueKeyValue().orElse(null), is(1L));
+        verify(doubledStatement).setMaxRows(4);
+    }
+    
+    private PreparedStatement mockPreparedStatement(final Object[][] rows) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(3);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("order_id");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("item_id");
+        when(resultSetMetaData.getColumnLabel(3)).thenReturn("status");
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.VARCHAR);
+        Boolean[] nextResults = new Boolean[rows.length];
+        Arrays.fill(nextResults, true);
+        nextResults[rows.length - 1] = false;
+        when(resultSet.next()).thenReturn(true, nextResults);
+        when(resultSet.getLong(1)).thenReturn((Long) rows[0][0], Arrays.stream(rows).skip(1L).map(each -> (Long) each[0]).toArray(Long[]::new));
+        when(resultSet.getLong(2)).thenReturn((Long) rows[0][1], Arrays.stream(rows).skip(1L).map(each -> (Long) each[1]).toArray(Long[]::new));
+        when(resultSet.getString(3)).thenReturn((String) rows[0][2], Arrays.stream(rows).skip(1L).map(each -> (String) each[2]).toArray(String[]::new));
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+}
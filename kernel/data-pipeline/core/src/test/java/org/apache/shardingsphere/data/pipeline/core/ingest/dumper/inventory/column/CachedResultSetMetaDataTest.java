@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedResultSetMetaDataTest {
+    
+    @Test
+    void assertReadCachedColumnMetaData() throws SQLException {
+        ResultSetMetaData delegate = mock(ResultSetMetaData.class);
+        when(delegate.getColumnCount()).thenReturn(1);
+        when(delegate.getColumnName(1)).thenReturn("order_id");
+        when(delegate.getColumnLabel(1)).thenReturn("id");
+        when(delegate.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(delegate.getColumnTypeName(1)).thenReturn("INT");
+        when(delegate.isSigned(1)).thenReturn(true);
+        ResultSetMetaData actual = new CachedResultSetMetaData(delegate);
+        for (int i = 0; i < 3; i++) {
+            assertThat(actual.getColumnCount(), is(1));
+            assertThat(actual.getColumnName(1), is("order_id"));
+            assertThat(actual.getColumnLabel(1), is("id"));
+            assertThat(actual.getColumnType(1), is(Types.INTEGER));
+            assertThat(actual.getColumnTypeName(1), is("INT"));
+            assertTrue(actual.isSigned(1));
+        }
+        verify(delegate, times(1)).getColumnTypeName(1);
+        verify(delegate, times(1)).isSigned(1);
+    }
+}
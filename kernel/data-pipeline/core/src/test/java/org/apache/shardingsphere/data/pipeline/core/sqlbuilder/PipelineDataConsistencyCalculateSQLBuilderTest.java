@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -47,4 +48,22 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         actual = pipelineSQLBuilder.buildQueryAllOrderingSQL(null, "t_order", Arrays.asList("order_id", "user_id", "status"), "order_id", false);
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>? ORDER BY order_id ASC"));
     }
+    
+    @Test
+    void assertBuildQueryRangeOrderingSQL() {
+        List<String> uniqueKeys = Collections.singletonList("order_id");
+        assertThat(pipelineSQLBuilder.buildQueryRangeOrderingSQL(null, "t_order", Collections.singletonList("*"), uniqueKeys, false, false), is("SELECT * FROM t_order ORDER BY order_id ASC"));
+        assertThat(pipelineSQLBuilder.buildQueryRangeOrderingSQL(null, "t_order", Collections.singletonList("*"), uniqueKeys, true, false),
+                is("SELECT * FROM t_order WHERE order_id>? ORDER BY order_id ASC"));
+        assertThat(pipelineSQLBuilder.buildQueryRangeOrderingSQL(null, "t_order", Collections.singletonList("*"), uniqueKeys, false, true),
+                is("SELECT * FROM t_order WHERE order_id<=? ORDER BY order_id ASC"));
+        assertThat(pipelineSQLBuilder.buildQueryRangeOrderingSQL(null, "t_order", Arrays.asList("order_id", "user_id"), uniqueKeys, true, true),
+                is("SELECT order_id,user_id FROM t_order WHERE order_id>? AND order_id<=? ORDER BY order_id ASC"));
+    }
+    
+    @Test
+    void assertBuildQueryRangeOrderingSQLWithCompositeUniqueKey() {
+        assertThat(pipelineSQLBuilder.buildQueryRangeOrderingSQL(null, "t_order_item", Collections.singletonList("*"), Arrays.asList("order_id", "item_id"), true, true),
+                is("SELECT * FROM t_order_item WHERE order_id>? AND order_id<=? ORDER BY order_id ASC, item_id ASC"));
+    }
 }
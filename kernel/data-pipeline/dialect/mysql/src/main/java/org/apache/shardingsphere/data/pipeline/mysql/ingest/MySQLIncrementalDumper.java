@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumper;
@@ -49,15 +50,23 @@ import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropert
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropertiesParser;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MySQL incremental dumper.
@@ -65,6 +74,10 @@ import java.util.Optional;
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunnable implements IncrementalDumper {
     
+    private static final int PARALLEL_HANDLE_MIN_ROWS_EVENTS = 8;
+    
+    private static final int MAX_EVENT_HANDLE_THREADS = 4;
+    
     private final IncrementalDumperContext dumperContext;
     
     private final BinlogPosition binlogPosition;
@@ -77,6 +90,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     
     private final String catalog;
     
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new ConcurrentHashMap<>();
+    
+    private ExecutorService eventHandleExecutor;
+    
     public MySQLIncrementalDumper(final IncrementalDumperContext dumperContext, final IngestPosition binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperContext.getCommonContext().getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration,
@@ -114,17 +131,51 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     }
     
     private void handleEvents(final List<AbstractBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
-        for (AbstractBinlogEvent each : events) {
-            List<? extends Record> records = handleEvent(each);
-            dataRecords.addAll(records);
-        }
+        boolean parallel = events.stream().filter(AbstractRowsEvent.class::isInstance).count() >= PARALLEL_HANDLE_MIN_ROWS_EVENTS;
+        List<Record> dataRecords = parallel ? handleEventsInParallel(events) : handleEventsSerially(events);
         if (dataRecords.isEmpty()) {
             return;
         }
         channel.push(dataRecords);
     }
     
+    private List<Record> handleEventsSerially(final List<AbstractBinlogEvent> events) {
+        List<Record> result = new LinkedList<>();
+        for (AbstractBinlogEvent each : events) {
+            result.addAll(handleEvent(each));
+        }
+        return result;
+    }
+    
+    private List<Record> handleEventsInParallel(final List<AbstractBinlogEvent> events) {
+        List<Future<List<? extends Record>>> futures = new ArrayList<>(events.size());
+        for (AbstractBinlogEvent each : events) {
+            futures.add(getEventHandleExecutor().submit(() -> handleEvent(each)));
+        }
+        List<Record> result = new LinkedList<>();
+        try {
+            for (Future<List<? extends Record>> each : futures) {
+                result.addAll(each.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineInternalException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new PipelineInternalException(ex.getCause());
+        } finally {
+            futures.forEach(each -> each.cancel(true));
+        }
+        return result;
+    }
+    
+    private synchronized ExecutorService getEventHandleExecutor() {
+        if (null == eventHandleExecutor) {
+            int threadCount = Math.max(1, Math.min(MAX_EVENT_HANDLE_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+            eventHandleExecutor = Executors.newFixedThreadPool(threadCount, ExecutorThreadFactoryBuilder.build("mysql-binlog-handle-%d"));
+        }
+        return eventHandleExecutor;
+    }
+    
     private List<? extends Record> handleEvent(final AbstractBinlogEvent event) {
         if (!(event instanceof AbstractRowsEvent)) {
             return Collections.singletonList(createPlaceholderRecord(event));
@@ -210,7 +261,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
             }
             return new String(((MySQLBinaryString) value).getBytes(), Charset.defaultCharset());
         }
-        Optional<MySQLDataTypeHandler> dataTypeHandler = TypedSPILoader.findService(MySQLDataTypeHandler.class, columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), key -> TypedSPILoader.findService(MySQLDataTypeHandler.class, key));
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
@@ -228,5 +279,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         if (null != client) {
             client.closeChannel();
         }
+        synchronized (this) {
+            if (null != eventHandleExecutor) {
+                eventHandleExecutor.shutdownNow();
+            }
+        }
     }
 }
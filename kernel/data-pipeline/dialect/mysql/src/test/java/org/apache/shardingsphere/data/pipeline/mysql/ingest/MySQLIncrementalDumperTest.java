@@ -77,6 +77,8 @@ class MySQLIncrementalDumperTest {
     
     private PipelineTableMetaData pipelineTableMetaData;
     
+    private MemoryPipelineChannel channel;
+    
     @BeforeAll
     static void init() throws ClassNotFoundException {
         Class.forName(MockedDriver.class.getName());
@@ -87,7 +89,7 @@ class MySQLIncrementalDumperTest {
         IncrementalDumperContext dumperContext = createDumperContext();
         initTableData(dumperContext);
         PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
-        MemoryPipelineChannel channel = new MemoryPipelineChannel(10000, records -> {
+        channel = new MemoryPipelineChannel(10000, records -> {
             
         });
         incrementalDumper = new MySQLIncrementalDumper(dumperContext, new BinlogPosition("binlog-000001", 4L, 0L), channel, metaDataLoader);
@@ -194,6 +196,24 @@ class MySQLIncrementalDumperTest {
         return (List<Record>) Plugins.getMemberAccessor().invoke(method, incrementalDumper, rowsEvent, pipelineTableMetaData);
     }
     
+    @Test
+    void assertHandleEventsInParallelKeepsOrder() throws ReflectiveOperationException {
+        List<AbstractBinlogEvent> events = new LinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            WriteRowsEvent event = createWriteRowsEvent();
+            event.setDatabaseName("test");
+            event.setAfterRows(Collections.singletonList(new Serializable[]{i, 1, "OK"}));
+            events.add(event);
+        }
+        Plugins.getMemberAccessor().invoke(MySQLIncrementalDumper.class.getDeclaredMethod("handleEvents", List.class), incrementalDumper, events);
+        List<Record> actual = channel.fetch(20, 0L);
+        assertThat(actual.size(), is(20));
+        for (int i = 0; i < 20; i++) {
+            assertThat(((DataRecord) actual.get(i)).getColumn(0).getValue(), is(i));
+        }
+        incrementalDumper.stop();
+    }
+    
     @Test
     void assertPlaceholderEvent() throws ReflectiveOperationException {
         List<Record> actual = (List<Record>) Plugins.getMemberAccessor().invoke(MySQLIncrementalDumper.class.getDeclaredMethod("handleEvent", AbstractBinlogEvent.class),
@@ -56,6 +56,13 @@ class MySQLPipelineSQLBuilderTest {
         return result;
     }
     
+    @Test
+    void assertBuildSplitByUniqueKeyRangeSQL() {
+        Optional<String> actual = sqlBuilder.buildSplitByUniqueKeyRangeSQL("t_order", "order_id", 1000);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT order_id FROM t_order WHERE order_id>=? ORDER BY order_id ASC LIMIT 2 OFFSET 999"));
+    }
+    
     @Test
     void assertBuilderEstimateCountSQLWithoutKeyword() {
         Optional<String> actual = sqlBuilder.buildEstimatedCountSQL("t_order");
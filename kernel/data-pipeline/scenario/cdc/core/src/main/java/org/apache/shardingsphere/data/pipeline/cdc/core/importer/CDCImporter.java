@@ -38,12 +38,16 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressUpdatedParameter;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -71,6 +75,10 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     private final PriorityQueue<CSNRecords> csnRecordsQueue = new PriorityQueue<>(new CSNRecordsComparator());
     
+    private final Set<CDCChannelProgressPair> headChannelProgressPairs = new HashSet<>();
+    
+    private final Semaphore channelReadySignal = new Semaphore(0);
+    
     private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(10000).expireAfterAccess(5, TimeUnit.MINUTES).build();
     
     @Override
@@ -78,6 +86,7 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         CDCImporterManager.putImporter(this);
         for (CDCChannelProgressPair each : channelProgressPairs) {
             each.getJobProgressListener().onProgressUpdated(new PipelineJobProgressUpdatedParameter(0));
+            each.getChannel().registerReadinessCallback(this::onChannelReady);
         }
         while (isRunning()) {
             if (needSorting) {
@@ -93,89 +102,80 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     @SneakyThrows(InterruptedException.class)
     private void doWithSorting() {
-        if (null != rateLimitAlgorithm) {
-            rateLimitAlgorithm.intercept(PipelineSQLOperationType.INSERT, 1);
-        }
-        List<CSNRecords> csnRecordsList = getCsnRecordsList();
+        channelReadySignal.drainPermits();
+        List<CSNRecords> csnRecordsList = pollCSNRecordsBatch();
         if (csnRecordsList.isEmpty()) {
-            TimeUnit.MILLISECONDS.sleep(timeoutMillis);
+            channelReadySignal.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
             return;
         }
-        // TODO Combine small transactions into a large transaction, to improve transformation performance.
-        String ackId = CDCAckId.build(importerId).marshal();
-        if (1 == csnRecordsList.size()) {
-            processCSNRecords(csnRecordsList.get(0), ackId);
-        } else {
-            processCSNRecordsList(csnRecordsList, ackId);
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(PipelineSQLOperationType.INSERT, csnRecordsList.size());
         }
+        processCSNRecordsList(csnRecordsList, CDCAckId.build(importerId).marshal());
     }
     
-    private List<CSNRecords> getCsnRecordsList() {
+    private List<CSNRecords> pollCSNRecordsBatch() {
         List<CSNRecords> result = new LinkedList<>();
-        CSNRecords firstRecords = null;
-        for (int i = 0, count = channelProgressPairs.size(); i < count; i++) {
-            prepareTransactionRecords();
-            CSNRecords csnRecords = csnRecordsQueue.peek();
-            if (null == csnRecords) {
-                continue;
+        long startMillis = System.currentTimeMillis();
+        int dataRecordsCount = 0;
+        while (dataRecordsCount < batchSize && System.currentTimeMillis() - startMillis < timeoutMillis) {
+            prepareChannelHeads();
+            List<CSNRecords> csnRecordsList = pollSameCSNRecordsList();
+            if (csnRecordsList.isEmpty()) {
+                break;
             }
-            if (null == firstRecords) {
-                csnRecords = csnRecordsQueue.poll();
-                firstRecords = csnRecords;
-                result.add(csnRecords);
-            } else if (csnRecords.getCsn() == firstRecords.getCsn()) {
-                csnRecords = csnRecordsQueue.poll();
-                result.add(csnRecords);
+            for (CSNRecords each : csnRecordsList) {
+                dataRecordsCount += getDataRecordsCount(each.getRecords());
             }
+            result.addAll(csnRecordsList);
         }
         return result;
     }
     
     // TODO openGauss CSN should be incremented for every transaction. Currently, CSN might be duplicated in transactions.
-    // TODO Use channels watermark depth to improve performance.
-    private void prepareTransactionRecords() {
-        if (csnRecordsQueue.isEmpty()) {
-            prepareWhenQueueIsEmpty();
-        } else {
-            prepareWhenQueueIsNotEmpty(csnRecordsQueue.peek().getCsn());
+    private List<CSNRecords> pollSameCSNRecordsList() {
+        CSNRecords firstRecords = pollCSNRecords();
+        if (null == firstRecords) {
+            return Collections.emptyList();
         }
+        List<CSNRecords> result = new LinkedList<>();
+        result.add(firstRecords);
+        while (!csnRecordsQueue.isEmpty() && csnRecordsQueue.peek().getCsn() == firstRecords.getCsn()) {
+            result.add(pollCSNRecords());
+        }
+        return result;
     }
     
-    private void prepareWhenQueueIsEmpty() {
-        for (CDCChannelProgressPair each : channelProgressPairs) {
-            PipelineChannel channel = each.getChannel();
-            List<Record> records = channel.poll();
-            if (records.isEmpty()) {
-                continue;
-            }
-            if (0 == getDataRecordsCount(records)) {
-                channel.ack(records);
-                continue;
-            }
-            csnRecordsQueue.add(new CSNRecords(findFirstDataRecord(records).getCsn(), each, records));
+    private CSNRecords pollCSNRecords() {
+        CSNRecords result = csnRecordsQueue.poll();
+        if (null != result) {
+            headChannelProgressPairs.remove(result.getChannelProgressPair());
+            prepareChannelHead(result.getChannelProgressPair());
         }
+        return result;
     }
     
-    private void prepareWhenQueueIsNotEmpty(final long oldestCSN) {
+    private void prepareChannelHeads() {
         for (CDCChannelProgressPair each : channelProgressPairs) {
-            PipelineChannel channel = each.getChannel();
-            List<Record> records = channel.peek();
-            if (records.isEmpty()) {
-                continue;
-            }
-            if (0 == getDataRecordsCount(records)) {
-                records = channel.poll();
-                channel.ack(records);
-                continue;
-            }
-            long csn = findFirstDataRecord(records).getCsn();
-            if (csn <= oldestCSN) {
-                records = channel.poll();
-                csnRecordsQueue.add(new CSNRecords(csn, each, records));
+            if (!headChannelProgressPairs.contains(each)) {
+                prepareChannelHead(each);
             }
         }
     }
     
+    private void prepareChannelHead(final CDCChannelProgressPair channelProgressPair) {
+        PipelineChannel channel = channelProgressPair.getChannel();
+        List<Record> records = channel.poll();
+        while (!records.isEmpty() && 0 == getDataRecordsCount(records)) {
+            channel.ack(records);
+            records = channel.poll();
+        }
+        if (!records.isEmpty()) {
+            csnRecordsQueue.add(new CSNRecords(findFirstDataRecord(records).getCsn(), channelProgressPair, records));
+            headChannelProgressPairs.add(channelProgressPair);
+        }
+    }
+    
     private int getDataRecordsCount(final List<Record> records) {
         return (int) records.stream().filter(DataRecord.class::isInstance).count();
     }
@@ -189,19 +189,18 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         throw new IllegalStateException("No data record found");
     }
     
-    private void processCSNRecords(final CSNRecords csnRecords, final String ackId) {
-        List<Record> records = csnRecords.getRecords();
-        ackCache.put(ackId, Collections.singletonList(Pair.of(csnRecords.getChannelProgressPair(), new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
-        sink.write(ackId, filterDataRecords(records));
-    }
-    
     private void processCSNRecordsList(final List<CSNRecords> csnRecordsList, final String ackId) {
-        List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue = csnRecordsList.stream().map(each -> Pair.of(each.getChannelProgressPair(),
-                new CDCAckPosition(each.getRecords().get(each.getRecords().size() - 1), getDataRecordsCount(each.getRecords())))).collect(Collectors.toList());
-        ackCache.put(ackId, ackValue);
-        Collection<Record> records = new ArrayList<>(ackValue.stream().mapToInt(each -> each.getRight().getDataRecordCount()).sum());
-        csnRecordsList.forEach(each -> records.addAll(filterDataRecords(each.getRecords())));
-        sink.write(ackId, filterDataRecords(records));
+        Map<CDCChannelProgressPair, CDCAckPosition> ackPositions = new LinkedHashMap<>(channelProgressPairs.size(), 1F);
+        List<Record> records = new LinkedList<>();
+        for (CSNRecords each : csnRecordsList) {
+            List<Record> dataRecords = filterDataRecords(each.getRecords());
+            records.addAll(dataRecords);
+            CDCAckPosition ackPosition = ackPositions.get(each.getChannelProgressPair());
+            int dataRecordCount = null == ackPosition ? dataRecords.size() : ackPosition.getDataRecordCount() + dataRecords.size();
+            ackPositions.put(each.getChannelProgressPair(), new CDCAckPosition(each.getRecords().get(each.getRecords().size() - 1), dataRecordCount));
+        }
+        ackCache.put(ackId, ackPositions.entrySet().stream().map(each -> Pair.of(each.getKey(), each.getValue())).collect(Collectors.toList()));
+        sink.write(ackId, records);
     }
     
     private List<Record> filterDataRecords(final Collection<Record> records) {
@@ -237,6 +236,12 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         sink.write(ackId, records);
     }
     
+    private void onChannelReady() {
+        if (0 == channelReadySignal.availablePermits()) {
+            channelReadySignal.release();
+        }
+    }
+    
     /**
      * Ack.
      *
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.memory.MemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class CDCImporterTest {
+    
+    private final PipelineChannelAckCallback firstAckCallback = mock(PipelineChannelAckCallback.class);
+    
+    private final PipelineChannelAckCallback secondAckCallback = mock(PipelineChannelAckCallback.class);
+    
+    private final PipelineJobProgressListener firstProgressListener = mock(PipelineJobProgressListener.class);
+    
+    private final PipelineJobProgressListener secondProgressListener = mock(PipelineJobProgressListener.class);
+    
+    private final MemoryPipelineChannel firstChannel = new MemoryPipelineChannel(10, firstAckCallback);
+    
+    private final MemoryPipelineChannel secondChannel = new MemoryPipelineChannel(10, secondAckCallback);
+    
+    private final PipelineSink sink = mock(PipelineSink.class);
+    
+    private CDCImporter importer;
+    
+    @AfterEach
+    void tearDown() {
+        importer.stop();
+    }
+    
+    @Test
+    void assertWriteSortedByCSNAcrossChannels() {
+        firstChannel.push(Collections.singletonList(createDataRecord(1L)));
+        firstChannel.push(Collections.singletonList(createDataRecord(3L)));
+        secondChannel.push(Collections.singletonList(createDataRecord(2L)));
+        startImporter(100, 100L);
+        assertThat(getWrittenCSNs(1), is(Collections.singletonList(Arrays.asList(1L, 2L, 3L))));
+    }
+    
+    @Test
+    void assertCoalesceAdjacentBatchesUpToBatchSize() {
+        firstChannel.push(Collections.singletonList(createDataRecord(1L)));
+        secondChannel.push(Collections.singletonList(createDataRecord(2L)));
+        firstChannel.push(Collections.singletonList(createDataRecord(3L)));
+        secondChannel.push(Collections.singletonList(createDataRecord(4L)));
+        firstChannel.push(Collections.singletonList(createDataRecord(5L)));
+        startImporter(2, 100L);
+        assertThat(getWrittenCSNs(3), is(Arrays.asList(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L), Collections.singletonList(5L))));
+    }
+    
+    @Test
+    void assertAckToEachOriginChannel() {
+        DataRecord firstRecord = createDataRecord(1L);
+        DataRecord secondRecord = createDataRecord(2L);
+        DataRecord thirdRecord = createDataRecord(3L);
+        firstChannel.push(Collections.singletonList(firstRecord));
+        secondChannel.push(Collections.singletonList(secondRecord));
+        firstChannel.push(Collections.singletonList(thirdRecord));
+        startImporter(100, 100L);
+        ArgumentCaptor<String> ackIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(sink, timeout(1000L)).write(ackIdCaptor.capture(), anyCollection());
+        importer.ack(ackIdCaptor.getValue());
+        verify(firstAckCallback).onAck(Collections.singletonList(thirdRecord));
+        verify(secondAckCallback).onAck(Collections.singletonList(secondRecord));
+        verify(firstProgressListener).onProgressUpdated(argThat(argument -> 2 == argument.getProcessedRecordsCount()));
+        verify(secondProgressListener).onProgressUpdated(argThat(argument -> 1 == argument.getProcessedRecordsCount()));
+    }
+    
+    @Test
+    void assertWakeUpOnChannelReady() {
+        startImporter(100, 10000L);
+        verify(secondProgressListener, timeout(1000L)).onProgressUpdated(any());
+        secondChannel.push(Collections.singletonList(createDataRecord(1L)));
+        verify(sink, timeout(1000L)).write(anyString(), anyCollection());
+    }
+    
+    @Test
+    void assertInterceptRateLimitByCSNRecordsCount() {
+        JobRateLimitAlgorithm rateLimitAlgorithm = mock(JobRateLimitAlgorithm.class);
+        firstChannel.push(Collections.singletonList(createDataRecord(1L)));
+        secondChannel.push(Collections.singletonList(createDataRecord(2L)));
+        startImporter(100, 100L, rateLimitAlgorithm);
+        verify(sink, timeout(1000L)).write(anyString(), anyCollection());
+        verify(rateLimitAlgorithm).intercept(PipelineSQLOperationType.INSERT, 2);
+    }
+    
+    private void startImporter(final int batchSize, final long timeoutMillis) {
+        startImporter(batchSize, timeoutMillis, null);
+    }
+    
+    private void startImporter(final int batchSize, final long timeoutMillis, final JobRateLimitAlgorithm rateLimitAlgorithm) {
+        List<CDCChannelProgressPair> channelProgressPairs = new LinkedList<>();
+        channelProgressPairs.add(new CDCChannelProgressPair(firstChannel, firstProgressListener));
+        channelProgressPairs.add(new CDCChannelProgressPair(secondChannel, secondProgressListener));
+        importer = new CDCImporter(channelProgressPairs, batchSize, timeoutMillis, sink, true, rateLimitAlgorithm);
+        Thread thread = new Thread(importer);
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<List<Long>> getWrittenCSNs(final int writeTimes) {
+        ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(sink, timeout(1000L).times(writeTimes)).write(anyString(), recordsCaptor.capture());
+        return recordsCaptor.getAllValues().stream().map(each -> each.stream().map(record -> ((DataRecord) record).getCsn()).collect(Collectors.toList())).collect(Collectors.toList());
+    }
+    
+    private DataRecord createDataRecord(final long csn) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order_" + csn, new IngestPlaceholderPosition(), 0);
+        result.setCsn(csn);
+        return result;
+    }
+}
@@ -26,8 +26,10 @@ import org.apache.shardingsphere.infra.database.core.metadata.database.system.Sy
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -55,6 +57,22 @@ public final class ExternalMetaDataFactory {
                 DatabaseTypeEngine.getStorageTypes(databaseName, databaseConfig), databaseConfig, props, instanceContext);
     }
     
+    /**
+     * Create database meta data for db with built rules.
+     *
+     * @param databaseName database name
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param rules built database rules
+     * @return database meta data
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final String databaseName, final DatabaseConfiguration databaseConfig,
+                                                final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) throws SQLException {
+        return ShardingSphereDatabase.create(databaseName, DatabaseTypeEngine.getProtocolType(databaseName, databaseConfig, props),
+                DatabaseTypeEngine.getStorageTypes(databaseName, databaseConfig), databaseConfig, props, rules);
+    }
+    
     /**
      * Create databases meta data for db.
      *
@@ -66,23 +84,39 @@ public final class ExternalMetaDataFactory {
      */
     public static Map<String, ShardingSphereDatabase> create(final Map<String, DatabaseConfiguration> databaseConfigMap,
                                                              final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        return create(databaseConfigMap, props, instanceContext, false);
+    }
+    
+    /**
+     * Create databases meta data for db.
+     *
+     * @param databaseConfigMap database configuration map
+     * @param props properties
+     * @param instanceContext instance context
+     * @param metaDataSnapshotEnabled whether to load table meta data from local snapshot
+     * @return databases
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereDatabase> create(final Map<String, DatabaseConfiguration> databaseConfigMap, final ConfigurationProperties props,
+                                                             final InstanceContext instanceContext, final boolean metaDataSnapshotEnabled) throws SQLException {
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(databaseConfigMap, props);
         SystemDatabase systemDatabase = new SystemDatabase(protocolType);
         Map<String, ShardingSphereDatabase> result = new ConcurrentHashMap<>(databaseConfigMap.size() + systemDatabase.getSystemDatabaseSchemaMap().size(), 1F);
-        result.putAll(createGenericDatabases(databaseConfigMap, protocolType, systemDatabase, props, instanceContext));
+        result.putAll(createGenericDatabases(databaseConfigMap, protocolType, systemDatabase, props, instanceContext, metaDataSnapshotEnabled));
         result.putAll(createSystemDatabases(databaseConfigMap, protocolType, systemDatabase, props));
         return result;
     }
     
     private static Map<String, ShardingSphereDatabase> createGenericDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap,
                                                                               final DatabaseType protocolType, final SystemDatabase systemDatabase,
-                                                                              final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+                                                                              final ConfigurationProperties props, final InstanceContext instanceContext,
+                                                                              final boolean metaDataSnapshotEnabled) throws SQLException {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(databaseConfigMap.size(), 1F);
         for (Entry<String, DatabaseConfiguration> entry : databaseConfigMap.entrySet()) {
             String databaseName = entry.getKey();
             if (!entry.getValue().getStorageUnits().isEmpty() || !systemDatabase.getSystemSchemas().contains(databaseName)) {
                 Map<String, DatabaseType> storageTypes = DatabaseTypeEngine.getStorageTypes(entry.getKey(), entry.getValue());
-                result.put(databaseName.toLowerCase(), ShardingSphereDatabase.create(databaseName, protocolType, storageTypes, entry.getValue(), props, instanceContext));
+                result.put(databaseName.toLowerCase(), ShardingSphereDatabase.create(databaseName, protocolType, storageTypes, entry.getValue(), props, instanceContext, metaDataSnapshotEnabled));
             }
         }
         return result;
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDa
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
@@ -44,6 +45,16 @@ class ExternalMetaDataFactoryTest {
         assertTrue(actual.getResourceMetaData().getStorageUnits().isEmpty());
     }
     
+    @Test
+    void assertCreateSingleDatabaseWithBuiltRules() throws SQLException {
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.emptyList());
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        ShardingSphereDatabase actual = ExternalMetaDataFactory.create("foo_db", databaseConfig, new ConfigurationProperties(new Properties()), Collections.singleton(rule));
+        assertThat(actual.getName(), is("foo_db"));
+        assertThat(actual.getRuleMetaData().getRules().size(), is(1));
+        assertThat(actual.getRuleMetaData().getRules().iterator().next(), is(rule));
+    }
+    
     @Test
     void assertCreateDatabaseMap() throws SQLException {
         DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.emptyList());
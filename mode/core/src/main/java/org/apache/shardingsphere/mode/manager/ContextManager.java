@@ -23,6 +23,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.snapshot.SchemaMetaDataSnapshotRefreshedListener;
+import org.apache.shardingsphere.infra.database.core.metadata.data.snapshot.SchemaMetaDataSnapshotRefreshedListenerRegistry;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.NoDatabaseSelectedException;
@@ -54,6 +57,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 /**
  * Context manager.
@@ -76,6 +80,8 @@ public final class ContextManager implements AutoCloseable {
     
     private final ClusterStateContext clusterStateContext = new ClusterStateContext();
     
+    private final SchemaMetaDataSnapshotRefreshedListener snapshotRefreshedListener = this::refreshSnapshotChangedDatabases;
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = new AtomicReference<>(metaDataContexts);
         this.instanceContext = instanceContext;
@@ -83,6 +89,7 @@ public final class ContextManager implements AutoCloseable {
         configurationContextManager = new ConfigurationContextManager(this.metaDataContexts, instanceContext);
         resourceMetaDataContextManager = new ResourceMetaDataContextManager(this.metaDataContexts);
         executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        SchemaMetaDataSnapshotRefreshedListenerRegistry.register(snapshotRefreshedListener);
     }
     
     /**
@@ -165,6 +172,13 @@ public final class ContextManager implements AutoCloseable {
         }
     }
     
+    private boolean refreshSnapshotChangedDatabases(final MetaDataLoaderMaterial material) {
+        Collection<ShardingSphereDatabase> changedDatabases = getMetaDataContexts().getMetaData().getDatabases().values().stream()
+                .filter(each -> each.getResourceMetaData().getStorageUnits().values().stream().anyMatch(unit -> unit.getDataSource() == material.getDataSource())).collect(Collectors.toList());
+        changedDatabases.forEach(this::refreshTableMetaData);
+        return !changedDatabases.isEmpty();
+    }
+    
     private MetaDataContexts createMetaDataContexts(final ShardingSphereDatabase database) throws SQLException {
         MetaDataBasedPersistService metaDataPersistService = metaDataContexts.get().getPersistService();
         Map<String, DataSourcePoolProperties> dataSourcePoolPropsFromRegCenter = metaDataPersistService.getDataSourceUnitService().load(database.getName());
@@ -173,6 +187,7 @@ public final class ContextManager implements AutoCloseable {
         Collection<RuleConfiguration> ruleConfigs = metaDataPersistService.getDatabaseRulePersistService().load(database.getName());
         Map<String, ShardingSphereDatabase> changedDatabases = configurationContextManager.createChangedDatabases(database.getName(), false, switchingResource, ruleConfigs);
         ConfigurationProperties props = new ConfigurationProperties(metaDataPersistService.getPropsService().load());
+        metaDataContexts.get().getMetaData().getProps().handOverBoundStates(props);
         Collection<RuleConfiguration> globalRuleConfigs = metaDataPersistService.getGlobalRuleService().load();
         RuleMetaData changedGlobalMetaData = new RuleMetaData(GlobalRulesBuilder.buildRules(globalRuleConfigs, changedDatabases, props));
         MetaDataContexts result = new MetaDataContexts(metaDataPersistService,
@@ -285,6 +300,7 @@ public final class ContextManager implements AutoCloseable {
     
     @Override
     public void close() {
+        SchemaMetaDataSnapshotRefreshedListenerRegistry.unregister(snapshotRefreshedListener);
         executorEngine.close();
         metaDataContexts.get().close();
     }
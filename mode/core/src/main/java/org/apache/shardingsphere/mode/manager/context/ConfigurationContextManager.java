@@ -39,6 +39,7 @@ import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilde
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.metadata.factory.ExternalMetaDataFactory;
 import org.apache.shardingsphere.metadata.factory.InternalMetaDataFactory;
 import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
@@ -212,16 +213,17 @@ public final class ConfigurationContextManager {
     }
     
     private void refreshMetadata(final String databaseName, final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules) throws SQLException {
+        MetaDataContexts reloadMetaDataContexts = createMetaDataContextsByAlterRule(databaseName, database.getRuleMetaData().getRules(), rules);
         database.getRuleMetaData().getRules().clear();
-        database.getRuleMetaData().getRules().addAll(rules);
-        MetaDataContexts reloadMetaDataContexts = createMetaDataContextsByAlterRule(databaseName, database.getRuleMetaData().getConfigurations());
+        database.getRuleMetaData().getRules().addAll(reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules());
         alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName));
         metaDataContexts.set(reloadMetaDataContexts);
         metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
     }
     
-    private MetaDataContexts createMetaDataContextsByAlterRule(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        Map<String, ShardingSphereDatabase> changedDatabases = createChangedDatabases(databaseName, false, null, ruleConfigs);
+    private MetaDataContexts createMetaDataContextsByAlterRule(final String databaseName, final Collection<ShardingSphereRule> previousRules,
+                                                              final Collection<ShardingSphereRule> rules) throws SQLException {
+        Map<String, ShardingSphereDatabase> changedDatabases = createChangedDatabases(databaseName, previousRules, rules);
         return newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, metaDataContexts.get().getMetaData().getGlobalResourceMetaData(),
                 metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), metaDataContexts.get().getMetaData().getProps()));
     }
@@ -372,6 +374,26 @@ public final class ConfigurationContextManager {
         return result;
     }
     
+    private Map<String, ShardingSphereDatabase> createChangedDatabases(final String databaseName, final Collection<ShardingSphereRule> previousRules,
+                                                                       final Collection<ShardingSphereRule> rules) throws SQLException {
+        ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+        Collection<RuleConfiguration> ruleConfigs = rules.stream().map(ShardingSphereRule::getConfiguration).collect(Collectors.toList());
+        DatabaseConfiguration databaseConfig = getDatabaseConfiguration(database.getResourceMetaData(), null, ruleConfigs);
+        Collection<ShardingSphereRule> changedRules = rules.stream().filter(each -> !previousRules.contains(each)).collect(Collectors.toList());
+        Collection<ShardingSphereRule> rebuiltRules = DatabaseRulesBuilder.build(database.getName(), database.getProtocolType(), databaseConfig, previousRules, changedRules, instanceContext);
+        ShardingSphereDatabase changedDatabase = isTableMetaDataChanged(previousRules, rules)
+                ? ExternalMetaDataFactory.create(database.getName(), databaseConfig, metaDataContexts.get().getMetaData().getProps(), rebuiltRules)
+                : ShardingSphereDatabase.create(database.getName(), database.getProtocolType(), databaseConfig, rebuiltRules, database.getSchemas());
+        Map<String, ShardingSphereDatabase> result = new LinkedHashMap<>(metaDataContexts.get().getMetaData().getDatabases());
+        result.put(databaseName.toLowerCase(), changedDatabase);
+        return result;
+    }
+    
+    private boolean isTableMetaDataChanged(final Collection<ShardingSphereRule> previousRules, final Collection<ShardingSphereRule> rules) {
+        return previousRules.stream().anyMatch(each -> each instanceof TableContainedRule && !rules.contains(each))
+                || rules.stream().anyMatch(each -> each instanceof TableContainedRule && !previousRules.contains(each));
+    }
+    
     private DatabaseConfiguration getDatabaseConfiguration(final ResourceMetaData resourceMetaData, final SwitchingResource switchingResource,
                                                            final Collection<RuleConfiguration> toBeCreatedRuleConfigs) {
         Map<String, DataSourcePoolProperties> propsMap = null == switchingResource
@@ -465,6 +487,7 @@ public final class ConfigurationContextManager {
     public synchronized void alterProperties(final Properties props) {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(metaDataContexts.get().getMetaData().getDatabases(), metaDataContexts.get().getMetaData().getGlobalResourceMetaData(),
                 metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
+        metaDataContexts.get().getMetaData().getProps().handOverBoundStates(toBeChangedMetaData.getProps());
         metaDataContexts.set(newMetaDataContexts(toBeChangedMetaData));
     }
     
@@ -100,5 +100,6 @@ public final class MetaDataContexts implements AutoCloseable {
         persistService.getRepository().close();
         metaData.getGlobalRuleMetaData().findRules(ResourceHeldRule.class).forEach(ResourceHeldRule::closeStaleResource);
         metaData.getDatabases().values().forEach(each -> each.getRuleMetaData().findRules(ResourceHeldRule.class).forEach(ResourceHeldRule::closeStaleResource));
+        metaData.getProps().closeBoundStates();
     }
 }
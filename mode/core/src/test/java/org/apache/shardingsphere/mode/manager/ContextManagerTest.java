@@ -43,7 +43,9 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.database.DatabaseMetaDataPersistService;
+import org.apache.shardingsphere.mode.fixture.ConfigurationPropertiesBoundStateFixture;
 import org.apache.shardingsphere.mode.fixture.ModeRuleConfigurationFixture;
+import org.apache.shardingsphere.mode.fixture.ModeRuleFixture;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
@@ -57,6 +59,7 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -260,6 +263,21 @@ class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getRuleMetaData().getConfigurations().size(), is(1));
     }
     
+    @Test
+    void assertAlterRuleConfigurationWithoutTableContainedRule() {
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getStorageUnits()).thenReturn(Collections.emptyMap());
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), resourceMetaData,
+                new RuleMetaData(new LinkedList<>(Collections.singleton(new ModeRuleFixture()))),
+                Collections.singletonMap("foo_schema", new ShardingSphereSchema(Collections.singletonMap("foo_tbl", table), Collections.emptyMap())));
+        when(metaDataContexts.getMetaData().getDatabase("foo_db")).thenReturn(database);
+        when(metaDataContexts.getMetaData().getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        when(metaDataContexts.getPersistService()).thenReturn(mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS));
+        contextManager.getConfigurationContextManager().alterRuleConfiguration("foo_db", new ModeRuleConfigurationFixture());
+        assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getSchema("foo_schema").getTable("foo_tbl"), is(table));
+    }
+    
     @Test
     void assertAlterDataSourceConfiguration() {
         ShardingSphereDatabase originalDatabaseMetaData = new ShardingSphereDatabase(
@@ -315,8 +333,13 @@ class ContextManagerTest {
     
     @Test
     void assertAlterProperties() {
+        ConfigurationPropertiesBoundStateFixture boundState = contextManager.getMetaDataContexts().getMetaData().getProps()
+                .getBoundState(ConfigurationPropertiesBoundStateFixture.class, ConfigurationPropertiesBoundStateFixture::new);
         contextManager.getConfigurationContextManager().alterProperties(PropertiesBuilder.build(new Property("foo", "foo_value")));
-        assertThat(contextManager.getMetaDataContexts().getMetaData().getProps().getProps().getProperty("foo"), is("foo_value"));
+        ConfigurationProperties actual = contextManager.getMetaDataContexts().getMetaData().getProps();
+        assertThat(actual.getProps().getProperty("foo"), is("foo_value"));
+        assertThat(actual.getBoundState(ConfigurationPropertiesBoundStateFixture.class, ConfigurationPropertiesBoundStateFixture::new), is(boundState));
+        assertThat(boundState.getProps(), is(actual));
     }
     
     @Test
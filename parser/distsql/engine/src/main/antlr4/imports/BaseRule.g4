@@ -43,24 +43,32 @@ property
     : key=STRING_ EQ_ value=literal
     ;
 
+identifier
+    : IDENTIFIER_ | unreservedWord
+    ;
+
+unreservedWord
+    : SQL | DIGEST | STATISTICS | LIMIT
+    ;
+
 databaseName
-    : IDENTIFIER_
+    : identifier
     ;
 
 schemaName
-    : IDENTIFIER_
+    : identifier
     ;
 
 tableName
-    : IDENTIFIER_
+    : identifier
     ;
 
 resourceName
-    : IDENTIFIER_
+    : identifier
     ;
 
 storageUnitName
-    : IDENTIFIER_
+    : identifier
     ;
 
 metadata
@@ -338,3 +338,19 @@ ALGORITHM
 FORCE
     : F O R C E
     ;
+
+SQL
+    : S Q L
+    ;
+
+DIGEST
+    : D I G E S T
+    ;
+
+STATISTICS
+    : S T A T I S T I C S
+    ;
+
+LIMIT
+    : L I M I T
+    ;
@@ -31,6 +31,10 @@ showDistVariables
     : SHOW DIST VARIABLES showLike?
     ;
 
+showSQLDigestStatistics
+    : SHOW SQL DIGEST STATISTICS (LIMIT INT_)?
+    ;
+
 alterComputeNode
     : ALTER COMPUTE NODE instanceId SET variableName EQ_ variableValues
     ;
@@ -128,7 +132,7 @@ metaDataValue
     ;
 
 variableName
-    : IDENTIFIER_ | STRING_
+    : identifier | STRING_
     ;
 
 variableValues
@@ -140,7 +144,7 @@ variableValue
     ;
 
 instanceId
-    : IDENTIFIER_ | STRING_
+    : identifier | STRING_
     ;
 
 refreshScope
@@ -156,7 +160,7 @@ lockStrategy
     ;
 
 label
-    : IDENTIFIER_
+    : identifier
     ;
 
 showLike
@@ -28,6 +28,7 @@ execute
     | setDistVariable
     | showDistVariable
     | showDistVariables
+    | showSQLDigestStatistics
     | enableComputeNode
     | disableComputeNode
     | showComputeNodes
@@ -43,6 +43,12 @@ class RegisterStorageUnitTest {
         assertThat(sqlSegment.getPassword(), is("'\"r\\[oo]t"));
     }
     
+    @Test
+    void assertRegisterStorageUnitWithUnreservedKeywordName() {
+        String sql = "REGISTER STORAGE UNIT statistics (URL='jdbc:mysql://127.0.0.1:3306/test_db', USER='root', PASSWORD='')";
+        assertThat(getRegisterStorageUnitStatement(sql).getStorageUnits().iterator().next().getName(), is("statistics"));
+    }
+    
     private RegisterStorageUnitStatement getRegisterStorageUnitStatement(final String sql) {
         DistSQLStatementParserEngine distSQLStatementParserEngine = new DistSQLStatementParserEngine();
         return (RegisterStorageUnitStatement) distSQLStatementParserEngine.parse(sql);
@@ -0,0 +1,23 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one or more
+-- contributor license agreements.  See the NOTICE file distributed with
+-- this work for additional information regarding copyright ownership.
+-- The ASF licenses this file to You under the Apache License, Version 2.0
+-- (the "License"); you may not use this file except in compliance with
+-- the License.  You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+SELECT * FROM t_user WHERE user_id = ?
+SELECT u.user_id, a.address_id FROM t_user u JOIN t_address a ON u.user_id = a.user_id WHERE u.status IN (?, ?) ORDER BY u.user_id
+SELECT status, COUNT(*) FROM t_user WHERE create_time > ? GROUP BY status HAVING COUNT(*) > ?
+INSERT INTO t_user (user_id, user_name, status) VALUES (?, ?, ?)
+UPDATE t_user SET status = ? WHERE user_id = ?
+DELETE FROM t_user WHERE user_id = ?
@@ -29,6 +29,7 @@ import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 
@@ -52,6 +53,34 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
     }
     
+    /**
+     * Reset SQL parser to parse another SQL.
+     * 
+     * <p>The reset parser keeps its ATN simulator and only replaces the token stream, error listeners added for LL mode are removed.</p>
+     *
+     * @param sqlParser SQL parser to be reset
+     * @param sql SQL
+     * @param lexerClass lexer class
+     */
+    public static void reset(final SQLParser sqlParser, final String sql, final Class<? extends SQLLexer> lexerClass) {
+        ((Parser) sqlParser).setTokenStream(createTokenStream(sql, lexerClass));
+        ((Parser) sqlParser).removeErrorListeners();
+    }
+    
+    /**
+     * Release SQL and token stream held by SQL parser.
+     * 
+     * <p>The ATN simulator keeps the token stream of last prediction, so it is replaced by a new one which shares the same DFA cache.</p>
+     *
+     * @param sqlParser SQL parser to be released
+     */
+    public static void release(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        parser.setTokenStream(null);
+        ParserATNSimulator interpreter = parser.getInterpreter();
+        parser.setInterpreter(new ParserATNSimulator(parser, parser.getATN(), interpreter.decisionToDFA, interpreter.getSharedContextCache()));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
@@ -38,6 +38,8 @@ public final class SQLParserExecutor {
     
     private final DatabaseType databaseType;
     
+    private final ThreadLocal<SQLParser> sqlParsers = new ThreadLocal<>();
+    
     /**
      * Parse SQL.
      * 
@@ -55,20 +57,37 @@ public final class SQLParserExecutor {
     
     private ParseASTNode twoPhaseParse(final String sql) {
         DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        SQLParser sqlParser = getSQLParser(sql, sqlParserFacade);
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
         } catch (final ParseCancellationException ex) {
-            ((Parser) sqlParser).reset();
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
-            ((Parser) sqlParser).removeErrorListeners();
-            ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
-            try {
-                return (ParseASTNode) sqlParser.parse();
-            } catch (final ParseCancellationException e) {
-                throw new SQLParsingException(sql + ", " + e.getMessage());
-            }
+            return parseWithLLMode(sql, sqlParser);
+        } finally {
+            SQLParserFactory.release(sqlParser);
+        }
+    }
+    
+    private SQLParser getSQLParser(final String sql, final DialectSQLParserFacade sqlParserFacade) {
+        SQLParser result = sqlParsers.get();
+        if (null == result) {
+            result = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+            sqlParsers.set(result);
+        } else {
+            SQLParserFactory.reset(result, sql, sqlParserFacade.getLexerClass());
+        }
+        return result;
+    }
+    
+    private ParseASTNode parseWithLLMode(final String sql, final SQLParser sqlParser) {
+        ((Parser) sqlParser).reset();
+        ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
+        ((Parser) sqlParser).removeErrorListeners();
+        ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
+        try {
+            return (ParseASTNode) sqlParser.parse();
+        } catch (final ParseCancellationException ex) {
+            throw new SQLParsingException(sql + ", " + ex.getMessage());
         }
     }
 }
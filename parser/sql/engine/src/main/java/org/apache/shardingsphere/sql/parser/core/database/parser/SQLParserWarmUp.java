@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL parser warm up.
+ * 
+ * <p>DFA caches of lexer and parser are shared by parser class, replaying a SQL corpus at startup fills them before the first query arrives.
+ * Corpus of database type is loaded from all {@code sql-parser/warm-up/${database-type}.sql} resources in class path,
+ * one SQL per line, blank lines and lines start with {@code --} are ignored.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserWarmUp {
+    
+    private static final String CORPUS_PATH = "sql-parser/warm-up/%s.sql";
+    
+    private static final String COMMENT_PREFIX = "--";
+    
+    private static final Set<String> WARMED_DATABASE_TYPES = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Warm up SQL parser of database type, each database type is warmed up only once.
+     *
+     * @param databaseType database type
+     */
+    public static void warmUp(final DatabaseType databaseType) {
+        if (!DatabaseTypedSPILoader.findService(DialectSQLParserFacade.class, databaseType).isPresent() || !WARMED_DATABASE_TYPES.add(databaseType.getType())) {
+            return;
+        }
+        SQLParserExecutor sqlParserExecutor = new SQLParserExecutor(databaseType);
+        for (String each : loadCorpus(databaseType)) {
+            try {
+                sqlParserExecutor.parse(each);
+            } catch (final SQLParsingException ignored) {
+                // Statement not supported by dialect does not need warm up.
+            }
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static Collection<String> loadCorpus(final DatabaseType databaseType) {
+        Collection<String> result = new LinkedList<>();
+        Enumeration<URL> resources = SQLParserWarmUp.class.getClassLoader().getResources(String.format(CORPUS_PATH, databaseType.getType().toLowerCase()));
+        while (resources.hasMoreElements()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                reader.lines().map(String::trim).filter(each -> !each.isEmpty() && !each.startsWith(COMMENT_PREFIX)).forEach(result::add);
+            }
+        }
+        return result;
+    }
+}
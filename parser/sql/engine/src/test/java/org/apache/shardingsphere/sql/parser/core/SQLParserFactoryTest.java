@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.fixture.LexerFixture;
@@ -26,6 +30,10 @@ import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.mock;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SQLParserFactoryTest {
     
@@ -38,4 +46,24 @@ class SQLParserFactoryTest {
         SQLParser result = SQLParserFactory.newInstance(SQL, sqlLexer.getClass(), sqlParser.getClass());
         assertThat(result, instanceOf(ParserFixture.class));
     }
+    
+    @Test
+    void assertReset() {
+        SQLParser sqlParser = SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class);
+        TokenStream originalTokenStream = ((Parser) sqlParser).getTokenStream();
+        ((Parser) sqlParser).addErrorListener(mock(ANTLRErrorListener.class));
+        SQLParserFactory.reset(sqlParser, "SELECT 1", LexerFixture.class);
+        assertThat(((Parser) sqlParser).getTokenStream(), not(originalTokenStream));
+        assertTrue(((Parser) sqlParser).getErrorListeners().isEmpty());
+    }
+    
+    @Test
+    void assertRelease() {
+        SQLParser sqlParser = SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class);
+        ParserATNSimulator originalInterpreter = ((Parser) sqlParser).getInterpreter();
+        SQLParserFactory.release(sqlParser);
+        assertNull(((Parser) sqlParser).getTokenStream());
+        assertThat(((Parser) sqlParser).getInterpreter(), not(originalInterpreter));
+        assertThat(((Parser) sqlParser).getInterpreter().decisionToDFA, is(originalInterpreter.decisionToDFA));
+    }
 }
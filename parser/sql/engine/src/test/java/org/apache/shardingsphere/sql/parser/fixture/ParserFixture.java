@@ -20,6 +20,10 @@ package org.apache.shardingsphere.sql.parser.fixture;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNType;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.api.ASTNode;
 
@@ -27,6 +31,7 @@ public final class ParserFixture extends Parser implements SQLParser {
     
     public ParserFixture(final TokenStream input) {
         super(input);
+        _interp = new ParserATNSimulator(this, new ATN(ATNType.PARSER, 0), new DFA[0], new PredictionContextCache());
     }
     
     @Override
@@ -20,16 +20,19 @@ package org.apache.shardingsphere.proxy.backend.connector;
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.context.aware.CursorDefinitionAware;
 import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.ddl.CloseStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.ddl.CursorStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.CursorAvailable;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.connection.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.SQLExceptionTransformEngine;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -45,6 +48,8 @@ import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
@@ -54,6 +59,8 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.connector.pagination.DeepPaginationExecutor;
+import org.apache.shardingsphere.proxy.backend.connector.pagination.DeepPaginationResult;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.distsql.handler.exception.rule.RuleNotExistedException;
 import org.apache.shardingsphere.proxy.backend.exception.StorageUnitNotExistedException;
@@ -66,7 +73,10 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementQueryHeaders;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLDigestStatisticsRegistry;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
@@ -99,6 +109,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private final Collection<ResultSet> cachedResultSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
     
+    private final Collection<QueryResult> cachedQueryResults = new LinkedList<>();
+    
     private final String driverType;
     
     private final ShardingSphereDatabase database;
@@ -113,6 +125,18 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private MergedResult mergedResult;
     
+    private SQLDigestStatisticsRegistry sqlDigestStatisticsRegistry;
+    
+    private long executeStartNanoTime;
+    
+    private long executeElapsedNanoTime;
+    
+    private boolean federationExecuted;
+    
+    private int routeUnitsCount;
+    
+    private long rowsCount;
+    
     public DatabaseConnector(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
         failedIfBackendNotReady(databaseConnectionManager.getConnectionSession(), sqlStatementContext);
@@ -163,14 +187,43 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     @Override
     public ResponseHeader execute() throws SQLException {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        startSQLDigestStatistics();
+        try {
+            return execute(metaDataContexts);
+        } finally {
+            stopSQLDigestStatistics();
+        }
+    }
+    
+    private ResponseHeader execute(final MetaDataContexts metaDataContexts) throws SQLException {
         if (proxySQLExecutor.getSqlFederationEngine().decide(queryContext.getSqlStatementContext(), queryContext.getParameters(), database, metaDataContexts.getMetaData().getGlobalRuleMetaData())) {
+            federationExecuted = true;
             ResultSet resultSet = doExecuteFederation(queryContext, metaDataContexts);
             return processExecuteFederation(resultSet, metaDataContexts);
         }
         ExecutionContext executionContext = generateExecutionContext();
-        return isNeedImplicitCommitTransaction(executionContext.getSqlStatementContext().getSqlStatement(), executionContext.getExecutionUnits().size() > 1)
+        routeUnitsCount = executionContext.getExecutionUnits().size();
+        ResponseHeader result = isNeedImplicitCommitTransaction(executionContext.getSqlStatementContext().getSqlStatement(), executionContext.getExecutionUnits().size() > 1)
                 ? doExecuteWithImplicitCommitTransaction(() -> doExecute(executionContext))
                 : doExecute(executionContext);
+        if (result instanceof UpdateResponseHeader) {
+            rowsCount = ((UpdateResponseHeader) result).getUpdateCount();
+        }
+        return result;
+    }
+    
+    private void startSQLDigestStatistics() {
+        SQLDigestStatisticsRegistry registry = SQLDigestStatisticsRegistry.getInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+        sqlDigestStatisticsRegistry = registry.isEnabled() ? registry : null;
+        if (null != sqlDigestStatisticsRegistry) {
+            executeStartNanoTime = System.nanoTime();
+        }
+    }
+    
+    private void stopSQLDigestStatistics() {
+        if (null != sqlDigestStatisticsRegistry) {
+            executeElapsedNanoTime = System.nanoTime() - executeStartNanoTime;
+        }
     }
     
     private ExecutionContext generateExecutionContext() {
@@ -217,6 +270,10 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
+        Optional<DeepPaginationResult> deepPaginationResult = executeDeepPagination(executionContext);
+        if (deepPaginationResult.isPresent()) {
+            return processExecuteDeepPagination((SelectStatementContext) executionContext.getSqlStatementContext(), deepPaginationResult.get());
+        }
         List result = proxySQLExecutor.execute(executionContext);
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
@@ -224,6 +281,19 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
                 : processExecuteUpdate(executionContext, result);
     }
     
+    private Optional<DeepPaginationResult> executeDeepPagination(final ExecutionContext executionContext) throws SQLException {
+        long offsetThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_DEEP_PAGINATION_OFFSET_THRESHOLD);
+        return offsetThreshold > 0L ? new DeepPaginationExecutor(proxySQLExecutor, driverType, offsetThreshold, databaseConnectionManager.getConnectionSession()).execute(executionContext) : Optional.empty();
+    }
+    
+    private QueryResponseHeader processExecuteDeepPagination(final SelectStatementContext selectStatementContext, final DeepPaginationResult deepPaginationResult) throws SQLException {
+        List<QueryResult> queryResults = deepPaginationResult.getQueryResults();
+        cachedQueryResults.addAll(queryResults);
+        queryHeaders = createQueryHeaders(selectStatementContext, queryResults.get(0));
+        mergedResult = createMergeEngine().merge(queryResults, selectStatementContext, deepPaginationResult.getPaginationContext());
+        return new QueryResponseHeader(queryHeaders);
+    }
+    
     private ResultSet doExecuteFederation(final QueryContext queryContext, final MetaDataContexts metaDataContexts) {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseConnectionManager.getConnectionSession().getDatabaseName());
@@ -286,6 +356,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     }
     
     private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
+        cachedQueryResults.addAll(queryResults);
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
         return new QueryResponseHeader(queryHeaders);
@@ -293,6 +364,34 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(sqlStatementContext, queryResultSample);
+        if (!queryContext.isUseCache()) {
+            return createQueryHeaders(sqlStatementContext, queryResultSample, columnCount);
+        }
+        ServerPreparedStatementRegistry serverPreparedStatementRegistry = databaseConnectionManager.getConnectionSession().getServerPreparedStatementRegistry();
+        List<ShardingSphereTable> tables = getTables(sqlStatementContext);
+        Optional<ServerPreparedStatementQueryHeaders> cachedQueryHeaders = serverPreparedStatementRegistry.findQueryHeaders(sqlStatementContext);
+        if (cachedQueryHeaders.isPresent() && cachedQueryHeaders.get().isSameVersion(database, tables, columnCount, queryResultSample.getMetaData())) {
+            return cachedQueryHeaders.get().getQueryHeaders();
+        }
+        List<QueryHeader> result = createQueryHeaders(sqlStatementContext, queryResultSample, columnCount);
+        serverPreparedStatementRegistry.putQueryHeaders(sqlStatementContext, new ServerPreparedStatementQueryHeaders(database, tables, queryResultSample.getMetaData(), result));
+        return result;
+    }
+    
+    private List<ShardingSphereTable> getTables(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof TableAvailable)) {
+            return Collections.emptyList();
+        }
+        TablesContext tablesContext = ((TableAvailable) sqlStatementContext).getTablesContext();
+        ShardingSphereSchema schema = database.getSchema(tablesContext.getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName())));
+        List<ShardingSphereTable> result = new ArrayList<>(tablesContext.getTableNames().size());
+        for (String each : tablesContext.getTableNames()) {
+            result.add(null == schema ? null : schema.getTable(each));
+        }
+        return result;
+    }
+    
+    private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample, final int columnCount) throws SQLException {
         List<QueryHeader> result = new ArrayList<>(columnCount);
         QueryHeaderBuilderEngine queryHeaderBuilderEngine = new QueryHeaderBuilderEngine(database.getProtocolType());
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
@@ -319,9 +418,12 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     }
     
     private MergedResult mergeQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        MergeEngine mergeEngine = new MergeEngine(database, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps(),
+        return createMergeEngine().merge(queryResults, sqlStatementContext);
+    }
+    
+    private MergeEngine createMergeEngine() {
+        return new MergeEngine(database, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps(),
                 databaseConnectionManager.getConnectionSession().getConnectionContext());
-        return mergeEngine.merge(queryResults, sqlStatementContext);
     }
     
     private UpdateResponseHeader processExecuteUpdate(final ExecutionContext executionContext, final Collection<UpdateResult> updateResults) {
@@ -354,7 +456,11 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        boolean result = null != mergedResult && mergedResult.next();
+        if (result) {
+            rowsCount++;
+        }
+        return result;
     }
     
     /**
@@ -375,7 +481,9 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     @Override
     public void close() throws SQLException {
+        recordSQLDigestStatistics();
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeQueryResults());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -387,6 +495,34 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private void recordSQLDigestStatistics() {
+        if (null == sqlDigestStatisticsRegistry) {
+            return;
+        }
+        sqlDigestStatisticsRegistry.record(queryContext.getSql(), executeElapsedNanoTime, rowsCount, routeUnitsCount, federationExecuted);
+        sqlDigestStatisticsRegistry = null;
+    }
+    
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -20,13 +20,16 @@ package org.apache.shardingsphere.proxy.backend.connector;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.SessionStateConnectionCache;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
@@ -43,6 +46,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -57,6 +62,9 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, StorageUnit> sessionStateStorageUnits = new ConcurrentHashMap<>();
+    
     private final Collection<ProxyBackendHandler> backendHandlers = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
     
     private final Collection<ProxyBackendHandler> inUseBackendHandlers = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
@@ -109,8 +117,19 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     }
     
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize, connectionMode);
-        setSessionVariablesIfNecessary(result);
+        List<Connection> result = takeSessionStateConnections(dataSourceName, connectionSize);
+        if (result.size() < connectionSize) {
+            handBackSessionStateConnectionsIfNecessary(dataSourceName, connectionSize - result.size());
+            List<Connection> newConnections = ProxyContext.getInstance().getBackendDataSource().getConnections(
+                    connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize - result.size(), connectionMode);
+            try {
+                setSessionVariablesIfNecessary(newConnections);
+            } catch (final SQLException ex) {
+                releaseSessionStateConnections(dataSourceName, result, ex);
+                throw ex;
+            }
+            result.addAll(newConnections);
+        }
         for (Connection each : result) {
             replayTransactionOption(each);
         }
@@ -122,6 +141,53 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         return result;
     }
     
+    private List<Connection> takeSessionStateConnections(final String dataSourceName, final int connectionSize) {
+        if (!isSessionStateConnectionReusable()) {
+            return new ArrayList<>(connectionSize);
+        }
+        StorageUnit storageUnit = getStorageUnit(dataSourceName);
+        if (null == storageUnit) {
+            return new ArrayList<>(connectionSize);
+        }
+        String dataSourceKey = connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName;
+        sessionStateStorageUnits.putIfAbsent(dataSourceKey, storageUnit);
+        return getSessionStateConnectionCache().take(
+                dataSourceKey, connectionSession.getRequiredSessionVariableRecorder().getFingerprint(), storageUnit.getDataSource(), connectionSize);
+    }
+    
+    private void handBackSessionStateConnectionsIfNecessary(final String dataSourceName, final int connectionSize) {
+        if (!getSessionStateConnectionCache().isEnabled()) {
+            return;
+        }
+        StorageUnit storageUnit = getStorageUnit(dataSourceName);
+        if (null != storageUnit) {
+            getSessionStateConnectionCache().handBackIfPoolExhausted(storageUnit.getDataSource(), connectionSize);
+        }
+    }
+    
+    private SessionStateConnectionCache getSessionStateConnectionCache() {
+        return SessionStateConnectionCache.getInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+    }
+    
+    private StorageUnit getStorageUnit(final String dataSourceName) {
+        return ProxyContext.getInstance().getContextManager().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData().getStorageUnits().get(dataSourceName);
+    }
+    
+    private boolean isSessionStateConnectionReusable() {
+        return getSessionStateConnectionCache().isEnabled() && !connectionSession.getRequiredSessionVariableRecorder().isEmpty()
+                && !connectionSession.getTransactionStatus().isInTransaction() && !connectionSession.isReadOnly() && null == connectionSession.getIsolationLevel();
+    }
+    
+    private void releaseSessionStateConnections(final String dataSourceName, final List<Connection> connections, final SQLException sqlException) {
+        Multimap<String, Connection> sessionStateConnections = LinkedHashMultimap.create();
+        sessionStateConnections.putAll(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName, connections);
+        Collection<SQLException> exceptions = new LinkedList<>();
+        closeConnections(putSessionStateConnectionsIfNecessary(sessionStateConnections), false, exceptions);
+        for (SQLException each : exceptions) {
+            sqlException.setNextException(each);
+        }
+    }
+    
     private void setSessionVariablesIfNecessary(final List<Connection> connections) throws SQLException {
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connections.isEmpty()) {
             return;
@@ -306,18 +372,9 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
         synchronized (cachedConnections) {
-            resetSessionVariablesIfNecessary(cachedConnections.values(), result);
-            for (Connection each : cachedConnections.values()) {
-                try {
-                    if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
-                        each.rollback();
-                    }
-                    each.close();
-                } catch (final SQLException ex) {
-                    result.add(ex);
-                }
-            }
+            closeConnections(putSessionStateConnectionsIfNecessary(cachedConnections), forceRollback, result);
             cachedConnections.clear();
+            sessionStateStorageUnits.clear();
         }
         if (!forceRollback) {
             connectionPostProcessors.clear();
@@ -325,6 +382,52 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         return result;
     }
     
+    private Collection<Connection> putSessionStateConnectionsIfNecessary(final Multimap<String, Connection> connections) {
+        if (!isSessionStateConnectionReusable()) {
+            return connections.values();
+        }
+        String fingerprint = connectionSession.getRequiredSessionVariableRecorder().getFingerprint();
+        Collection<Connection> result = new LinkedList<>();
+        for (Entry<String, Connection> entry : connections.entries()) {
+            StorageUnit storageUnit = sessionStateStorageUnits.get(entry.getKey());
+            if (null == storageUnit || !putSessionStateConnection(entry.getKey(), fingerprint, storageUnit, entry.getValue())) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    private boolean putSessionStateConnection(final String dataSourceKey, final String fingerprint, final StorageUnit storageUnit, final Connection connection) {
+        try {
+            if (connection.isClosed() || !connection.getAutoCommit()) {
+                return false;
+            }
+            List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(connection.getMetaData().getDatabaseProductName());
+            return getSessionStateConnectionCache().put(dataSourceKey, fingerprint, storageUnit.getDataSource(), getMaxPoolSize(storageUnit), resetSQLs, connection);
+        } catch (final SQLException ignored) {
+            return false;
+        }
+    }
+    
+    private int getMaxPoolSize(final StorageUnit storageUnit) {
+        Object result = storageUnit.getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties().get("maxPoolSize");
+        return null == result ? 0 : Integer.parseInt(result.toString());
+    }
+    
+    private void closeConnections(final Collection<Connection> connections, final boolean forceRollback, final Collection<SQLException> exceptions) {
+        resetSessionVariablesIfNecessary(connections, exceptions);
+        for (Connection each : connections) {
+            try {
+                if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
+                    each.rollback();
+                }
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+    }
+    
     private void resetSessionVariablesIfNecessary(final Collection<Connection> values, final Collection<SQLException> exceptions) {
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertiesBoundState;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolActiveDetector;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Session state connection cache.
+ * 
+ * <p>Backend connections with session variables replayed are kept here instead of being reset and returned to the pool,
+ * sessions with the same session variables fingerprint take them without replaying {@code SET} statements again.
+ * Connections are bounded by {@link ConfigurationPropertyKey#PROXY_BACKEND_SESSION_STATE_CONNECTION_CACHE_SIZE}
+ * and by {@link #MAX_POOL_SIZE_DIVISOR} of the max pool size of the data source they are borrowed from.
+ * They are reset and returned to the pool when idle for more than {@link #IDLE_TIMEOUT_MILLIS},
+ * when the pool has no connection available for other sessions, or when the pool is destroyed.</p>
+ */
+@Slf4j
+public final class SessionStateConnectionCache implements ConfigurationPropertiesBoundState {
+    
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30L);
+    
+    private static final long EVICT_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5L);
+    
+    private static final int MAX_POOL_SIZE_DIVISOR = 4;
+    
+    private static final ScheduledExecutorService EVICT_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("session-state-connection-evict-%d"));
+    
+    private final Map<String, Deque<CachedConnection>> cachedConnections = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger size = new AtomicInteger();
+    
+    private final Map<DataSource, AtomicInteger> dataSourceSizes = new ConcurrentHashMap<>();
+    
+    private final ScheduledFuture<?> evictFuture;
+    
+    private volatile int capacity;
+    
+    public SessionStateConnectionCache(final ConfigurationProperties props) {
+        refresh(props);
+        evictFuture = EVICT_EXECUTOR.scheduleWithFixedDelay(this::evictIdleConnections, EVICT_INTERVAL_MILLIS, EVICT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Get session state connection cache of configuration properties.
+     *
+     * @param props configuration properties
+     * @return session state connection cache
+     */
+    public static SessionStateConnectionCache getInstance(final ConfigurationProperties props) {
+        return props.getBoundState(SessionStateConnectionCache.class, SessionStateConnectionCache::new);
+    }
+    
+    @Override
+    public void refresh(final ConfigurationProperties props) {
+        int newCapacity = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_STATE_CONNECTION_CACHE_SIZE);
+        if (newCapacity == capacity) {
+            return;
+        }
+        capacity = newCapacity;
+        if (newCapacity <= 0) {
+            clear();
+        }
+    }
+    
+    /**
+     * Judge whether session state connection cache enabled.
+     *
+     * @return enabled or not
+     */
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+    
+    /**
+     * Take connections with same session state.
+     *
+     * @param dataSourceKey data source key
+     * @param fingerprint session state fingerprint
+     * @param dataSource data source which connections are borrowed from
+     * @param connectionSize max size of connections to be taken
+     * @return taken connections, may be less than connection size
+     */
+    public List<Connection> take(final String dataSourceKey, final String fingerprint, final DataSource dataSource, final int connectionSize) {
+        Deque<CachedConnection> connections = cachedConnections.get(getKey(dataSourceKey, fingerprint));
+        if (null == connections) {
+            return new ArrayList<>(0);
+        }
+        List<Connection> result = new ArrayList<>(connectionSize);
+        long now = System.currentTimeMillis();
+        while (result.size() < connectionSize) {
+            CachedConnection each = connections.pollFirst();
+            if (null == each) {
+                break;
+            }
+            decrementSize(each);
+            if (dataSource == each.getDataSource() && isAvailable(each, now)) {
+                result.add(each.getConnection());
+            } else {
+                close(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isAvailable(final CachedConnection cachedConnection, final long now) {
+        if (now - cachedConnection.getCachedMillis() > IDLE_TIMEOUT_MILLIS) {
+            return false;
+        }
+        try {
+            return !cachedConnection.getConnection().isClosed();
+        } catch (final SQLException ignored) {
+            return false;
+        }
+    }
+    
+    /**
+     * Put connection with session state.
+     *
+     * @param dataSourceKey data source key
+     * @param fingerprint session state fingerprint
+     * @param dataSource data source which connection is borrowed from
+     * @param maxPoolSize max pool size of data source, 0 means unknown
+     * @param resetSQLs SQLs to reset session state before connection returned to the pool
+     * @param connection connection
+     * @return put or not, connection should be reset and closed by caller if not put
+     */
+    public boolean put(final String dataSourceKey, final String fingerprint, final DataSource dataSource, final int maxPoolSize, final List<String> resetSQLs, final Connection connection) {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        AtomicInteger dataSourceSize = dataSourceSizes.computeIfAbsent(dataSource, key -> new AtomicInteger());
+        int dataSourceCapacity = maxPoolSize > 0 ? Math.max(1, maxPoolSize / MAX_POOL_SIZE_DIVISOR) : capacity;
+        if (dataSourceSize.incrementAndGet() > dataSourceCapacity) {
+            dataSourceSize.decrementAndGet();
+            size.decrementAndGet();
+            return false;
+        }
+        cachedConnections.computeIfAbsent(getKey(dataSourceKey, fingerprint), key -> new ConcurrentLinkedDeque<>()).offerFirst(new CachedConnection(connection, dataSource, resetSQLs, System.currentTimeMillis()));
+        return true;
+    }
+    
+    private String getKey(final String dataSourceKey, final String fingerprint) {
+        return dataSourceKey + "#" + fingerprint;
+    }
+    
+    /**
+     * Reset and return cached connections to the pool if the pool has no connection available.
+     *
+     * <p>It is called before connections of other session states are got from the pool, so they do not wait for connections held by this cache.</p>
+     *
+     * @param dataSource data source which connections are borrowed from
+     * @param connectionSize size of connections to be got from the pool
+     */
+    public void handBackIfPoolExhausted(final DataSource dataSource, final int connectionSize) {
+        AtomicInteger dataSourceSize = dataSourceSizes.get(dataSource);
+        if (null == dataSourceSize || 0 == dataSourceSize.get() || isPoolConnectionAvailable(dataSource)) {
+            return;
+        }
+        int handedBackCount = 0;
+        for (Deque<CachedConnection> each : cachedConnections.values()) {
+            Iterator<CachedConnection> iterator = each.descendingIterator();
+            while (handedBackCount < connectionSize && iterator.hasNext()) {
+                CachedConnection cachedConnection = iterator.next();
+                if (dataSource == cachedConnection.getDataSource() && each.removeLastOccurrence(cachedConnection)) {
+                    decrementSize(cachedConnection);
+                    close(cachedConnection);
+                    handedBackCount++;
+                }
+            }
+        }
+    }
+    
+    private boolean isPoolConnectionAvailable(final DataSource dataSource) {
+        Optional<DataSourcePoolActiveDetector> activeDetector = TypedSPILoader.findService(DataSourcePoolActiveDetector.class, dataSource.getClass().getName());
+        try {
+            return !activeDetector.isPresent() || activeDetector.get().isConnectionAvailable(dataSource);
+        } catch (final SQLException ignored) {
+            return true;
+        }
+    }
+    
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        for (Deque<CachedConnection> each : cachedConnections.values()) {
+            Iterator<CachedConnection> iterator = each.descendingIterator();
+            while (iterator.hasNext()) {
+                CachedConnection cachedConnection = iterator.next();
+                if (now - cachedConnection.getCachedMillis() <= IDLE_TIMEOUT_MILLIS) {
+                    break;
+                }
+                if (each.removeLastOccurrence(cachedConnection)) {
+                    decrementSize(cachedConnection);
+                    close(cachedConnection);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Reset and close cached connections borrowed from data source.
+     *
+     * @param dataSource data source
+     */
+    public void invalidate(final DataSource dataSource) {
+        for (Deque<CachedConnection> each : cachedConnections.values()) {
+            for (CachedConnection cachedConnection : each) {
+                if (dataSource == cachedConnection.getDataSource() && each.removeFirstOccurrence(cachedConnection)) {
+                    decrementSize(cachedConnection);
+                    close(cachedConnection);
+                }
+            }
+        }
+        dataSourceSizes.remove(dataSource);
+    }
+    
+    /**
+     * Reset and close all cached connections.
+     */
+    public void clear() {
+        for (Deque<CachedConnection> each : cachedConnections.values()) {
+            CachedConnection cachedConnection;
+            while (null != (cachedConnection = each.pollLast())) {
+                decrementSize(cachedConnection);
+                close(cachedConnection);
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        evictFuture.cancel(false);
+        clear();
+    }
+    
+    private void decrementSize(final CachedConnection cachedConnection) {
+        size.decrementAndGet();
+        Optional.ofNullable(dataSourceSizes.get(cachedConnection.getDataSource())).ifPresent(AtomicInteger::decrementAndGet);
+    }
+    
+    private void close(final CachedConnection cachedConnection) {
+        try (Connection connection = cachedConnection.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                for (String each : cachedConnection.getResetSQLs()) {
+                    statement.execute(each);
+                }
+            }
+        } catch (final SQLException ex) {
+            log.warn("Close cached session state connection failed.", ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedConnection {
+        
+        private final Connection connection;
+        
+        private final DataSource dataSource;
+        
+        private final List<String> resetSQLs;
+        
+        private final long cachedMillis;
+    }
+}
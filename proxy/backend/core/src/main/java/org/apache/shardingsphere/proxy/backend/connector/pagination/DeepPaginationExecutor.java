@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.pagination;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ShorthandProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.proxy.backend.connector.ProxySQLExecutor;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.TransactionIsolationLevel;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Deep pagination executor.
+ * 
+ * <p>Executes sharded {@code ORDER BY column LIMIT offset, count} query without fetching all leading rows from each shard.
+ * The boundary value at {@code offset / shards} of each shard is fetched first, then the rows before the smallest boundary are counted,
+ * and only the rows from the boundary on are fetched and merged with the revised offset.
+ * The rounds must see the same data, so it is only applicable in a transaction whose isolation level keeps reads consistent.</p>
+ */
+@RequiredArgsConstructor
+public final class DeepPaginationExecutor {
+    
+    private static final String DERIVED_TABLE_ALIAS = "deep_pagination";
+    
+    private static final Pattern COLUMN_LABEL_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    
+    private static final Pattern LOWER_CASE_COLUMN_LABEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    
+    private static final Collection<String> CASE_INSENSITIVE_DATABASE_TYPES = new HashSet<>(Arrays.asList("MySQL", "MariaDB"));
+    
+    private static final Collection<String> CASE_SENSITIVE_DATABASE_TYPES = new HashSet<>(Arrays.asList("PostgreSQL", "openGauss"));
+    
+    private static final Collection<String> DEFAULT_REPEATABLE_READ_DATABASE_TYPES = new HashSet<>(Arrays.asList("MySQL", "MariaDB"));
+    
+    private static final Collection<TransactionIsolationLevel> READ_CONSISTENT_ISOLATION_LEVELS =
+            EnumSet.of(TransactionIsolationLevel.REPEATABLE_READ, TransactionIsolationLevel.SNAPSHOT, TransactionIsolationLevel.SERIALIZABLE);
+    
+    private final ProxySQLExecutor proxySQLExecutor;
+    
+    private final String driverType;
+    
+    private final long offsetThreshold;
+    
+    private final ConnectionSession connectionSession;
+    
+    /**
+     * Execute deep pagination query.
+     *
+     * @param executionContext execution context
+     * @return deep pagination result, empty if execution context is not applicable and should be executed normally
+     * @throws SQLException SQL exception
+     */
+    public Optional<DeepPaginationResult> execute(final ExecutionContext executionContext) throws SQLException {
+        if (!isApplicable(executionContext)) {
+            return Optional.empty();
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        Optional<String> columnLabel = findOrderByColumnLabel(selectStatementContext);
+        if (!columnLabel.isPresent()) {
+            return Optional.empty();
+        }
+        boolean ascending = OrderDirection.ASC == selectStatementContext.getOrderByContext().getItems().iterator().next().getSegment().getOrderDirection();
+        String column = DERIVED_TABLE_ALIAS + "." + columnLabel.get();
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        long offset = paginationContext.getActualOffset();
+        Optional<Object> boundary = findBoundary(executionContext, column, ascending, offset / executionContext.getExecutionUnits().size());
+        if (!boundary.isPresent() || !isSupportedBoundary(boundary.get())) {
+            return Optional.empty();
+        }
+        Optional<Long> precedingRowCount = countPrecedingRows(executionContext, column, ascending, boundary.get());
+        if (!precedingRowCount.isPresent() || precedingRowCount.get() > offset) {
+            return Optional.empty();
+        }
+        long revisedOffset = offset - precedingRowCount.get();
+        List<QueryResult> queryResults = seek(executionContext, column, ascending, boundary.get(), revisedOffset + paginationContext.getActualRowCount().orElse(0L));
+        return Optional.of(new DeepPaginationResult(queryResults, createRevisedPaginationContext(paginationContext, revisedOffset, executionContext.getQueryContext().getParameters())));
+    }
+    
+    private boolean isApplicable(final ExecutionContext executionContext) {
+        if (!(executionContext.getSqlStatementContext() instanceof SelectStatementContext) || executionContext.getExecutionUnits().size() < 2) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        return isSupportedDatabaseType(selectStatementContext.getDatabaseType()) && isDeepPagination(selectStatementContext.getPaginationContext())
+                && isPlainQuery(selectStatementContext) && isSingleColumnOrderBy(selectStatementContext) && isInReadConsistentTransaction(selectStatementContext.getDatabaseType());
+    }
+    
+    private boolean isSupportedDatabaseType(final DatabaseType databaseType) {
+        return CASE_INSENSITIVE_DATABASE_TYPES.contains(databaseType.getType()) || CASE_SENSITIVE_DATABASE_TYPES.contains(databaseType.getType());
+    }
+    
+    private boolean isInReadConsistentTransaction(final DatabaseType databaseType) {
+        if (!connectionSession.getTransactionStatus().isInTransaction()) {
+            return false;
+        }
+        TransactionIsolationLevel isolationLevel = null == connectionSession.getIsolationLevel() ? connectionSession.getDefaultIsolationLevel() : connectionSession.getIsolationLevel();
+        return null == isolationLevel ? DEFAULT_REPEATABLE_READ_DATABASE_TYPES.contains(databaseType.getType()) : READ_CONSISTENT_ISOLATION_LEVELS.contains(isolationLevel);
+    }
+    
+    private boolean isDeepPagination(final PaginationContext paginationContext) {
+        return isLimitValueSegment(paginationContext.getOffsetSegment()) && isLimitValueSegment(paginationContext.getRowCountSegment())
+                && paginationContext.getActualOffset() >= offsetThreshold && paginationContext.getActualRowCount().isPresent() && paginationContext.getActualRowCount().get() <= Integer.MAX_VALUE;
+    }
+    
+    private boolean isLimitValueSegment(final Optional<PaginationValueSegment> paginationValueSegment) {
+        return paginationValueSegment.isPresent() && paginationValueSegment.get() instanceof LimitValueSegment;
+    }
+    
+    private boolean isPlainQuery(final SelectStatementContext selectStatementContext) {
+        ProjectionsContext projectionsContext = selectStatementContext.getProjectionsContext();
+        return !selectStatementContext.isContainsDollarParameterMarker() && !selectStatementContext.isContainsJoinQuery() && !selectStatementContext.isContainsSubquery()
+                && !selectStatementContext.isContainsCombine() && !selectStatementContext.isContainsHaving() && selectStatementContext.getGroupByContext().getItems().isEmpty()
+                && !projectionsContext.isDistinctRow() && projectionsContext.getAggregationProjections().isEmpty()
+                && !SelectStatementHandler.getLockSegment(selectStatementContext.getSqlStatement()).isPresent();
+    }
+    
+    private boolean isSingleColumnOrderBy(final SelectStatementContext selectStatementContext) {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        return !selectStatementContext.getOrderByContext().isGenerated() && 1 == orderByItems.size() && orderByItems.iterator().next().getSegment() instanceof ColumnOrderByItemSegment;
+    }
+    
+    private Optional<String> findOrderByColumnLabel(final SelectStatementContext selectStatementContext) {
+        ColumnOrderByItemSegment orderByItem = (ColumnOrderByItemSegment) selectStatementContext.getOrderByContext().getItems().iterator().next().getSegment();
+        ProjectionsContext projectionsContext = selectStatementContext.getProjectionsContext();
+        String result = findAlias(projectionsContext, orderByItem).orElseGet(() -> SQLUtils.getExactlyValue(orderByItem.getColumn().getIdentifier().getValue()));
+        Pattern pattern = CASE_INSENSITIVE_DATABASE_TYPES.contains(selectStatementContext.getDatabaseType().getType()) ? COLUMN_LABEL_PATTERN : LOWER_CASE_COLUMN_LABEL_PATTERN;
+        if (!pattern.matcher(result).matches()) {
+            return Optional.empty();
+        }
+        Optional<List<String>> columnLabels = getColumnLabels(projectionsContext);
+        if (!columnLabels.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<String> distinctColumnLabels = new HashSet<>(columnLabels.get().size(), 1F);
+        for (String each : columnLabels.get()) {
+            if (!distinctColumnLabels.add(each.toLowerCase())) {
+                return Optional.empty();
+            }
+        }
+        return distinctColumnLabels.contains(result.toLowerCase()) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private Optional<String> findAlias(final ProjectionsContext projectionsContext, final ColumnOrderByItemSegment orderByItem) {
+        if (projectionsContext.isUnqualifiedShorthandProjection()) {
+            return Optional.empty();
+        }
+        String rawName = SQLUtils.getExactlyValue(orderByItem.getText());
+        for (Projection each : projectionsContext.getProjections()) {
+            Optional<String> alias = each.getAlias().map(IdentifierValue::getValue);
+            if (SQLUtils.getExactlyExpression(rawName).equalsIgnoreCase(SQLUtils.getExactlyExpression(SQLUtils.getExactlyValue(each.getExpression())))) {
+                return alias;
+            }
+            if (rawName.equalsIgnoreCase(alias.orElse(null))) {
+                return Optional.of(rawName);
+            }
+            if (each instanceof ColumnProjection && rawName.equalsIgnoreCase(((ColumnProjection) each).getName().getValue())) {
+                return alias;
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<List<String>> getColumnLabels(final ProjectionsContext projectionsContext) {
+        List<String> result = new LinkedList<>();
+        for (Projection each : projectionsContext.getProjections()) {
+            if (!(each instanceof ShorthandProjection)) {
+                result.add(SQLUtils.getExactlyValue(each.getColumnLabel()));
+                continue;
+            }
+            Collection<Projection> actualColumns = ((ShorthandProjection) each).getActualColumns();
+            if (actualColumns.isEmpty()) {
+                return Optional.empty();
+            }
+            for (Projection actualColumn : actualColumns) {
+                result.add(SQLUtils.getExactlyValue(actualColumn.getColumnLabel()));
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Optional<Object> findBoundary(final ExecutionContext executionContext, final String column, final boolean ascending, final long shardOffset) throws SQLException {
+        Collection<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            String sql = String.format("SELECT %s FROM (%s) AS %s ORDER BY %s %s LIMIT 1 OFFSET %d",
+                    column, getShardSQL(each), DERIVED_TABLE_ALIAS, column, getOrderDirection(ascending), shardOffset);
+            executionUnits.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(sql, each.getSqlUnit().getParameters())));
+        }
+        Comparable result = null;
+        boolean applicable = true;
+        for (QueryResult each : executeQuery(executionContext, executionUnits)) {
+            try {
+                while (each.next()) {
+                    Object value = each.getValue(1, Object.class);
+                    if (!(value instanceof Comparable) || null != result && result.getClass() != value.getClass()) {
+                        applicable = false;
+                    } else if (applicable && (null == result || (ascending ? ((Comparable) value).compareTo(result) < 0 : ((Comparable) value).compareTo(result) > 0))) {
+                        result = (Comparable) value;
+                    }
+                }
+            } finally {
+                close(each);
+            }
+        }
+        return applicable ? Optional.ofNullable(result) : Optional.empty();
+    }
+    
+    private boolean isSupportedBoundary(final Object boundary) {
+        return JDBCDriverType.PREPARED_STATEMENT.equals(driverType) || boundary instanceof Integer || boundary instanceof Long
+                || boundary instanceof Short || boundary instanceof Byte || boundary instanceof BigInteger || boundary instanceof BigDecimal;
+    }
+    
+    private Optional<Long> countPrecedingRows(final ExecutionContext executionContext, final String column, final boolean ascending, final Object boundary) throws SQLException {
+        Collection<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            List<Object> params = new ArrayList<>(each.getSqlUnit().getParameters().size() + 1);
+            String sql = String.format("SELECT COUNT(CASE WHEN %s %s %s THEN 1 END), COUNT(*) - COUNT(%s) FROM (%s) AS %s",
+                    column, ascending ? "<" : ">", getBoundary(boundary, params), column, getShardSQL(each), DERIVED_TABLE_ALIAS);
+            params.addAll(each.getSqlUnit().getParameters());
+            executionUnits.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(sql, params)));
+        }
+        long result = 0L;
+        boolean containsNull = false;
+        for (QueryResult each : executeQuery(executionContext, executionUnits)) {
+            try {
+                while (each.next()) {
+                    result += ((Number) each.getValue(1, Object.class)).longValue();
+                    containsNull = containsNull || ((Number) each.getValue(2, Object.class)).longValue() > 0L;
+                }
+            } finally {
+                close(each);
+            }
+        }
+        return containsNull ? Optional.empty() : Optional.of(result);
+    }
+    
+    private List<QueryResult> seek(final ExecutionContext executionContext, final String column, final boolean ascending, final Object boundary, final long shardRowCount) throws SQLException {
+        Collection<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            List<Object> params = new ArrayList<>(each.getSqlUnit().getParameters());
+            String sql = String.format("SELECT * FROM (%s) AS %s WHERE %s %s %s ORDER BY %s %s LIMIT %d",
+                    getShardSQL(each), DERIVED_TABLE_ALIAS, column, ascending ? ">=" : "<=", getBoundary(boundary, params), column, getOrderDirection(ascending), shardRowCount);
+            executionUnits.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(sql, params)));
+        }
+        return executeQuery(executionContext, executionUnits);
+    }
+    
+    private String getShardSQL(final ExecutionUnit executionUnit) {
+        return SQLUtils.trimSemicolon(executionUnit.getSqlUnit().getSql().trim());
+    }
+    
+    private String getOrderDirection(final boolean ascending) {
+        return ascending ? "ASC" : "DESC";
+    }
+    
+    private String getBoundary(final Object boundary, final List<Object> params) {
+        if (JDBCDriverType.PREPARED_STATEMENT.equals(driverType)) {
+            params.add(boundary);
+            return "?";
+        }
+        return boundary instanceof BigDecimal ? ((BigDecimal) boundary).toPlainString() : boundary.toString();
+    }
+    
+    private List<QueryResult> executeQuery(final ExecutionContext executionContext, final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        List<ExecuteResult> executeResults = proxySQLExecutor.execute(new ExecutionContext(executionContext.getQueryContext(), executionUnits, executionContext.getRouteContext()));
+        List<QueryResult> result = new ArrayList<>(executeResults.size());
+        for (ExecuteResult each : executeResults) {
+            result.add((QueryResult) each);
+        }
+        return result;
+    }
+    
+    private void close(final QueryResult queryResult) throws SQLException {
+        try {
+            queryResult.close();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new SQLException(ex);
+        }
+    }
+    
+    private PaginationContext createRevisedPaginationContext(final PaginationContext paginationContext, final long revisedOffset, final List<Object> params) {
+        PaginationValueSegment offsetSegment = paginationContext.getOffsetSegment().orElseThrow(IllegalStateException::new);
+        return new PaginationContext(new NumberLiteralLimitValueSegment(offsetSegment.getStartIndex(), offsetSegment.getStopIndex(), revisedOffset),
+                paginationContext.getRowCountSegment().orElse(null), params);
+    }
+}
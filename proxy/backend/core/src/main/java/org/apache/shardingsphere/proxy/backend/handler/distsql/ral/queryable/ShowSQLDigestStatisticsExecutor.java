@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.handler.engine.query.DistSQLQueryExecutor;
+import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowSQLDigestStatisticsStatement;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLDigestStatistics;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLDigestStatisticsRegistry;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Show SQL digest statistics executor.
+ */
+public final class ShowSQLDigestStatisticsExecutor implements DistSQLQueryExecutor<ShowSQLDigestStatisticsStatement> {
+    
+    @Override
+    public Collection<String> getColumnNames(final ShowSQLDigestStatisticsStatement sqlStatement) {
+        return Arrays.asList("digest", "execute_count", "total_latency_ms", "avg_latency_ms", "max_latency_ms", "p99_latency_ms",
+                "total_rows", "avg_route_units", "max_route_units", "federation_count", "first_seen", "last_seen");
+    }
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShowSQLDigestStatisticsStatement sqlStatement, final ContextManager contextManager) {
+        return SQLDigestStatisticsRegistry.getInstance(contextManager.getMetaDataContexts().getMetaData().getProps()).getAllStatistics().stream().filter(each -> each.getExecuteCount() > 0L)
+                .sorted(Comparator.comparingLong(SQLDigestStatistics::getTotalLatencyNanos).reversed())
+                .limit(sqlStatement.getLimit().orElse(Integer.MAX_VALUE)).map(this::getRow).collect(Collectors.toList());
+    }
+    
+    private LocalDataQueryResultRow getRow(final SQLDigestStatistics statistics) {
+        long executeCount = statistics.getExecuteCount();
+        return new LocalDataQueryResultRow(statistics.getDigest(), executeCount, toMillis(statistics.getTotalLatencyNanos()), toMillis(statistics.getTotalLatencyNanos() / executeCount),
+                toMillis(statistics.getMaxLatencyNanos()), toMillis(statistics.getLatencyPercentileNanos(0.99D)), statistics.getTotalRows(),
+                String.format("%.2f", (double) statistics.getTotalRouteUnits() / executeCount), statistics.getMaxRouteUnits(), statistics.getFederationCount(),
+                toLocalDateTime(statistics.getFirstSeenMillis()), toLocalDateTime(statistics.getLastSeenMillis()));
+    }
+    
+    private String toMillis(final long nanos) {
+        return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1L));
+    }
+    
+    private LocalDateTime toLocalDateTime(final long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+    
+    @Override
+    public Class<ShowSQLDigestStatisticsStatement> getType() {
+        return ShowSQLDigestStatisticsStatement.class;
+    }
+}
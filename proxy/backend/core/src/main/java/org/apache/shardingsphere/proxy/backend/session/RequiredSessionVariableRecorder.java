@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.StringJoiner;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -55,6 +56,15 @@ public final class RequiredSessionVariableRecorder {
         return sessionVariables.isEmpty();
     }
     
+    /**
+     * Get fingerprint of recorded variables, connections with same fingerprint have same session state.
+     *
+     * @return fingerprint
+     */
+    public String getFingerprint() {
+        return new TreeMap<>(sessionVariables).toString();
+    }
+    
     /**
      * Get set SQLs for database.
      *
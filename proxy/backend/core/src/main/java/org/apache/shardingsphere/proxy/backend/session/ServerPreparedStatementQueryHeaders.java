@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Query headers cached for {@link ServerPreparedStatement}.
+ * Metadata objects are replaced instead of modified in place when metadata changed, so their identities are used as metadata version.
+ * Column types and labels of result set are compared as well, because they may vary with parameter types of the same statement.
+ */
+@Getter
+public final class ServerPreparedStatementQueryHeaders {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final List<ShardingSphereTable> tables;
+    
+    private final int[] columnTypes;
+    
+    private final String[] columnTypeNames;
+    
+    private final String[] columnLabels;
+    
+    private final List<QueryHeader> queryHeaders;
+    
+    public ServerPreparedStatementQueryHeaders(final ShardingSphereDatabase database, final List<ShardingSphereTable> tables,
+                                               final QueryResultMetaData queryResultMetaData, final List<QueryHeader> queryHeaders) throws SQLException {
+        this.database = database;
+        this.tables = tables;
+        int columnCount = queryResultMetaData.getColumnCount();
+        columnTypes = new int[columnCount];
+        columnTypeNames = new String[columnCount];
+        columnLabels = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnTypes[i] = queryResultMetaData.getColumnType(i + 1);
+            columnTypeNames[i] = queryResultMetaData.getColumnTypeName(i + 1);
+            columnLabels[i] = queryResultMetaData.getColumnLabel(i + 1);
+        }
+        this.queryHeaders = queryHeaders;
+    }
+    
+    /**
+     * Judge whether cached query headers are built with same metadata version and same result set columns.
+     *
+     * @param database database
+     * @param tables tables
+     * @param columnCount column count
+     * @param queryResultMetaData query result meta data
+     * @return is same metadata version or not
+     * @throws SQLException SQL exception
+     */
+    public boolean isSameVersion(final ShardingSphereDatabase database, final List<ShardingSphereTable> tables, final int columnCount, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        if (this.database != database || this.tables.size() != tables.size() || queryHeaders.size() != columnCount) {
+            return false;
+        }
+        Iterator<ShardingSphereTable> iterator = tables.iterator();
+        for (ShardingSphereTable each : this.tables) {
+            if (each != iterator.next()) {
+                return false;
+            }
+        }
+        return isSameColumns(queryResultMetaData);
+    }
+    
+    private boolean isSameColumns(final QueryResultMetaData queryResultMetaData) throws SQLException {
+        if (columnTypes.length != queryResultMetaData.getColumnCount()) {
+            return false;
+        }
+        for (int i = 0; i < columnTypes.length; i++) {
+            if (columnTypes[i] != queryResultMetaData.getColumnType(i + 1)
+                    || !Objects.equals(columnTypeNames[i], queryResultMetaData.getColumnTypeName(i + 1)) || !Objects.equals(columnLabels[i], queryResultMetaData.getColumnLabel(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.proxy.backend.session;
 
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -27,6 +30,8 @@ public final class ServerPreparedStatementRegistry {
     
     private final Map<Object, ServerPreparedStatement> preparedStatements = new ConcurrentHashMap<>();
     
+    private final Map<SQLStatementContext, ServerPreparedStatementQueryHeaders> queryHeaders = new ConcurrentHashMap<>();
+    
     /**
      * Add {@link ServerPreparedStatement} into registry.
      *
@@ -34,7 +39,7 @@ public final class ServerPreparedStatementRegistry {
      * @param serverPreparedStatement server prepared statement
      */
     public void addPreparedStatement(final Object statementId, final ServerPreparedStatement serverPreparedStatement) {
-        preparedStatements.put(statementId, serverPreparedStatement);
+        removeQueryHeaders(preparedStatements.put(statementId, serverPreparedStatement));
     }
     
     /**
@@ -55,7 +60,36 @@ public final class ServerPreparedStatementRegistry {
      * @param statementId statement ID
      */
     public void removePreparedStatement(final Object statementId) {
-        preparedStatements.remove(statementId);
+        removeQueryHeaders(preparedStatements.remove(statementId));
+    }
+    
+    private void removeQueryHeaders(final ServerPreparedStatement serverPreparedStatement) {
+        if (null != serverPreparedStatement && !queryHeaders.isEmpty()) {
+            queryHeaders.remove(serverPreparedStatement.getSqlStatementContext());
+        }
+    }
+    
+    /**
+     * Find cached query headers of {@link ServerPreparedStatement}.
+     *
+     * @param sqlStatementContext SQL statement context of server prepared statement
+     * @return cached query headers
+     */
+    public Optional<ServerPreparedStatementQueryHeaders> findQueryHeaders(final SQLStatementContext sqlStatementContext) {
+        return Optional.ofNullable(queryHeaders.get(sqlStatementContext));
+    }
+    
+    /**
+     * Cache query headers of {@link ServerPreparedStatement}.
+     * Query headers will not be cached if SQL statement context does not belong to any registered server prepared statement.
+     *
+     * @param sqlStatementContext SQL statement context of server prepared statement
+     * @param serverPreparedStatementQueryHeaders query headers to be cached
+     */
+    public void putQueryHeaders(final SQLStatementContext sqlStatementContext, final ServerPreparedStatementQueryHeaders serverPreparedStatementQueryHeaders) {
+        if (preparedStatements.values().stream().anyMatch(each -> sqlStatementContext == each.getSqlStatementContext())) {
+            queryHeaders.put(sqlStatementContext, serverPreparedStatementQueryHeaders);
+        }
     }
     
     /**
@@ -63,5 +97,6 @@ public final class ServerPreparedStatementRegistry {
      */
     public void clear() {
         preparedStatements.clear();
+        queryHeaders.clear();
     }
 }
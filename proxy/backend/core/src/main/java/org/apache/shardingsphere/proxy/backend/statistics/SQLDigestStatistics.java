@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL digest statistics.
+ */
+public final class SQLDigestStatistics {
+    
+    private static final int LATENCY_BUCKET_COUNT = 40;
+    
+    @Getter
+    private final String digest;
+    
+    private final LongAdder executeCount = new LongAdder();
+    
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    
+    private final LongAdder totalRows = new LongAdder();
+    
+    private final LongAdder totalRouteUnits = new LongAdder();
+    
+    private final AtomicLong maxRouteUnits = new AtomicLong();
+    
+    private final LongAdder federationCount = new LongAdder();
+    
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(LATENCY_BUCKET_COUNT);
+    
+    @Getter
+    private final long firstSeenMillis;
+    
+    @Getter
+    private volatile long lastSeenMillis;
+    
+    public SQLDigestStatistics(final String digest) {
+        this.digest = digest;
+        firstSeenMillis = System.currentTimeMillis();
+        lastSeenMillis = firstSeenMillis;
+    }
+    
+    /**
+     * Record one execution.
+     *
+     * @param latencyNanos latency in nanoseconds
+     * @param rows returned or affected rows
+     * @param routeUnits route units count
+     * @param federation whether executed by SQL federation
+     */
+    public void record(final long latencyNanos, final long rows, final int routeUnits, final boolean federation) {
+        executeCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        totalRows.add(rows);
+        totalRouteUnits.add(routeUnits);
+        maxRouteUnits.accumulateAndGet(routeUnits, Math::max);
+        if (federation) {
+            federationCount.increment();
+        }
+        latencyBuckets.incrementAndGet(getLatencyBucketIndex(latencyNanos));
+        lastSeenMillis = System.currentTimeMillis();
+    }
+    
+    private int getLatencyBucketIndex(final long latencyNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(latencyNanos, 0L));
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), LATENCY_BUCKET_COUNT - 1);
+    }
+    
+    /**
+     * Get execute count.
+     *
+     * @return execute count
+     */
+    public long getExecuteCount() {
+        return executeCount.sum();
+    }
+    
+    /**
+     * Get total latency nanoseconds.
+     *
+     * @return total latency nanoseconds
+     */
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos.sum();
+    }
+    
+    /**
+     * Get max latency nanoseconds.
+     *
+     * @return max latency nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+    
+    /**
+     * Get total returned or affected rows.
+     *
+     * @return total rows
+     */
+    public long getTotalRows() {
+        return totalRows.sum();
+    }
+    
+    /**
+     * Get total route units.
+     *
+     * @return total route units
+     */
+    public long getTotalRouteUnits() {
+        return totalRouteUnits.sum();
+    }
+    
+    /**
+     * Get max route units.
+     *
+     * @return max route units
+     */
+    public long getMaxRouteUnits() {
+        return maxRouteUnits.get();
+    }
+    
+    /**
+     * Get SQL federation execute count.
+     *
+     * @return SQL federation execute count
+     */
+    public long getFederationCount() {
+        return federationCount.sum();
+    }
+    
+    /**
+     * Get estimated latency percentile nanoseconds.
+     * 
+     * <p>Latencies are counted in power of two microseconds buckets, the upper bound of the bucket which the percentile falls in is returned, capped by max latency.</p>
+     *
+     * @param percentile percentile between 0 and 1
+     * @return estimated latency percentile nanoseconds
+     */
+    public long getLatencyPercentileNanos(final double percentile) {
+        long[] counts = new long[LATENCY_BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < LATENCY_BUCKET_COUNT; i++) {
+            counts[i] = latencyBuckets.get(i);
+            total += counts[i];
+        }
+        if (0L == total) {
+            return 0L;
+        }
+        long rank = Math.max((long) Math.ceil(total * percentile), 1L);
+        long accumulated = 0L;
+        for (int i = 0; i < LATENCY_BUCKET_COUNT; i++) {
+            accumulated += counts[i];
+            if (accumulated >= rank) {
+                return Math.min(TimeUnit.MICROSECONDS.toNanos(1L << i), getMaxLatencyNanos());
+            }
+        }
+        return getMaxLatencyNanos();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertiesBoundState;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL digest statistics registry.
+ * 
+ * <p>Statistics are bounded by {@link ConfigurationPropertyKey#PROXY_SQL_DIGEST_STATISTICS_CAPACITY}, executions of digests beyond the capacity are
+ * accumulated into {@link #OTHERS_DIGEST}. All statistics are reset every {@link ConfigurationPropertyKey#PROXY_SQL_DIGEST_STATISTICS_WINDOW_SECONDS}.
+ * Registry is bound to configuration properties, so every meta data contexts holds its own statistics.</p>
+ */
+public final class SQLDigestStatisticsRegistry implements ConfigurationPropertiesBoundState {
+    
+    public static final String OTHERS_DIGEST = "<others>";
+    
+    private final Map<String, SQLDigestStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private volatile int capacity;
+    
+    private volatile long windowMillis;
+    
+    private volatile long windowStartMillis = System.currentTimeMillis();
+    
+    public SQLDigestStatisticsRegistry(final ConfigurationProperties props) {
+        refresh(props);
+    }
+    
+    /**
+     * Get SQL digest statistics registry bound to configuration properties.
+     *
+     * @param props configuration properties
+     * @return SQL digest statistics registry
+     */
+    public static SQLDigestStatisticsRegistry getInstance(final ConfigurationProperties props) {
+        return props.getBoundState(SQLDigestStatisticsRegistry.class, SQLDigestStatisticsRegistry::new);
+    }
+    
+    @Override
+    public void refresh(final ConfigurationProperties props) {
+        int newCapacity = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_SQL_DIGEST_STATISTICS_CAPACITY);
+        long newWindowMillis = TimeUnit.SECONDS.toMillis(props.<Long>getValue(ConfigurationPropertyKey.PROXY_SQL_DIGEST_STATISTICS_WINDOW_SECONDS));
+        if (newCapacity != capacity) {
+            capacity = newCapacity;
+            if (newCapacity <= 0) {
+                reset();
+            }
+        }
+        if (newWindowMillis != windowMillis) {
+            windowMillis = newWindowMillis;
+        }
+    }
+    
+    /**
+     * Judge whether SQL digest statistics enabled.
+     *
+     * @return enabled or not
+     */
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+    
+    /**
+     * Record one execution of SQL.
+     *
+     * @param sql SQL
+     * @param latencyNanos latency in nanoseconds
+     * @param rows returned or affected rows
+     * @param routeUnits route units count
+     * @param federation whether executed by SQL federation
+     */
+    public void record(final String sql, final long latencyNanos, final long rows, final int routeUnits, final boolean federation) {
+        if (!isEnabled()) {
+            return;
+        }
+        resetIfWindowExpired();
+        getOrCreateStatistics(SQLDigestUtils.normalize(sql)).record(latencyNanos, rows, routeUnits, federation);
+    }
+    
+    private void resetIfWindowExpired() {
+        if (windowMillis <= 0L || System.currentTimeMillis() - windowStartMillis < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (System.currentTimeMillis() - windowStartMillis >= windowMillis) {
+                reset();
+            }
+        }
+    }
+    
+    private SQLDigestStatistics getOrCreateStatistics(final String digest) {
+        SQLDigestStatistics result = statistics.get(digest);
+        if (null != result) {
+            return result;
+        }
+        return statistics.computeIfAbsent(statistics.size() < capacity ? digest : OTHERS_DIGEST, SQLDigestStatistics::new);
+    }
+    
+    /**
+     * Get all SQL digest statistics of current window.
+     *
+     * @return SQL digest statistics
+     */
+    public Collection<SQLDigestStatistics> getAllStatistics() {
+        return new ArrayList<>(statistics.values());
+    }
+    
+    /**
+     * Reset all SQL digest statistics and start a new window.
+     */
+    public synchronized void reset() {
+        statistics.clear();
+        windowStartMillis = System.currentTimeMillis();
+    }
+}
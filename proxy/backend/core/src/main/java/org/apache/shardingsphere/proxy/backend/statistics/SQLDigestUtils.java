@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL digest utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLDigestUtils {
+    
+    private static final int MAX_DIGEST_LENGTH = 1024;
+    
+    private static final Pattern PARAMETER_LIST_PATTERN = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    
+    private static final Pattern VALUES_LIST_PATTERN = Pattern.compile("\\(\\.\\.\\.\\)(\\s*,\\s*\\(\\.\\.\\.\\))+");
+    
+    /**
+     * Normalize SQL to digest text.
+     * 
+     * <p>String literals, numeric literals and positional parameters are replaced by {@code ?}, comments are removed, whitespaces are collapsed,
+     * parameter lists such as {@code IN (?, ?, ?)} and multiple insert values are collapsed to {@code (...)}.</p>
+     *
+     * @param sql SQL to be normalized
+     * @return digest text
+     */
+    public static String normalize(final String sql) {
+        StringBuilder result = new StringBuilder(Math.min(sql.length(), MAX_DIGEST_LENGTH * 2));
+        int length = sql.length();
+        int index = 0;
+        while (index < length && result.length() < MAX_DIGEST_LENGTH * 2) {
+            char each = sql.charAt(index);
+            if ('\'' == each) {
+                index = skipStringLiteral(sql, index);
+                result.append('?');
+            } else if ('/' == each && index + 1 < length && '*' == sql.charAt(index + 1)) {
+                int end = sql.indexOf("*/", index + 2);
+                index = end < 0 ? length : end + 2;
+                appendWhitespace(result);
+            } else if ('-' == each && index + 1 < length && '-' == sql.charAt(index + 1)) {
+                int end = sql.indexOf('\n', index + 2);
+                index = end < 0 ? length : end + 1;
+                appendWhitespace(result);
+            } else if (Character.isWhitespace(each)) {
+                appendWhitespace(result);
+                index++;
+            } else if (isNumberStart(sql, index, result)) {
+                index = skipNumber(sql, index + 1);
+                result.append('?');
+            } else if (isIdentifierCharacter(each)) {
+                int end = index + 1;
+                while (end < length && isIdentifierCharacter(sql.charAt(end))) {
+                    end++;
+                }
+                result.append(sql, index, end);
+                index = end;
+            } else {
+                result.append(each);
+                index++;
+            }
+        }
+        String collapsed = VALUES_LIST_PATTERN.matcher(PARAMETER_LIST_PATTERN.matcher(result.toString().trim()).replaceAll("(...)")).replaceAll("(...)");
+        return collapsed.length() > MAX_DIGEST_LENGTH ? collapsed.substring(0, MAX_DIGEST_LENGTH) : collapsed;
+    }
+    
+    private static int skipStringLiteral(final String sql, final int startIndex) {
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\\' == each) {
+                index += 2;
+                continue;
+            }
+            if ('\'' == each) {
+                if (index + 1 < sql.length() && '\'' == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return sql.length();
+    }
+    
+    private static void appendWhitespace(final StringBuilder result) {
+        if (result.length() > 0 && ' ' != result.charAt(result.length() - 1)) {
+            result.append(' ');
+        }
+    }
+    
+    private static boolean isNumberStart(final String sql, final int index, final StringBuilder result) {
+        char each = sql.charAt(index);
+        boolean digit = Character.isDigit(each) || '$' == each && index + 1 < sql.length() && Character.isDigit(sql.charAt(index + 1));
+        return digit && (0 == result.length() || !isIdentifierCharacter(result.charAt(result.length() - 1)));
+    }
+    
+    private static int skipNumber(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && (Character.isLetterOrDigit(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierCharacter(final char each) {
+        return Character.isLetterOrDigit(each) || '_' == each || '$' == each;
+    }
+}
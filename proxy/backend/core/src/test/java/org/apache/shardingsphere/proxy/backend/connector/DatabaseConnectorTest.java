@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -47,8 +49,11 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
@@ -64,6 +69,7 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.plugins.MemberAccessor;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -78,6 +84,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -188,6 +195,42 @@ class DatabaseConnectorTest {
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCreateQueryHeadersWithDifferentParameterTypes() throws ReflectiveOperationException, SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        ServerPreparedStatement serverPreparedStatement = mock(ServerPreparedStatement.class);
+        when(serverPreparedStatement.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        ServerPreparedStatementRegistry serverPreparedStatementRegistry = new ServerPreparedStatementRegistry();
+        serverPreparedStatementRegistry.addPreparedStatement(1, serverPreparedStatement);
+        when(databaseConnectionManager.getConnectionSession().getServerPreparedStatementRegistry()).thenReturn(serverPreparedStatementRegistry);
+        DatabaseConnector integerEngine = DatabaseConnectorFactory.getInstance().newInstance(
+                new QueryContext(sqlStatementContext, "SELECT ? AS foo_col", Collections.singletonList(1), new HintValueContext(), true), databaseConnectionManager, true);
+        DatabaseConnector varcharEngine = DatabaseConnectorFactory.getInstance().newInstance(
+                new QueryContext(sqlStatementContext, "SELECT ? AS foo_col", Collections.singletonList("foo"), new HintValueContext(), true), databaseConnectionManager, true);
+        Method createQueryHeadersMethod = DatabaseConnector.class.getDeclaredMethod("createQueryHeaders", SQLStatementContext.class, QueryResult.class);
+        try (MockedStatic<DatabaseTypedSPILoader> spiLoader = mockStatic(DatabaseTypedSPILoader.class)) {
+            spiLoader.when(() -> DatabaseTypedSPILoader.getService(QueryHeaderBuilder.class, TypedSPILoader.getService(DatabaseType.class, "H2"))).thenReturn(new QueryHeaderBuilderFixture());
+            MemberAccessor accessor = Plugins.getMemberAccessor();
+            List<QueryHeader> integerQueryHeaders = (List<QueryHeader>) accessor.invoke(createQueryHeadersMethod, integerEngine, sqlStatementContext, createQueryResult(Types.INTEGER, "INT"));
+            assertThat(integerQueryHeaders.get(0).getColumnType(), is(Types.INTEGER));
+            assertThat(accessor.invoke(createQueryHeadersMethod, integerEngine, sqlStatementContext, createQueryResult(Types.INTEGER, "INT")), sameInstance(integerQueryHeaders));
+            List<QueryHeader> varcharQueryHeaders = (List<QueryHeader>) accessor.invoke(createQueryHeadersMethod, varcharEngine, sqlStatementContext, createQueryResult(Types.VARCHAR, "VARCHAR"));
+            assertThat(varcharQueryHeaders.get(0).getColumnType(), is(Types.VARCHAR));
+            assertThat(varcharQueryHeaders.get(0).getColumnTypeName(), is("VARCHAR"));
+        }
+    }
+    
+    private QueryResult createQueryResult(final int columnType, final String columnTypeName) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        when(result.getMetaData().getColumnType(1)).thenReturn(columnType);
+        when(result.getMetaData().getColumnTypeName(1)).thenReturn(columnTypeName);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("foo_col");
+        return result;
+    }
+    
     @Test
     void assertAddStatementCorrectly() {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
@@ -227,6 +270,22 @@ class DatabaseConnectorTest {
         assertTrue(cachedStatements.isEmpty());
     }
     
+    @Test
+    void assertCloseQueryResultsAndMergedResult() throws Exception {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), databaseConnectionManager, false);
+        Collection<QueryResult> cachedQueryResults = getField(engine, "cachedQueryResults");
+        QueryResult queryResult = mock(QueryResult.class);
+        cachedQueryResults.add(queryResult);
+        MergedResult mergedResult = mock(MergedResult.class);
+        Plugins.getMemberAccessor().set(DatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        engine.close();
+        verify(mergedResult).close();
+        verify(queryResult).close();
+        assertTrue(cachedQueryResults.isEmpty());
+    }
+    
     @Test
     void assertCloseResultSetsWithExceptionThrown() throws SQLException {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
@@ -19,8 +19,12 @@ package org.apache.shardingsphere.proxy.backend.connector;
 
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.SessionStateConnectionCache;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
@@ -32,6 +36,8 @@ import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRe
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +50,7 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -54,6 +61,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -89,9 +97,12 @@ class ProxyDatabaseConnectionManagerTest {
     
     private ProxyDatabaseConnectionManager databaseConnectionManager;
     
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
     @BeforeEach
     void setUp() {
         when(ProxyContext.getInstance().getBackendDataSource()).thenReturn(backendDataSource);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
         when(connectionSession.getDatabaseName()).thenReturn(String.format(SCHEMA_PATTERN, 0));
         databaseConnectionManager = new ProxyDatabaseConnectionManager(connectionSession);
         when(connectionSession.getDatabaseConnectionManager()).thenReturn(databaseConnectionManager);
@@ -106,6 +117,7 @@ class ProxyDatabaseConnectionManagerTest {
         Field field = ProxyContext.getInstance().getClass().getDeclaredField("backendDataSource");
         Object datasource = field.getType().getDeclaredConstructor().newInstance();
         Plugins.getMemberAccessor().set(field, ProxyContext.getInstance(), datasource);
+        props.closeBoundStates();
     }
     
     @Test
@@ -218,6 +230,7 @@ class ProxyDatabaseConnectionManagerTest {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
         ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
         when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
         when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
@@ -408,6 +421,46 @@ class ProxyDatabaseConnectionManagerTest {
         assertTrue(connectionSession.getRequiredSessionVariableRecorder().isEmpty());
     }
     
+    @Test
+    void assertCloseConnectionsAndReuseSessionStateConnections() throws SQLException {
+        SessionStateConnectionCache.getInstance(props).refresh(new ConfigurationProperties(
+                PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_STATE_CONNECTION_CACHE_SIZE.getKey(), "1"))));
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        when(connectionSession.getIsolationLevel()).thenReturn(null);
+        when(ProxyContext.getInstance().getContextManager().getDatabase(String.format(SCHEMA_PATTERN, 0)).getResourceMetaData().getStorageUnits().get("ds1").getDataSource())
+                .thenReturn(mock(DataSource.class));
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(Collections.singletonList(connection));
+        assertThat(databaseConnectionManager.getConnections("ds1", 0, 1, ConnectionMode.CONNECTION_STRICTLY), is(Collections.singletonList(connection)));
+        databaseConnectionManager.closeConnections(false);
+        verify(connection, never()).close();
+        assertThat(databaseConnectionManager.getConnections("ds1", 0, 1, ConnectionMode.CONNECTION_STRICTLY), is(Collections.singletonList(connection)));
+        verify(backendDataSource).getConnections(anyString(), anyString(), eq(1), any());
+    }
+    
+    @Test
+    void assertCloseConnectionsAndNotReuseSessionStateConnectionsOfAlteredStorageUnit() throws SQLException {
+        SessionStateConnectionCache.getInstance(props).refresh(new ConfigurationProperties(
+                PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_STATE_CONNECTION_CACHE_SIZE.getKey(), "1"))));
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        when(connectionSession.getIsolationLevel()).thenReturn(null);
+        StorageUnit storageUnit = ProxyContext.getInstance().getContextManager().getDatabase(String.format(SCHEMA_PATTERN, 0)).getResourceMetaData().getStorageUnits().get("ds1");
+        when(storageUnit.getDataSource()).thenReturn(mock(DataSource.class));
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        Connection newConnection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(newConnection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(Collections.singletonList(connection), Collections.singletonList(newConnection));
+        databaseConnectionManager.getConnections("ds1", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        databaseConnectionManager.closeConnections(false);
+        when(storageUnit.getDataSource()).thenReturn(mock(DataSource.class));
+        assertThat(databaseConnectionManager.getConnections("ds1", 0, 1, ConnectionMode.CONNECTION_STRICTLY), is(Collections.singletonList(newConnection)));
+        verify(connection).close();
+    }
+    
     @Test
     void assertCloseConnectionsAndFailedToGetDatabaseType() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "default");
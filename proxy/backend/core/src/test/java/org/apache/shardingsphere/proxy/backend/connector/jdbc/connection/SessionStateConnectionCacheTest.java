@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyListener;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDriver;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SessionStateConnectionCacheTest {
+    
+    private final DataSource dataSource = mock(DataSource.class);
+    
+    private SessionStateConnectionCache cache;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != cache) {
+            cache.close();
+        }
+    }
+    
+    @Test
+    void assertPutWhenDisabled() {
+        cache = new SessionStateConnectionCache(new ConfigurationProperties(new Properties()));
+        assertFalse(cache.isEnabled());
+        assertFalse(cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), mock(Connection.class)));
+    }
+    
+    @Test
+    void assertRefreshByHandOverBoundStates() {
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        cache = SessionStateConnectionCache.getInstance(props);
+        assertFalse(cache.isEnabled());
+        ConfigurationProperties alteredProps = createProperties(1);
+        props.handOverBoundStates(alteredProps);
+        assertThat(SessionStateConnectionCache.getInstance(alteredProps), sameInstance(cache));
+        assertTrue(cache.isEnabled());
+    }
+    
+    @Test
+    void assertTakeWithSameFingerprint() {
+        cache = new SessionStateConnectionCache(createProperties(2));
+        Connection connection = mock(Connection.class);
+        assertTrue(cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), connection));
+        assertTrue(cache.take("foo_db.ds_0", "{time_zone='+08:00'}", dataSource, 1).isEmpty());
+        assertTrue(cache.take("foo_db.ds_1", "{sql_mode=''}", dataSource, 1).isEmpty());
+        assertThat(cache.take("foo_db.ds_0", "{sql_mode=''}", dataSource, 2), is(Collections.singletonList(connection)));
+        assertTrue(cache.take("foo_db.ds_0", "{sql_mode=''}", dataSource, 1).isEmpty());
+    }
+    
+    @Test
+    void assertPutBeyondCapacity() {
+        cache = new SessionStateConnectionCache(createProperties(1));
+        assertTrue(cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), mock(Connection.class)));
+        assertFalse(cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), mock(Connection.class)));
+    }
+    
+    @Test
+    void assertPutBeyondMaxPoolSizeFraction() {
+        cache = new SessionStateConnectionCache(createProperties(10));
+        assertTrue(cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 8, Collections.emptyList(), mock(Connection.class)));
+        assertTrue(cache.put("foo_db.ds_0", "{time_zone='+08:00'}", dataSource, 8, Collections.emptyList(), mock(Connection.class)));
+        assertFalse(cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 8, Collections.emptyList(), mock(Connection.class)));
+        assertTrue(cache.put("foo_db.ds_1", "{sql_mode=''}", mock(DataSource.class), 8, Collections.emptyList(), mock(Connection.class)));
+    }
+    
+    @Test
+    void assertHandBackWhenPoolExhausted() throws SQLException {
+        cache = new SessionStateConnectionCache(createProperties(1));
+        try (HikariDataSource hikariDataSource = createHikariDataSource()) {
+            Connection connection = hikariDataSource.getConnection();
+            cache.put("foo_db.ds_0", "{sql_mode=''}", hikariDataSource, 4, Collections.emptyList(), connection);
+            cache.handBackIfPoolExhausted(hikariDataSource, 1);
+            assertTrue(connection.isClosed());
+            assertTrue(cache.take("foo_db.ds_0", "{sql_mode=''}", hikariDataSource, 1).isEmpty());
+            try (Connection otherConnection = hikariDataSource.getConnection()) {
+                assertFalse(otherConnection.isClosed());
+            }
+        }
+    }
+    
+    @Test
+    void assertNotHandBackWhenPoolAvailable() throws SQLException {
+        cache = new SessionStateConnectionCache(createProperties(1));
+        try (HikariDataSource hikariDataSource = createHikariDataSource()) {
+            hikariDataSource.setMaximumPoolSize(2);
+            Connection connection = hikariDataSource.getConnection();
+            cache.put("foo_db.ds_0", "{sql_mode=''}", hikariDataSource, 2, Collections.emptyList(), connection);
+            cache.handBackIfPoolExhausted(hikariDataSource, 1);
+            assertFalse(connection.isClosed());
+            assertThat(cache.take("foo_db.ds_0", "{sql_mode=''}", hikariDataSource, 1), is(Collections.singletonList(connection)));
+            connection.close();
+        }
+    }
+    
+    @Test
+    void assertTakeClosedConnection() throws SQLException {
+        cache = new SessionStateConnectionCache(createProperties(1));
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.isClosed()).thenReturn(true);
+        cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.singletonList("SET sql_mode=DEFAULT"), connection);
+        assertTrue(cache.take("foo_db.ds_0", "{sql_mode=''}", dataSource, 1).isEmpty());
+        verify(connection).close();
+        assertTrue(cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), mock(Connection.class)));
+    }
+    
+    @Test
+    void assertClearWhenDisabled() throws SQLException {
+        cache = new SessionStateConnectionCache(createProperties(1));
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.singletonList("SET sql_mode=DEFAULT"), connection);
+        cache.refresh(new ConfigurationProperties(new Properties()));
+        verify(statement).execute("SET sql_mode=DEFAULT");
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        cache = new SessionStateConnectionCache(createProperties(1));
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), connection);
+        cache.close();
+        verify(connection).close();
+        assertTrue(cache.take("foo_db.ds_0", "{sql_mode=''}", dataSource, 1).isEmpty());
+    }
+    
+    @Test
+    void assertTakeWithDifferentDataSource() throws SQLException {
+        cache = new SessionStateConnectionCache(createProperties(1));
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), connection);
+        assertTrue(cache.take("foo_db.ds_0", "{sql_mode=''}", mock(DataSource.class), 1).isEmpty());
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertInvalidateByDataSourcePoolDestroyListener() throws SQLException {
+        ConfigurationProperties props = createProperties(2);
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        cache = SessionStateConnectionCache.getInstance(props);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        Connection otherConnection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        DataSource otherDataSource = mock(DataSource.class);
+        cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), connection);
+        cache.put("foo_db.ds_1", "{sql_mode=''}", otherDataSource, 0, Collections.emptyList(), otherConnection);
+        ShardingSphereServiceLoader.getServiceInstances(DataSourcePoolDestroyListener.class).forEach(each -> each.beforeDestroy(dataSource));
+        verify(connection).close();
+        verify(otherConnection, never()).close();
+        assertTrue(cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), mock(Connection.class)));
+        assertThat(cache.take("foo_db.ds_1", "{sql_mode=''}", otherDataSource, 1), is(Collections.singletonList(otherConnection)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertEvictIdleConnections() throws ReflectiveOperationException, SQLException {
+        cache = new SessionStateConnectionCache(createProperties(1));
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        cache.put("foo_db.ds_0", "{sql_mode=''}", dataSource, 0, Collections.emptyList(), connection);
+        Plugins.getMemberAccessor().invoke(SessionStateConnectionCache.class.getDeclaredMethod("evictIdleConnections"), cache);
+        verify(connection, never()).close();
+        Map<String, Deque<Object>> cachedConnections = (Map<String, Deque<Object>>) Plugins.getMemberAccessor()
+                .get(SessionStateConnectionCache.class.getDeclaredField("cachedConnections"), cache);
+        Object cachedConnection = cachedConnections.get("foo_db.ds_0#{sql_mode=''}").getFirst();
+        Plugins.getMemberAccessor().set(cachedConnection.getClass().getDeclaredField("cachedMillis"), cachedConnection, 0L);
+        Plugins.getMemberAccessor().invoke(SessionStateConnectionCache.class.getDeclaredMethod("evictIdleConnections"), cache);
+        verify(connection).close();
+    }
+    
+    private HikariDataSource createHikariDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(MockedDriver.class.getName());
+        config.setJdbcUrl("jdbc:mock");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(250L);
+        return new HikariDataSource(config);
+    }
+    
+    private ConfigurationProperties createProperties(final int capacity) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_STATE_CONNECTION_CACHE_SIZE.getKey(), String.valueOf(capacity))));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.pagination;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.connector.ProxySQLExecutor;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.TransactionIsolationLevel;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DeepPaginationExecutorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Mock
+    private ProxySQLExecutor proxySQLExecutor;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    private ExecutionContext executionContext;
+    
+    @BeforeEach
+    void setUp() {
+        TransactionStatus transactionStatus = new TransactionStatus(TransactionType.LOCAL);
+        transactionStatus.setInTransaction(true);
+        when(connectionSession.getTransactionStatus()).thenReturn(transactionStatus);
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(databaseType);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+        when(sqlStatementContext.getPaginationContext()).thenReturn(
+                new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 100L), new NumberLiteralLimitValueSegment(0, 0, 10L), Collections.emptyList()));
+        when(sqlStatementContext.getProjectionsContext()).thenReturn(
+                new ProjectionsContext(0, 0, false, Arrays.asList(new ColumnProjection(null, "order_id", null, databaseType), new ColumnProjection(null, "status", null, databaseType))));
+        when(sqlStatementContext.getGroupByContext()).thenReturn(new GroupByContext(Collections.emptyList()));
+        ColumnOrderByItemSegment orderByItemSegment = new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("order_id")), OrderDirection.ASC, NullsOrderType.FIRST);
+        when(sqlStatementContext.getOrderByContext()).thenReturn(new OrderByContext(Collections.singleton(new OrderByItem(orderByItemSegment)), false));
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        Collection<ExecutionUnit> executionUnits = Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit("SELECT order_id, status FROM t_order_0 ORDER BY order_id LIMIT 0, 110", Collections.emptyList())),
+                new ExecutionUnit("ds_1", new SQLUnit("SELECT order_id, status FROM t_order_1 ORDER BY order_id LIMIT 0, 110", Collections.emptyList())));
+        executionContext = new ExecutionContext(queryContext, executionUnits, mock(RouteContext.class));
+    }
+    
+    @Test
+    void assertExecute() throws SQLException {
+        QueryResult seekQueryResult = mock(QueryResult.class);
+        List<ExecuteResult> boundaryResults = Arrays.asList(mockQueryResult(40L), mockQueryResult(45L));
+        List<ExecuteResult> countResults = Arrays.asList(mockQueryResult(50L, 0L), mockQueryResult(30L, 0L));
+        when(proxySQLExecutor.execute(any(ExecutionContext.class))).thenReturn(boundaryResults, countResults, Arrays.asList(seekQueryResult, seekQueryResult));
+        Optional<DeepPaginationResult> actual = new DeepPaginationExecutor(proxySQLExecutor, JDBCDriverType.STATEMENT, 100L, connectionSession).execute(executionContext);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getQueryResults(), is(Arrays.<QueryResult>asList(seekQueryResult, seekQueryResult)));
+        assertThat(actual.get().getPaginationContext().getActualOffset(), is(20L));
+        assertThat(actual.get().getPaginationContext().getActualRowCount(), is(Optional.of(10L)));
+        ArgumentCaptor<ExecutionContext> captor = ArgumentCaptor.forClass(ExecutionContext.class);
+        verify(proxySQLExecutor, times(3)).execute(captor.capture());
+        Iterator<ExecutionContext> executionContexts = captor.getAllValues().iterator();
+        assertThat(getFirstSQL(executionContexts.next()), is("SELECT deep_pagination.order_id FROM (SELECT order_id, status FROM t_order_0 ORDER BY order_id LIMIT 0, 110) AS deep_pagination"
+                + " ORDER BY deep_pagination.order_id ASC LIMIT 1 OFFSET 50"));
+        assertThat(getFirstSQL(executionContexts.next()), is("SELECT COUNT(CASE WHEN deep_pagination.order_id < 40 THEN 1 END), COUNT(*) - COUNT(deep_pagination.order_id)"
+                + " FROM (SELECT order_id, status FROM t_order_0 ORDER BY order_id LIMIT 0, 110) AS deep_pagination"));
+        assertThat(getFirstSQL(executionContexts.next()), is("SELECT * FROM (SELECT order_id, status FROM t_order_0 ORDER BY order_id LIMIT 0, 110) AS deep_pagination"
+                + " WHERE deep_pagination.order_id >= 40 ORDER BY deep_pagination.order_id ASC LIMIT 30"));
+    }
+    
+    @Test
+    void assertExecuteWithPreparedStatement() throws SQLException {
+        List<ExecuteResult> boundaryResults = Arrays.asList(mockQueryResult("a"), mockQueryResult("b"));
+        List<ExecuteResult> countResults = Arrays.asList(mockQueryResult(50L, 0L), mockQueryResult(30L, 0L));
+        when(proxySQLExecutor.execute(any(ExecutionContext.class))).thenReturn(boundaryResults, countResults, Collections.emptyList());
+        assertTrue(new DeepPaginationExecutor(proxySQLExecutor, JDBCDriverType.PREPARED_STATEMENT, 100L, connectionSession).execute(executionContext).isPresent());
+        ArgumentCaptor<ExecutionContext> captor = ArgumentCaptor.forClass(ExecutionContext.class);
+        verify(proxySQLExecutor, times(3)).execute(captor.capture());
+        assertThat(captor.getAllValues().get(1).getExecutionUnits().iterator().next().getSqlUnit().getParameters(), is(Collections.<Object>singletonList("a")));
+        assertThat(captor.getAllValues().get(2).getExecutionUnits().iterator().next().getSqlUnit().getParameters(), is(Collections.<Object>singletonList("a")));
+    }
+    
+    @Test
+    void assertExecuteWithOffsetLessThanThreshold() throws SQLException {
+        assertFalse(new DeepPaginationExecutor(proxySQLExecutor, JDBCDriverType.STATEMENT, 101L, connectionSession).execute(executionContext).isPresent());
+        verify(proxySQLExecutor, never()).execute(any(ExecutionContext.class));
+    }
+    
+    @Test
+    void assertExecuteWithoutTransaction() throws SQLException {
+        connectionSession.getTransactionStatus().setInTransaction(false);
+        assertFalse(new DeepPaginationExecutor(proxySQLExecutor, JDBCDriverType.STATEMENT, 100L, connectionSession).execute(executionContext).isPresent());
+        verify(proxySQLExecutor, never()).execute(any(ExecutionContext.class));
+    }
+    
+    @Test
+    void assertExecuteWithReadCommittedTransaction() throws SQLException {
+        when(connectionSession.getIsolationLevel()).thenReturn(TransactionIsolationLevel.READ_COMMITTED);
+        assertFalse(new DeepPaginationExecutor(proxySQLExecutor, JDBCDriverType.STATEMENT, 100L, connectionSession).execute(executionContext).isPresent());
+        verify(proxySQLExecutor, never()).execute(any(ExecutionContext.class));
+    }
+    
+    @Test
+    void assertExecuteWithNullBoundary() throws SQLException {
+        List<ExecuteResult> boundaryResults = Arrays.asList(mockQueryResult(40L), mockQueryResult((Object) null));
+        when(proxySQLExecutor.execute(any(ExecutionContext.class))).thenReturn(boundaryResults);
+        assertFalse(new DeepPaginationExecutor(proxySQLExecutor, JDBCDriverType.STATEMENT, 100L, connectionSession).execute(executionContext).isPresent());
+        verify(proxySQLExecutor).execute(any(ExecutionContext.class));
+    }
+    
+    @Test
+    void assertExecuteWithNullValues() throws SQLException {
+        List<ExecuteResult> boundaryResults = Arrays.asList(mockQueryResult(40L), mockQueryResult(45L));
+        List<ExecuteResult> countResults = Arrays.asList(mockQueryResult(50L, 1L), mockQueryResult(30L, 0L));
+        when(proxySQLExecutor.execute(any(ExecutionContext.class))).thenReturn(boundaryResults, countResults);
+        assertFalse(new DeepPaginationExecutor(proxySQLExecutor, JDBCDriverType.STATEMENT, 100L, connectionSession).execute(executionContext).isPresent());
+        verify(proxySQLExecutor, times(2)).execute(any(ExecutionContext.class));
+    }
+    
+    private QueryResult mockQueryResult(final Object... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.next()).thenReturn(true, false);
+        for (int i = 0; i < values.length; i++) {
+            when(result.getValue(i + 1, Object.class)).thenReturn(values[i]);
+        }
+        return result;
+    }
+    
+    private String getFirstSQL(final ExecutionContext executionContext) {
+        return executionContext.getExecutionUnits().iterator().next().getSqlUnit().getSql();
+    }
+}
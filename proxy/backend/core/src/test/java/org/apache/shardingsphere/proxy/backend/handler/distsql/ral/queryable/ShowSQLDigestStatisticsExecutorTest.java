@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowSQLDigestStatisticsStatement;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.statistics.SQLDigestStatisticsRegistry;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowSQLDigestStatisticsExecutorTest {
+    
+    private final ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+    
+    @BeforeEach
+    void setUp() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_SQL_DIGEST_STATISTICS_CAPACITY.getKey(), "10")));
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+        SQLDigestStatisticsRegistry.getInstance(props).record("SELECT * FROM t_order WHERE order_id = 1", TimeUnit.MILLISECONDS.toNanos(1L), 1L, 1, false);
+        SQLDigestStatisticsRegistry.getInstance(props).record("UPDATE t_order SET status = 'OK'", TimeUnit.MILLISECONDS.toNanos(4L), 10L, 2, false);
+    }
+    
+    @Test
+    void assertGetColumnNames() {
+        assertThat(new ShowSQLDigestStatisticsExecutor().getColumnNames(new ShowSQLDigestStatisticsStatement(null)).size(), is(12));
+    }
+    
+    @Test
+    void assertGetRows() {
+        Collection<LocalDataQueryResultRow> actual = new ShowSQLDigestStatisticsExecutor().getRows(new ShowSQLDigestStatisticsStatement(null), contextManager);
+        assertThat(actual.size(), is(2));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("UPDATE t_order SET status = ?"));
+        assertThat(row.getCell(2), is("1"));
+        assertThat(row.getCell(3), is("4.000"));
+        assertThat(row.getCell(7), is("10"));
+        assertThat(row.getCell(8), is("2.00"));
+    }
+    
+    @Test
+    void assertGetRowsWithLimit() {
+        Collection<LocalDataQueryResultRow> actual = new ShowSQLDigestStatisticsExecutor().getRows(new ShowSQLDigestStatisticsStatement(1), contextManager);
+        assertThat(actual.size(), is(1));
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.HashSet;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -75,4 +76,17 @@ class RequiredSessionVariableRecorderTest {
         assertTrue(recorder.toSetSQLs("unsupported").isEmpty());
         assertTrue(recorder.toResetSQLs("unsupported").isEmpty());
     }
+    
+    @Test
+    void assertGetFingerprint() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("time_zone", "'+08:00'");
+        recorder.setVariable("sql_mode", "''");
+        RequiredSessionVariableRecorder anotherRecorder = new RequiredSessionVariableRecorder();
+        anotherRecorder.setVariable("sql_mode", "''");
+        anotherRecorder.setVariable("time_zone", "'+08:00'");
+        assertThat(recorder.getFingerprint(), is(anotherRecorder.getFingerprint()));
+        anotherRecorder.setVariable("time_zone", "'+00:00'");
+        assertThat(recorder.getFingerprint(), not(anotherRecorder.getFingerprint()));
+    }
 }
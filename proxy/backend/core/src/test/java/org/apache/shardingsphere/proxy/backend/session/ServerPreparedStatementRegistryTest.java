@@ -19,11 +19,24 @@ package org.apache.shardingsphere.proxy.backend.session;
 
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ServerPreparedStatementRegistryTest {
     
@@ -45,6 +58,44 @@ class ServerPreparedStatementRegistryTest {
         assertNull(registry.getPreparedStatement(1));
     }
     
+    @Test
+    void assertPutAndFindAndRemoveQueryHeaders() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        ServerPreparedStatement serverPreparedStatement = mock(ServerPreparedStatement.class);
+        when(serverPreparedStatement.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        ServerPreparedStatementRegistry registry = new ServerPreparedStatementRegistry();
+        registry.addPreparedStatement(1, serverPreparedStatement);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        List<ShardingSphereTable> tables = Collections.singletonList(mock(ShardingSphereTable.class));
+        QueryResultMetaData queryResultMetaData = createQueryResultMetaData(Types.INTEGER, "INT");
+        registry.putQueryHeaders(sqlStatementContext, new ServerPreparedStatementQueryHeaders(database, tables, queryResultMetaData, Collections.singletonList(mock(QueryHeader.class))));
+        assertTrue(registry.findQueryHeaders(sqlStatementContext).isPresent());
+        assertTrue(registry.findQueryHeaders(sqlStatementContext).get().isSameVersion(database, tables, 1, queryResultMetaData));
+        assertFalse(registry.findQueryHeaders(sqlStatementContext).get().isSameVersion(database, Collections.singletonList(mock(ShardingSphereTable.class)), 1, queryResultMetaData));
+        assertFalse(registry.findQueryHeaders(sqlStatementContext).get().isSameVersion(mock(ShardingSphereDatabase.class), tables, 1, queryResultMetaData));
+        assertFalse(registry.findQueryHeaders(sqlStatementContext).get().isSameVersion(database, tables, 1, createQueryResultMetaData(Types.VARCHAR, "VARCHAR")));
+        registry.removePreparedStatement(1);
+        assertFalse(registry.findQueryHeaders(sqlStatementContext).isPresent());
+    }
+    
+    @Test
+    void assertPutQueryHeadersWithoutPreparedStatement() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        ServerPreparedStatementRegistry registry = new ServerPreparedStatementRegistry();
+        registry.putQueryHeaders(sqlStatementContext,
+                new ServerPreparedStatementQueryHeaders(mock(ShardingSphereDatabase.class), Collections.emptyList(), mock(QueryResultMetaData.class), Collections.emptyList()));
+        assertFalse(registry.findQueryHeaders(sqlStatementContext).isPresent());
+    }
+    
+    private QueryResultMetaData createQueryResultMetaData(final int columnType, final String columnTypeName) throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(1);
+        when(result.getColumnType(1)).thenReturn(columnType);
+        when(result.getColumnTypeName(1)).thenReturn(columnTypeName);
+        when(result.getColumnLabel(1)).thenReturn("foo_col");
+        return result;
+    }
+    
     private static class DummyServerPreparedStatement implements ServerPreparedStatement {
         
         @Override
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLDigestStatisticsRegistryTest {
+    
+    @Test
+    void assertRecordWhenDisabled() {
+        SQLDigestStatisticsRegistry registry = SQLDigestStatisticsRegistry.getInstance(new ConfigurationProperties(new Properties()));
+        assertFalse(registry.isEnabled());
+        registry.record("SELECT 1", 1000L, 1L, 1, false);
+        assertTrue(registry.getAllStatistics().isEmpty());
+    }
+    
+    @Test
+    void assertRecord() {
+        SQLDigestStatisticsRegistry registry = SQLDigestStatisticsRegistry.getInstance(createProperties(10));
+        registry.record("SELECT * FROM t_order WHERE order_id = 1", TimeUnit.MILLISECONDS.toNanos(2L), 1L, 2, false);
+        registry.record("SELECT * FROM t_order WHERE order_id = 2", TimeUnit.MILLISECONDS.toNanos(6L), 3L, 4, true);
+        Collection<SQLDigestStatistics> actual = registry.getAllStatistics();
+        assertThat(actual.size(), is(1));
+        SQLDigestStatistics statistics = actual.iterator().next();
+        assertThat(statistics.getDigest(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(statistics.getExecuteCount(), is(2L));
+        assertThat(statistics.getTotalLatencyNanos(), is(TimeUnit.MILLISECONDS.toNanos(8L)));
+        assertThat(statistics.getMaxLatencyNanos(), is(TimeUnit.MILLISECONDS.toNanos(6L)));
+        assertThat(statistics.getLatencyPercentileNanos(0.99D), is(TimeUnit.MILLISECONDS.toNanos(6L)));
+        assertThat(statistics.getTotalRows(), is(4L));
+        assertThat(statistics.getTotalRouteUnits(), is(6L));
+        assertThat(statistics.getMaxRouteUnits(), is(4L));
+        assertThat(statistics.getFederationCount(), is(1L));
+    }
+    
+    @Test
+    void assertRecordBeyondCapacity() {
+        SQLDigestStatisticsRegistry registry = SQLDigestStatisticsRegistry.getInstance(createProperties(1));
+        registry.record("SELECT * FROM t_order", 1000L, 1L, 1, false);
+        registry.record("SELECT * FROM t_order_item", 1000L, 1L, 1, false);
+        registry.record("SELECT * FROM t_user", 1000L, 1L, 1, false);
+        Map<String, SQLDigestStatistics> actual = registry.getAllStatistics().stream()
+                .collect(Collectors.toMap(SQLDigestStatistics::getDigest, Function.identity()));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("SELECT * FROM t_order").getExecuteCount(), is(1L));
+        assertThat(actual.get(SQLDigestStatisticsRegistry.OTHERS_DIGEST).getExecuteCount(), is(2L));
+    }
+    
+    @Test
+    void assertKeepStatisticsAfterPropertiesAltered() {
+        ConfigurationProperties props = createProperties(10);
+        SQLDigestStatisticsRegistry registry = SQLDigestStatisticsRegistry.getInstance(props);
+        registry.record("SELECT * FROM t_order", 1000L, 1L, 1, false);
+        ConfigurationProperties alteredProps = createProperties(20);
+        props.handOverBoundStates(alteredProps);
+        assertThat(SQLDigestStatisticsRegistry.getInstance(alteredProps), is(registry));
+        assertThat(registry.getAllStatistics().size(), is(1));
+        assertTrue(SQLDigestStatisticsRegistry.getInstance(createProperties(10)).getAllStatistics().isEmpty());
+    }
+    
+    @Test
+    void assertResetWhenPropertiesAlteredToDisabled() {
+        ConfigurationProperties props = createProperties(10);
+        SQLDigestStatisticsRegistry registry = SQLDigestStatisticsRegistry.getInstance(props);
+        registry.record("SELECT * FROM t_order", 1000L, 1L, 1, false);
+        props.handOverBoundStates(createProperties(0));
+        assertFalse(registry.isEnabled());
+        assertTrue(registry.getAllStatistics().isEmpty());
+    }
+    
+    private ConfigurationProperties createProperties(final int capacity) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_SQL_DIGEST_STATISTICS_CAPACITY.getKey(), String.valueOf(capacity))));
+    }
+}
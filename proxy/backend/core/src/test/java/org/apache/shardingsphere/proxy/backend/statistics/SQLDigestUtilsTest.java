@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLDigestUtilsTest {
+    
+    @Test
+    void assertNormalizeLiterals() {
+        assertThat(SQLDigestUtils.normalize("SELECT * FROM t_order WHERE order_id = 10 AND status = 'it''s ok'"), is("SELECT * FROM t_order WHERE order_id = ? AND status = ?"));
+    }
+    
+    @Test
+    void assertNormalizeWhitespacesAndComments() {
+        assertThat(SQLDigestUtils.normalize("  SELECT /* comment */ *\n\tFROM t_order_1 -- comment\n WHERE user_id = $1"), is("SELECT * FROM t_order_1 WHERE user_id = ?"));
+    }
+    
+    @Test
+    void assertNormalizeParameterLists() {
+        assertThat(SQLDigestUtils.normalize("SELECT * FROM t_order WHERE order_id IN (1, 2, 3)"), is("SELECT * FROM t_order WHERE order_id IN (...)"));
+        assertThat(SQLDigestUtils.normalize("SELECT * FROM t_order WHERE order_id IN (?, ?)"), is("SELECT * FROM t_order WHERE order_id IN (...)"));
+    }
+    
+    @Test
+    void assertNormalizeMultipleInsertValues() {
+        assertThat(SQLDigestUtils.normalize("INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, 'b'), (3, 'c')"), is("INSERT INTO t_order (order_id, status) VALUES (...)"));
+    }
+}
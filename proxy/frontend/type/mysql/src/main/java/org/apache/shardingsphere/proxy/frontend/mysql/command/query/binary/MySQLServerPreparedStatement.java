@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementParameterType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
 import java.util.List;
 import java.util.Map;
@@ -48,4 +52,30 @@ public final class MySQLServerPreparedStatement implements ServerPreparedStateme
     private final List<MySQLPreparedStatementParameterType> parameterTypes = new CopyOnWriteArrayList<>();
     
     private final Map<Integer, byte[]> longData = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private List<QueryHeader> describedQueryHeaders;
+    
+    @Getter(AccessLevel.NONE)
+    private int describedCharacterSet;
+    
+    @Getter(AccessLevel.NONE)
+    private List<MySQLColumnDefinition41Packet> columnDefinitionPackets;
+    
+    /**
+     * Get column definition packets.
+     * Column definition packets built by last execution will be reused if query headers and character set are not changed.
+     *
+     * @param queryHeaders query headers
+     * @param characterSet MySQL character set id
+     * @return column definition packets
+     */
+    public synchronized List<MySQLColumnDefinition41Packet> getColumnDefinitionPackets(final List<QueryHeader> queryHeaders, final int characterSet) {
+        if (queryHeaders != describedQueryHeaders || characterSet != describedCharacterSet) {
+            columnDefinitionPackets = ResponsePacketBuilder.buildColumnDefinitionPackets(queryHeaders, characterSet);
+            describedQueryHeaders = queryHeaders;
+            describedCharacterSet = characterSet;
+        }
+        return columnDefinitionPackets;
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -54,14 +55,37 @@ public final class ResponsePacketBuilder {
      * @return query response packets
      */
     public static Collection<DatabasePacket> buildQueryResponsePackets(final QueryResponseHeader queryResponseHeader, final int characterSet, final int statusFlags) {
+        return buildQueryResponsePackets(buildColumnDefinitionPackets(queryResponseHeader.getQueryHeaders(), characterSet), statusFlags);
+    }
+    
+    /**
+     * Build query response packets.
+     *
+     * @param columnDefinitionPackets column definition packets
+     * @param statusFlags server status flags
+     * @return query response packets
+     */
+    public static Collection<DatabasePacket> buildQueryResponsePackets(final Collection<MySQLColumnDefinition41Packet> columnDefinitionPackets, final int statusFlags) {
         Collection<DatabasePacket> result = new LinkedList<>();
-        List<QueryHeader> queryHeaders = queryResponseHeader.getQueryHeaders();
-        result.add(new MySQLFieldCountPacket(queryHeaders.size()));
+        result.add(new MySQLFieldCountPacket(columnDefinitionPackets.size()));
+        result.addAll(columnDefinitionPackets);
+        result.add(new MySQLEofPacket(statusFlags));
+        return result;
+    }
+    
+    /**
+     * Build column definition packets.
+     *
+     * @param queryHeaders query headers
+     * @param characterSet MySQL character set id
+     * @return column definition packets
+     */
+    public static List<MySQLColumnDefinition41Packet> buildColumnDefinitionPackets(final List<QueryHeader> queryHeaders, final int characterSet) {
+        List<MySQLColumnDefinition41Packet> result = new ArrayList<>(queryHeaders.size());
         for (QueryHeader each : queryHeaders) {
             result.add(new MySQLColumnDefinition41Packet(characterSet, getColumnDefinitionFlag(each), each.getSchema(), each.getTable(), each.getTable(),
                     each.getColumnLabel(), each.getColumnName(), each.getColumnLength(), MySQLBinaryColumnType.valueOfJDBCType(each.getColumnType()), each.getDecimals(), false));
         }
-        result.add(new MySQLEofPacket(statusFlags));
         return result;
     }
     
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Command copy in executor for PostgreSQL, which starts copy in mode for {@code COPY ... FROM STDIN}.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLComCopyInExecutor implements CommandExecutor {
+    
+    private static final Collection<Integer> TYPED_JDBC_TYPES = new HashSet<>(Arrays.asList(
+            Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL, Types.REAL, Types.DOUBLE, Types.CHAR, Types.VARCHAR));
+    
+    private final PostgreSQLComQueryPacket packet;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
+        SQLStatement sqlStatement = ProxySQLComQueryParser.parse(packet.getSQL(), databaseType, connectionSession);
+        ShardingSpherePreconditions.checkState(sqlStatement instanceof CopyStatement && null != ((CopyStatement) sqlStatement).getTableSegment(),
+                () -> new UnsupportedSQLOperationException("COPY FROM STDIN without table"));
+        SimpleTableSegment tableSegment = ((CopyStatement) sqlStatement).getTableSegment();
+        ShardingSphereTable table = findTable(tableSegment);
+        List<String> columnNames = new ArrayList<>();
+        List<PostgreSQLColumnType> columnTypes = new ArrayList<>();
+        if (sqlStatement instanceof PostgreSQLCopyStatement && !((PostgreSQLCopyStatement) sqlStatement).getColumns().isEmpty()) {
+            ((PostgreSQLCopyStatement) sqlStatement).getColumns().forEach(each -> {
+                columnNames.add(each.getIdentifier().getValueWithQuoteCharacters());
+                columnTypes.add(getColumnType(table, each.getIdentifier().getValue()));
+            });
+        } else {
+            String tableName = tableSegment.getTableName().getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(null != table, () -> new NoSuchTableException(tableName));
+            table.getColumnNames().forEach(each -> {
+                columnNames.add("\"" + each + "\"");
+                columnTypes.add(getColumnType(table, each));
+            });
+        }
+        String qualifiedTableName = packet.getSQL().substring(tableSegment.getStartIndex(), tableSegment.getStopIndex() + 1);
+        boolean implicitTransaction = !connectionSession.getTransactionStatus().isInTransaction();
+        if (implicitTransaction) {
+            new BackendTransactionManager(connectionSession.getDatabaseConnectionManager()).begin();
+        }
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(connectionSession, packet.getHintValueContext(), implicitTransaction, qualifiedTableName, columnNames, columnTypes);
+        PostgreSQLCopyInContextRegistry.getInstance().register(connectionSession.getConnectionId(), copyInContext);
+        return Collections.singleton(new PostgreSQLCopyInResponsePacket(copyInContext.getColumnCount()));
+    }
+    
+    private ShardingSphereTable findTable(final SimpleTableSegment tableSegment) {
+        ShardingSphereDatabase database = ProxyContext.getInstance().getContextManager().getDatabase(connectionSession.getDatabaseName());
+        String schemaName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue())
+                .orElseGet(() -> new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()));
+        return database.containsSchema(schemaName) ? database.getSchema(schemaName).getTable(tableSegment.getTableName().getIdentifier().getValue()) : null;
+    }
+    
+    private PostgreSQLColumnType getColumnType(final ShardingSphereTable table, final String columnName) {
+        if (null == table || !table.containsColumn(columnName)) {
+            return PostgreSQLColumnType.UNSPECIFIED;
+        }
+        int dataType = table.getColumn(columnName).getDataType();
+        return TYPED_JDBC_TYPES.contains(dataType) ? PostgreSQLColumnType.valueOfJDBCType(dataType) : PostgreSQLColumnType.UNSPECIFIED;
+    }
+}
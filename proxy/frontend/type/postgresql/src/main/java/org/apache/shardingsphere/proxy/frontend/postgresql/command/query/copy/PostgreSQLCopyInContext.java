@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.data.InsertColumnsAndValuesMismatchedException;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Copy in context for PostgreSQL.
+ *
+ * <p>Rows of {@code COPY ... FROM STDIN} are buffered in bounded batches, and each batch is executed as a multiple rows insert,
+ * so that rows are routed by the same way as normal insert statements.
+ * If copy is not in a transaction, all batches run in an implicit transaction which is committed on completion and rolled back on failure.</p>
+ */
+public final class PostgreSQLCopyInContext {
+    
+    private static final int MAX_BATCH_ROWS = 1000;
+    
+    private static final int MAX_PARAMETERS = 65535;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final HintValueContext hintValueContext;
+    
+    private final boolean implicitTransaction;
+    
+    private final List<PostgreSQLColumnType> columnTypes;
+    
+    private final String insertPrefix;
+    
+    private final String rowPlaceholders;
+    
+    private final int maxBatchRows;
+    
+    private final PostgreSQLCopyTextRowDecoder rowDecoder;
+    
+    private final List<Object> pendingParameters;
+    
+    private String fullBatchSQL;
+    
+    private int pendingRows;
+    
+    private long receivedRows;
+    
+    private long copiedRows;
+    
+    public PostgreSQLCopyInContext(final ConnectionSession connectionSession, final HintValueContext hintValueContext, final boolean implicitTransaction,
+                                   final String tableName, final List<String> columnNames, final List<PostgreSQLColumnType> columnTypes) {
+        this.connectionSession = connectionSession;
+        this.hintValueContext = hintValueContext;
+        this.implicitTransaction = implicitTransaction;
+        this.columnTypes = columnTypes;
+        insertPrefix = "INSERT INTO " + tableName + " (" + String.join(", ", columnNames) + ") VALUES ";
+        StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+        columnNames.forEach(each -> placeholders.add("?"));
+        rowPlaceholders = placeholders.toString();
+        maxBatchRows = Math.max(1, Math.min(MAX_BATCH_ROWS, MAX_PARAMETERS / Math.max(1, columnNames.size())));
+        rowDecoder = new PostgreSQLCopyTextRowDecoder(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        pendingParameters = new ArrayList<>(maxBatchRows * columnNames.size());
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnTypes.size();
+    }
+    
+    /**
+     * Receive copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void receive(final byte[] data) throws SQLException {
+        try {
+            for (List<String> each : rowDecoder.decode(data)) {
+                addRow(each);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            rollback();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Complete copy.
+     *
+     * @return copied rows
+     * @throws SQLException SQL exception
+     */
+    public long complete() throws SQLException {
+        try {
+            for (List<String> each : rowDecoder.finish()) {
+                addRow(each);
+            }
+            executeBatch();
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            rollback();
+            throw ex;
+        }
+        if (implicitTransaction) {
+            new BackendTransactionManager(connectionSession.getDatabaseConnectionManager()).commit();
+        }
+        return copiedRows;
+    }
+    
+    /**
+     * Roll back implicit transaction of copy.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void rollback() throws SQLException {
+        if (implicitTransaction) {
+            new BackendTransactionManager(connectionSession.getDatabaseConnectionManager()).rollback();
+        }
+    }
+    
+    private void addRow(final List<String> row) throws SQLException {
+        receivedRows++;
+        ShardingSpherePreconditions.checkState(row.size() == columnTypes.size(), () -> new InsertColumnsAndValuesMismatchedException((int) receivedRows));
+        for (int i = 0; i < row.size(); i++) {
+            String value = row.get(i);
+            pendingParameters.add(null == value ? null : columnTypes.get(i).getTextValueParser().parse(value));
+        }
+        pendingRows++;
+        if (maxBatchRows == pendingRows) {
+            executeBatch();
+        }
+    }
+    
+    private void executeBatch() throws SQLException {
+        if (0 == pendingRows) {
+            return;
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        DatabaseType protocolType = metaData.getDatabase(connectionSession.getDatabaseName()).getProtocolType();
+        String sql = getInsertSQL();
+        SQLStatement sqlStatement = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(protocolType).parse(sql, true);
+        List<Object> params = new ArrayList<>(pendingParameters);
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, connectionSession.getDatabaseName(), hintValueContext).bind(sqlStatement, params);
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, params, hintValueContext, true);
+        connectionSession.setQueryContext(queryContext);
+        ProxyBackendHandler proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(protocolType, queryContext, connectionSession, true);
+        try {
+            copiedRows += ((UpdateResponseHeader) proxyBackendHandler.execute()).getUpdateCount();
+        } finally {
+            proxyBackendHandler.close();
+        }
+        pendingParameters.clear();
+        pendingRows = 0;
+    }
+    
+    private String getInsertSQL() {
+        if (maxBatchRows == pendingRows && null != fullBatchSQL) {
+            return fullBatchSQL;
+        }
+        StringJoiner result = new StringJoiner(", ", insertPrefix, "");
+        for (int i = 0; i < pendingRows; i++) {
+            result.add(rowPlaceholders);
+        }
+        if (maxBatchRows == pendingRows) {
+            fullBatchSQL = result.toString();
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Text format row decoder for PostgreSQL copy.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.2">Text Format</a>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyTextRowDecoder {
+    
+    private static final byte LINE_FEED = '\n';
+    
+    private static final char CARRIAGE_RETURN = '\r';
+    
+    private static final char DELIMITER = '\t';
+    
+    private static final char ESCAPE = '\\';
+    
+    private static final String NULL_VALUE = "\\N";
+    
+    private static final String END_OF_DATA = "\\.";
+    
+    private final Charset charset;
+    
+    private final ByteArrayOutputStream pendingBytes = new ByteArrayOutputStream();
+    
+    private boolean endOfData;
+    
+    /**
+     * Decode rows from copy data, the incomplete line at the end is kept until next copy data arrives.
+     *
+     * @param data copy data
+     * @return decoded rows
+     */
+    public List<List<String>> decode(final byte[] data) {
+        List<List<String>> result = new LinkedList<>();
+        int lineStartIndex = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (LINE_FEED == data[i]) {
+                pendingBytes.write(data, lineStartIndex, i - lineStartIndex);
+                decodePendingLine(result);
+                lineStartIndex = i + 1;
+            }
+        }
+        pendingBytes.write(data, lineStartIndex, data.length - lineStartIndex);
+        return result;
+    }
+    
+    /**
+     * Decode the last row which is not terminated by line feed.
+     *
+     * @return decoded rows
+     */
+    public List<List<String>> finish() {
+        if (0 == pendingBytes.size()) {
+            return Collections.emptyList();
+        }
+        List<List<String>> result = new LinkedList<>();
+        decodePendingLine(result);
+        return result;
+    }
+    
+    private void decodePendingLine(final List<List<String>> rows) {
+        String line = new String(pendingBytes.toByteArray(), charset);
+        pendingBytes.reset();
+        if (!line.isEmpty() && CARRIAGE_RETURN == line.charAt(line.length() - 1)) {
+            line = line.substring(0, line.length() - 1);
+        }
+        if (END_OF_DATA.equals(line)) {
+            endOfData = true;
+        }
+        if (!endOfData) {
+            rows.add(decodeLine(line));
+        }
+    }
+    
+    private List<String> decodeLine(final String line) {
+        List<String> result = new ArrayList<>();
+        int fieldStartIndex = 0;
+        for (int i = 0; i <= line.length(); i++) {
+            if (line.length() == i || DELIMITER == line.charAt(i)) {
+                String rawField = line.substring(fieldStartIndex, i);
+                result.add(NULL_VALUE.equals(rawField) ? null : unescape(rawField));
+                fieldStartIndex = i + 1;
+            }
+        }
+        return result;
+    }
+    
+    private String unescape(final String rawField) {
+        if (rawField.indexOf(ESCAPE) < 0) {
+            return rawField;
+        }
+        StringBuilder result = new StringBuilder(rawField.length());
+        int index = 0;
+        while (index < rawField.length()) {
+            char each = rawField.charAt(index++);
+            if (ESCAPE != each || index == rawField.length()) {
+                result.append(each);
+                continue;
+            }
+            char escaped = rawField.charAt(index++);
+            switch (escaped) {
+                case 'b':
+                    result.append('\b');
+                    break;
+                case 'f':
+                    result.append('\f');
+                    break;
+                case 'n':
+                    result.append('\n');
+                    break;
+                case 'r':
+                    result.append('\r');
+                    break;
+                case 't':
+                    result.append('\t');
+                    break;
+                case 'v':
+                    result.append('\u000B');
+                    break;
+                case 'x':
+                    int hexEndIndex = getDigitsEndIndex(rawField, index, 2, 16);
+                    if (hexEndIndex == index) {
+                        result.append(escaped);
+                    } else {
+                        result.append((char) Integer.parseInt(rawField.substring(index, hexEndIndex), 16));
+                        index = hexEndIndex;
+                    }
+                    break;
+                default:
+                    int octalEndIndex = getDigitsEndIndex(rawField, index - 1, 3, 8);
+                    if (octalEndIndex == index - 1) {
+                        result.append(escaped);
+                    } else {
+                        result.append((char) Integer.parseInt(rawField.substring(index - 1, octalEndIndex), 8));
+                        index = octalEndIndex;
+                    }
+                    break;
+            }
+        }
+        return result.toString();
+    }
+    
+    private int getDigitsEndIndex(final String rawField, final int startIndex, final int maxDigits, final int radix) {
+        int result = startIndex;
+        while (result < rawField.length() && result - startIndex < maxDigits && Character.digit(rawField.charAt(result), radix) >= 0) {
+            result++;
+        }
+        return result;
+    }
+}
@@ -72,6 +72,8 @@ public final class Portal {
     @Getter
     private final SQLStatement sqlStatement;
     
+    private final PostgreSQLServerPreparedStatement preparedStatement;
+    
     private final List<PostgreSQLValueFormat> resultFormats;
     
     private final ProxyBackendHandler proxyBackendHandler;
@@ -84,6 +86,7 @@ public final class Portal {
                   final ProxyDatabaseConnectionManager databaseConnectionManager) throws SQLException {
         this.name = name;
         this.sqlStatement = preparedStatement.getSqlStatementContext().getSqlStatement();
+        this.preparedStatement = preparedStatement;
         this.resultFormats = resultFormats;
         this.databaseConnectionManager = databaseConnectionManager;
         String databaseName = databaseConnectionManager.getConnectionSession().getDefaultDatabaseName();
@@ -114,7 +117,8 @@ public final class Portal {
      */
     public PostgreSQLPacket describe() {
         if (responseHeader instanceof QueryResponseHeader) {
-            return createRowDescriptionPacket((QueryResponseHeader) responseHeader);
+            QueryResponseHeader queryResponseHeader = (QueryResponseHeader) responseHeader;
+            return preparedStatement.describeExecutedRows(queryResponseHeader.getQueryHeaders(), resultFormats, () -> createRowDescriptionPacket(queryResponseHeader));
         }
         if (responseHeader instanceof UpdateResponseHeader) {
             return PostgreSQLNoDataPacket.getInstance();
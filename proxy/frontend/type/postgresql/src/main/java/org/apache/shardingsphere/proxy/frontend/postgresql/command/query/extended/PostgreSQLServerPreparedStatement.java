@@ -21,16 +21,20 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLParameterDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Prepared statement for PostgreSQL.
@@ -53,6 +57,18 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
     @Getter(AccessLevel.NONE)
     private PostgreSQLPacket rowDescription;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private List<QueryHeader> executedQueryHeaders;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private List<PostgreSQLValueFormat> executedResultFormats;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PostgreSQLRowDescriptionPacket executedRowDescription;
+    
     /**
      * Describe parameters of the prepared statement.
      *
@@ -71,6 +87,25 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
         return Optional.ofNullable(rowDescription);
     }
     
+    /**
+     * Describe rows of executed portal.
+     * Row description built by last execution will be reused if query headers and result formats are not changed.
+     *
+     * @param queryHeaders query headers
+     * @param resultFormats result formats
+     * @param rowDescriptionSupplier row description supplier
+     * @return packet of row description
+     */
+    public synchronized PostgreSQLRowDescriptionPacket describeExecutedRows(final List<QueryHeader> queryHeaders, final List<PostgreSQLValueFormat> resultFormats,
+                                                                            final Supplier<PostgreSQLRowDescriptionPacket> rowDescriptionSupplier) {
+        if (queryHeaders != executedQueryHeaders || !resultFormats.equals(executedResultFormats)) {
+            executedRowDescription = rowDescriptionSupplier.get();
+            executedQueryHeaders = queryHeaders;
+            executedResultFormats = resultFormats;
+        }
+        return executedRowDescription;
+    }
+    
     /**
      * Adjust parameters order.
      * @param parameters parameters in pg marker index order
@@ -22,14 +22,19 @@ import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLPortalContextRegistry;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInContextRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.internal.configuration.plugins.Plugins;
 
+import java.sql.SQLException;
 import java.util.concurrent.ConcurrentMap;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PostgreSQLFrontendEngineTest {
@@ -47,6 +52,18 @@ class PostgreSQLFrontendEngineTest {
         assertTrue(getPortalContexts().isEmpty());
     }
     
+    @Test
+    void assertReleaseInCopyInMode() throws SQLException {
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        int connectionId = 1;
+        when(connectionSession.getConnectionId()).thenReturn(connectionId);
+        PostgreSQLCopyInContext copyInContext = mock(PostgreSQLCopyInContext.class);
+        PostgreSQLCopyInContextRegistry.getInstance().register(connectionId, copyInContext);
+        new PostgreSQLFrontendEngine().release(connectionSession);
+        assertNull(PostgreSQLCopyInContextRegistry.getInstance().remove(connectionId));
+        verify(copyInContext).rollback();
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private ConcurrentMap<Integer, PortalContext> getPortalContexts() {
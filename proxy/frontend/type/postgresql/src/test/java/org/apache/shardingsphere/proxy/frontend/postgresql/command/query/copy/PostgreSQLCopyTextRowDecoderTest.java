@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyTextRowDecoderTest {
+    
+    @Test
+    void assertDecodeRowsAcrossCopyData() {
+        PostgreSQLCopyTextRowDecoder decoder = new PostgreSQLCopyTextRowDecoder(StandardCharsets.UTF_8);
+        List<List<String>> actual = decoder.decode("1\tfoo\n2\tb".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual, is(Collections.singletonList(Arrays.asList("1", "foo"))));
+        actual = decoder.decode("ar\n3\t\\N\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual, is(Arrays.asList(Arrays.asList("2", "bar"), Arrays.asList("3", null))));
+        assertTrue(decoder.finish().isEmpty());
+    }
+    
+    @Test
+    void assertDecodeEscapedValues() {
+        PostgreSQLCopyTextRowDecoder decoder = new PostgreSQLCopyTextRowDecoder(StandardCharsets.UTF_8);
+        List<List<String>> actual = decoder.decode("a\\tb\\nc\\\\\t\\x41\\101\\q\r\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual, is(Collections.singletonList(Arrays.asList("a\tb\nc\\", "AAq"))));
+    }
+    
+    @Test
+    void assertDecodeEndOfDataAndLastRow() {
+        PostgreSQLCopyTextRowDecoder decoder = new PostgreSQLCopyTextRowDecoder(StandardCharsets.UTF_8);
+        assertTrue(decoder.decode("1\t".getBytes(StandardCharsets.UTF_8)).isEmpty());
+        assertThat(decoder.finish(), is(Collections.singletonList(Arrays.asList("1", ""))));
+        decoder = new PostgreSQLCopyTextRowDecoder(StandardCharsets.UTF_8);
+        assertThat(decoder.decode("1\n\\.\n2\n".getBytes(StandardCharsets.UTF_8)), is(Collections.singletonList(Collections.singletonList("1"))));
+    }
+}
@@ -80,6 +80,8 @@ import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -198,6 +200,27 @@ class PortalTest {
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLPortalSuspendedPacket.class));
     }
     
+    @Test
+    void assertDescribeWithSameQueryHeaders() throws SQLException {
+        QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
+        QueryHeader queryHeader = new QueryHeader("schema", "table", "columnLabel", "columnName", Types.INTEGER, "columnTypeName", 0, 0, false, false, false, false);
+        when(responseHeader.getQueryHeaders()).thenReturn(Collections.singletonList(queryHeader));
+        when(proxyBackendHandler.execute()).thenReturn(responseHeader);
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getSqlStatement()).thenReturn(new PostgreSQLSelectStatement());
+        PostgreSQLServerPreparedStatement preparedStatement = new PostgreSQLServerPreparedStatement("", selectStatementContext, new HintValueContext(), Collections.emptyList(),
+                Collections.emptyList());
+        Portal portal = new Portal("", preparedStatement, Collections.emptyList(), Collections.singletonList(PostgreSQLValueFormat.TEXT), databaseConnectionManager);
+        portal.bind();
+        PostgreSQLPacket expected = portal.describe();
+        Portal samePortal = new Portal("", preparedStatement, Collections.emptyList(), Collections.singletonList(PostgreSQLValueFormat.TEXT), databaseConnectionManager);
+        samePortal.bind();
+        assertThat(samePortal.describe(), sameInstance(expected));
+        Portal binaryPortal = new Portal("", preparedStatement, Collections.emptyList(), Collections.singletonList(PostgreSQLValueFormat.BINARY), databaseConnectionManager);
+        binaryPortal.bind();
+        assertThat(binaryPortal.describe(), not(sameInstance(expected)));
+    }
+    
     @Test
     void assertExecuteUpdate() throws SQLException {
         when(proxyBackendHandler.execute()).thenReturn(mock(UpdateResponseHeader.class));
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.sql.parser.internal.asserts.statement.ral.impl.queryable;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.distsql.statement.ral.queryable.show.ShowSQLDigestStatisticsStatement;
+import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.SQLCaseAssertContext;
+import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.statement.ExistingAssert;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowSQLDigestStatisticsStatementTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Show SQL digest statistics statement assert.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShowSQLDigestStatisticsStatementAssert {
+    
+    /**
+     * Assert show SQL digest statistics statement is correct with expected parser result.
+     *
+     * @param assertContext assert context
+     * @param actual actual show SQL digest statistics statement
+     * @param expected expected show SQL digest statistics statement test case
+     */
+    public static void assertIs(final SQLCaseAssertContext assertContext, final ShowSQLDigestStatisticsStatement actual, final ShowSQLDigestStatisticsStatementTestCase expected) {
+        ExistingAssert.assertIs(assertContext, actual, expected);
+        if (null == expected.getLimit()) {
+            assertFalse(actual.getLimit().isPresent(), assertContext.getText("Actual limit should not exist."));
+        } else {
+            assertTrue(actual.getLimit().isPresent(), assertContext.getText("Actual limit should exist."));
+            assertThat(assertContext.getText("Limit assertion error"), actual.getLimit().get(), is(expected.getLimit()));
+        }
+    }
+}
@@ -329,6 +329,7 @@ import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.s
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowComputeNodesStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowDistVariableStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowDistVariablesStatementTestCase;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowSQLDigestStatisticsStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowMigrationListStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowStatusFromReadwriteSplittingRulesStatementTestCase;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.ral.ShowTableMetaDataStatementTestCase;
@@ -1081,6 +1082,9 @@ public final class RootSQLParserTestCases {
     @XmlElement(name = "show-dist-variables")
     private final List<ShowDistVariablesStatementTestCase> showDistVariableTestCases = new LinkedList<>();
     
+    @XmlElement(name = "show-sql-digest-statistics")
+    private final List<ShowSQLDigestStatisticsStatementTestCase> showSQLDigestStatisticsTestCases = new LinkedList<>();
+    
     @XmlElement(name = "set-dist-variable")
     private final List<SetDistVariableStatementTestCase> setDistVariableTestCases = new LinkedList<>();
     
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColum
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.InventoryTaskSplitter;
@@ -103,6 +104,33 @@ class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyIngestPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    void assertSplitInventoryDataWithSkewedIntPrimary() throws SQLException {
+        initSkewedIntPrimaryEnvironment(dumperContext.getCommonContext());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        IntegerPrimaryKeyIngestPosition firstPosition = (IntegerPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is(1L));
+        assertThat(firstPosition.getEndValue(), is(10L));
+        IntegerPrimaryKeyIngestPosition lastPosition = (IntegerPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is(100000091L));
+        assertThat(lastPosition.getEndValue(), is(100000100L));
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithStringPrimary() throws SQLException {
+        initStringPrimaryEnvironment(dumperContext.getCommonContext());
+        dumperContext.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(3));
+        StringPrimaryKeyIngestPosition firstPosition = (StringPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is("k00"));
+        assertThat(firstPosition.getEndValue(), is("k09"));
+        StringPrimaryKeyIngestPosition lastPosition = (StringPrimaryKeyIngestPosition) actual.get(2).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("k20"));
+        assertThat(lastPosition.getEndValue(), is("k24"));
+    }
+    
     @Test
     void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(dumperContext.getCommonContext());
@@ -166,6 +194,33 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initSkewedIntPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 50; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", 100000050 + i));
+            }
+        }
+    }
+    
+    private void initStringPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 0; i < 25; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%02d', 'x')", i));
+            }
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
         try (